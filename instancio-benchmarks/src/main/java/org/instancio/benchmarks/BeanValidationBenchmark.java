@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.benchmarks.model.ValidatedPerson;
+import org.instancio.settings.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Overhead of generating values based on Bean Validation annotations.
+ */
+public class BeanValidationBenchmark extends BaseBenchmark {
+
+    @Benchmark
+    public ValidatedPerson beanValidationDisabled() {
+        return Instancio.create(ValidatedPerson.class);
+    }
+
+    @Benchmark
+    public ValidatedPerson beanValidationEnabled() {
+        return Instancio.of(ValidatedPerson.class)
+                .withSetting(Keys.BEAN_VALIDATION_ENABLED, true)
+                .create();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.benchmarks.model.DeepPojo;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.basic.SupportedNumericTypes;
+import org.instancio.test.support.pojo.performance.LargeClass;
+import org.instancio.test.support.pojo.performance.LargeCyclicSubclass;
+import org.instancio.test.support.pojo.performance.onetomany.OneToMany;
+import org.instancio.test.support.pojo.person.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * End-to-end cost of {@code Instancio.create()} for POJOs of different shapes.
+ * Each invocation includes both building the node tree and generating values.
+ */
+public class CreateBenchmark extends BaseBenchmark {
+
+    private final Settings unlimitedDepth = Settings.create()
+            .set(Keys.MAX_DEPTH, Integer.MAX_VALUE);
+
+    @Benchmark
+    public SupportedNumericTypes small() {
+        return Instancio.create(SupportedNumericTypes.class);
+    }
+
+    @Benchmark
+    public Person person() {
+        return Instancio.create(Person.class);
+    }
+
+    @Benchmark
+    public LargeClass wide() {
+        return Instancio.create(LargeClass.class);
+    }
+
+    @Benchmark
+    public DeepPojo deep() {
+        return Instancio.create(DeepPojo.class);
+    }
+
+    @Benchmark
+    public OneToMany oneToMany() {
+        return Instancio.create(OneToMany.class);
+    }
+
+    @Benchmark
+    public LargeCyclicSubclass cyclic() {
+        return Instancio.of(LargeCyclicSubclass.class)
+                .withSettings(unlimitedDepth)
+                .create();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.settings.FeedDataEndAction;
+import org.instancio.settings.FeedFormatType;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Cost of loading CSV and JSON feeds, and of reading values from a loaded feed.
+ *
+ * <ul>
+ *   <li>{@code load*}: parsing the data file, with the feed cache disabled</li>
+ *   <li>{@code cached*}: creating a feed whose data is already cached</li>
+ *   <li>{@code next*}: reading a record from a feed created once</li>
+ * </ul>
+ */
+public class FeedBenchmark extends BaseBenchmark {
+
+    @Param({"10000"})
+    private int records;
+
+    private final Settings cacheDisabled = Settings.create()
+            .set(Keys.FEED_CACHE_MAX_ENTRIES, 0);
+
+    private final Settings memoryMapped = Settings.create()
+            .set(Keys.FEED_CACHE_MAX_ENTRIES, 0)
+            .set(Keys.FEED_CSV_MEMORY_MAP_THRESHOLD, 0L);
+
+    private Path csvFile;
+    private Path jsonFile;
+    private Feed csvFeed;
+    private Feed jsonFeed;
+
+    @Setup
+    public void setup() throws IOException {
+        final StringBuilder csv = new StringBuilder("id,firstName,lastName,age\n");
+        final StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < records; i++) {
+            csv.append(i).append(",first").append(i).append(",last").append(i).append(',').append(i % 100).append('\n');
+            json.append(i == 0 ? "" : ",\n")
+                    .append("{\"id\":").append(i)
+                    .append(",\"firstName\":\"first").append(i)
+                    .append("\",\"lastName\":\"last").append(i)
+                    .append("\",\"age\":").append(i % 100).append('}');
+        }
+        json.append("\n]");
+
+        csvFile = Files.createTempFile("instancio-benchmark", ".csv");
+        jsonFile = Files.createTempFile("instancio-benchmark", ".json");
+        Files.writeString(csvFile, csv);
+        Files.writeString(jsonFile, json);
+
+        final Settings recycle = Settings.create()
+                .set(Keys.FEED_DATA_END_ACTION, FeedDataEndAction.RECYCLE);
+
+        csvFeed = createFeed(csvFile, FeedFormatType.CSV, recycle);
+        jsonFeed = createFeed(jsonFile, FeedFormatType.JSON, recycle);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Instancio.feedCache().clear();
+        Files.deleteIfExists(csvFile);
+        Files.deleteIfExists(jsonFile);
+    }
+
+    private static Feed createFeed(final Path file, final FeedFormatType formatType, final Settings settings) {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(file))
+                .formatType(formatType)
+                .withSettings(settings)
+                .create();
+    }
+
+    @Benchmark
+    public String loadCsv() {
+        return createFeed(csvFile, FeedFormatType.CSV, cacheDisabled).stringSpec("firstName").get();
+    }
+
+    @Benchmark
+    public String loadCsvMemoryMapped() {
+        return createFeed(csvFile, FeedFormatType.CSV, memoryMapped).stringSpec("firstName").get();
+    }
+
+    @Benchmark
+    public String loadJson() {
+        return createFeed(jsonFile, FeedFormatType.JSON, cacheDisabled).stringSpec("firstName").get();
+    }
+
+    @Benchmark
+    public String cachedCsv() {
+        return createFeed(csvFile, FeedFormatType.CSV, Settings.create()).stringSpec("firstName").get();
+    }
+
+    @Benchmark
+    public String cachedJson() {
+        return createFeed(jsonFile, FeedFormatType.JSON, Settings.create()).stringSpec("firstName").get();
+    }
+
+    @Benchmark
+    public Integer nextCsv() {
+        return csvFeed.intSpec("age").get();
+    }
+
+    @Benchmark
+    public Integer nextJson() {
+        return jsonFeed.intSpec("age").get();
+    }
+}
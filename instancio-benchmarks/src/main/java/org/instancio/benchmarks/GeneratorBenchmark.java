@@ -0,0 +1,220 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.generator.ValueSpec;
+import org.instancio.generators.ValueSpecs;
+import org.instancio.test.support.pojo.person.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.math.BigDecimal;
+import java.net.URL;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Cost of generating a single value with each family of built-in generators.
+ * The specs are created once, so only the generation itself is measured.
+ */
+public class GeneratorBenchmark extends BaseBenchmark {
+
+    @Param({"1000"})
+    private int arraySize;
+
+    private ValueSpec<String> string;
+    private ValueSpec<Boolean> booleans;
+    private ValueSpec<Character> chars;
+    private ValueSpec<Integer> ints;
+    private ValueSpec<Long> longs;
+    private ValueSpec<Double> doubles;
+    private ValueSpec<BigDecimal> bigDecimal;
+    private ValueSpec<Gender> enumOf;
+    private ValueSpec<String> oneOf;
+    private ValueSpec<LocalDate> localDate;
+    private ValueSpec<LocalDateTime> localDateTime;
+    private ValueSpec<Instant> instant;
+    private ValueSpec<String> textPattern;
+    private ValueSpec<String> loremIpsum;
+    private ValueSpec<String> word;
+    private ValueSpec<UUID> uuid;
+    private ValueSpec<String> email;
+    private ValueSpec<URL> url;
+    private ValueSpec<String> isbn;
+    private ValueSpec<String> ssn;
+    private ValueSpec<String> creditCard;
+    private ValueSpec<String> luhn;
+    private ValueSpec<String> hash;
+    private ValueSpec<Double> coordinate;
+
+    @Setup
+    public void setup() {
+        final ValueSpecs gen = Instancio.gen();
+        string = gen.string().length(10, 20);
+        booleans = gen.booleans();
+        chars = gen.chars();
+        ints = gen.ints().range(1, 1000);
+        longs = gen.longs();
+        doubles = gen.doubles();
+        bigDecimal = gen.math().bigDecimal().scale(2);
+        enumOf = gen.enumOf(Gender.class);
+        oneOf = gen.oneOf("foo", "bar", "baz");
+        localDate = gen.temporal().localDate();
+        localDateTime = gen.temporal().localDateTime().past();
+        instant = gen.temporal().instant();
+        textPattern = gen.text().pattern("#a#a#a-#d#d#d");
+        loremIpsum = gen.text().loremIpsum().words(20);
+        word = gen.text().word().noun();
+        uuid = gen.uuid();
+        email = gen.net().email();
+        url = gen.net().url();
+        isbn = gen.id().isbn();
+        ssn = gen.id().usa().ssn();
+        creditCard = gen.finance().creditCard();
+        luhn = gen.checksum().luhn();
+        hash = gen.hash().sha256();
+        coordinate = gen.spatial().coordinate().lat();
+    }
+
+    @Benchmark
+    public String string() {
+        return string.get();
+    }
+
+    @Benchmark
+    public Boolean booleans() {
+        return booleans.get();
+    }
+
+    @Benchmark
+    public Character chars() {
+        return chars.get();
+    }
+
+    @Benchmark
+    public Integer ints() {
+        return ints.get();
+    }
+
+    @Benchmark
+    public int[] intArray() {
+        return Instancio.gen().ints().range(1, 1000).intArray(arraySize);
+    }
+
+    @Benchmark
+    public Long longs() {
+        return longs.get();
+    }
+
+    @Benchmark
+    public Double doubles() {
+        return doubles.get();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        return bigDecimal.get();
+    }
+
+    @Benchmark
+    public Gender enumOf() {
+        return enumOf.get();
+    }
+
+    @Benchmark
+    public String oneOf() {
+        return oneOf.get();
+    }
+
+    @Benchmark
+    public LocalDate localDate() {
+        return localDate.get();
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime() {
+        return localDateTime.get();
+    }
+
+    @Benchmark
+    public Instant instant() {
+        return instant.get();
+    }
+
+    @Benchmark
+    public String textPattern() {
+        return textPattern.get();
+    }
+
+    @Benchmark
+    public String loremIpsum() {
+        return loremIpsum.get();
+    }
+
+    @Benchmark
+    public String word() {
+        return word.get();
+    }
+
+    @Benchmark
+    public UUID uuid() {
+        return uuid.get();
+    }
+
+    @Benchmark
+    public String email() {
+        return email.get();
+    }
+
+    @Benchmark
+    public URL url() {
+        return url.get();
+    }
+
+    @Benchmark
+    public String isbn() {
+        return isbn.get();
+    }
+
+    @Benchmark
+    public String ssn() {
+        return ssn.get();
+    }
+
+    @Benchmark
+    public String creditCard() {
+        return creditCard.get();
+    }
+
+    @Benchmark
+    public String luhn() {
+        return luhn.get();
+    }
+
+    @Benchmark
+    public String hash() {
+        return hash.get();
+    }
+
+    @Benchmark
+    public Double coordinate() {
+        return coordinate.get();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.Model;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.pojo.performance.onetomany.OneToMany;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Splits the cost of {@code create()} into building the model
+ * and generating values from an already built model.
+ *
+ * <ul>
+ *   <li>{@code buildModel}: building the node tree only</li>
+ *   <li>{@code generateFromCompiledModel}: generating values from a model
+ *       built with {@link Keys#COMPILED_MODEL_ENABLED}, which is reused as is</li>
+ *   <li>{@code buildAndGenerate}: both, as done by a regular {@code create()}</li>
+ * </ul>
+ */
+public class ModelBenchmark extends BaseBenchmark {
+
+    private Model<OneToMany> compiledModel;
+
+    @Setup
+    public void setup() {
+        compiledModel = Instancio.of(OneToMany.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, true)
+                .toModel();
+    }
+
+    @Benchmark
+    public Model<OneToMany> buildModel() {
+        return Instancio.of(OneToMany.class).toModel();
+    }
+
+    @Benchmark
+    public OneToMany generateFromCompiledModel() {
+        return Instancio.create(compiledModel);
+    }
+
+    @Benchmark
+    public OneToMany buildAndGenerate() {
+        return Instancio.create(OneToMany.class);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Gender;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Phone;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.time.LocalDateTime;
+
+import static org.instancio.Select.all;
+import static org.instancio.Select.allStrings;
+import static org.instancio.Select.field;
+import static org.instancio.Select.fields;
+import static org.instancio.Select.scope;
+import static org.instancio.Select.types;
+
+/**
+ * Cost of selector matching when a model contains many selectors
+ * of different kinds, compared to the same model without selectors.
+ */
+public class SelectorBenchmark extends BaseBenchmark {
+
+    @Benchmark
+    public Person noSelectors() {
+        return Instancio.create(Person.class);
+    }
+
+    @Benchmark
+    public Person manySelectors() {
+        return Instancio.of(Person.class)
+                .set(field(Person::getName), "Homer")
+                .set(all(Gender.class), Gender.MALE)
+                .generate(field(Person::getAge), gen -> gen.ints().range(18, 65))
+                .generate(field(Address::getCity), gen -> gen.oneOf("Springfield", "Shelbyville"))
+                .generate(all(LocalDateTime.class), gen -> gen.temporal().localDateTime().past())
+                .generate(field(Phone::getNumber), gen -> gen.text().pattern("#d#d#d-#d#d#d#d"))
+                .generate(allStrings().within(scope(Phone.class)), gen -> gen.string().digits().length(3))
+                .generate(fields().named("street").declaredIn(Address.class), gen -> gen.string().length(20))
+                .generate(types().of(Iterable.class), gen -> gen.collection().size(3))
+                .generate(fields(f -> f.getName().startsWith("country")), gen -> gen.string().upperCase().length(2))
+                .ignore(field(Person::getDate))
+                .withNullable(field(Person::getPets))
+                .onComplete(all(Person.class), (Person p) -> p.setUuid(null))
+                .lenient()
+                .create();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.test.support.pojo.person.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Throughput of streams of objects. The score is the number
+ * of streams of {@code size} elements generated per second.
+ */
+public class StreamBenchmark extends BaseBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    @Benchmark
+    public List<Person> stream() {
+        return Instancio.of(Person.class)
+                .stream()
+                .limit(size)
+                .collect(toList());
+    }
+
+    @Benchmark
+    public List<Person> sizedStream() {
+        return Instancio.of(Person.class)
+                .stream(size)
+                .collect(toList());
+    }
+
+    @Benchmark
+    public List<Person> sizedStreamParallel() {
+        return Instancio.of(Person.class)
+                .stream(size)
+                .parallel()
+                .collect(toList());
+    }
+
+    @Benchmark
+    public List<Person> ofList() {
+        return Instancio.ofList(Person.class)
+                .size(size)
+                .create();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks.model;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.hibernate.validator.constraints.CreditCardNumber;
+import org.hibernate.validator.constraints.URL;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A POJO with Bean Validation annotations on most of its fields.
+ */
+@SuppressWarnings("unused")
+public class ValidatedPerson {
+
+    @NotNull
+    @Positive
+    private Long id;
+
+    @NotBlank
+    @Size(min = 2, max = 30)
+    private String firstName;
+
+    @NotBlank
+    @Size(min = 2, max = 30)
+    private String lastName;
+
+    @Email
+    private String email;
+
+    @URL
+    private String website;
+
+    @Min(18)
+    @Max(65)
+    private int age;
+
+    @Past
+    private LocalDate dateOfBirth;
+
+    @DecimalMin("1000.00")
+    @DecimalMax("99999.99")
+    @Digits(integer = 5, fraction = 2)
+    private BigDecimal salary;
+
+    @CreditCardNumber
+    private String creditCard;
+
+    @NotEmpty
+    @Size(max = 5)
+    private List<@NotBlank @Size(max = 10) String> tags;
+}
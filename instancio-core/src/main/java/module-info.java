@@ -6,6 +6,7 @@ module org.instancio.core {
     requires static jakarta.validation;
     requires static java.sql;
     requires static java.xml;
+    requires static jdk.jfr;
     requires static jdk.unsupported;
     requires static org.apache.groovy;
     requires static org.hibernate.validator;
@@ -749,10 +749,15 @@ public interface BaseApi<T extends @Nullable Object> {
      *     .create();
      * }</pre>
      *
+     * <p>By default, all generated values are retained in order to detect
+     * duplicates. When generating large amounts of data, memory usage can be
+     * reduced by specifying a different strategy using {@link Keys#UNIQUE_STRATEGY}.
+     *
      * @param selector for fields and/or classes this method should be applied to
      * @return API builder reference
      * @see Keys#FAIL_ON_MAX_GENERATION_ATTEMPTS_REACHED
      * @see Keys#MAX_GENERATION_ATTEMPTS
+     * @see Keys#UNIQUE_STRATEGY
      * @since 4.8.0
      */
     @ExperimentalApi
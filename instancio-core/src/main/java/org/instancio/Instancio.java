@@ -17,6 +17,7 @@ package org.instancio;
 
 import org.instancio.documentation.ExperimentalApi;
 import org.instancio.feed.Feed;
+import org.instancio.feed.FeedCache;
 import org.instancio.internal.ApiImpl;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.CartesianProductApiImpl;
@@ -25,6 +26,7 @@ import org.instancio.internal.CollectionsApiImpl;
 import org.instancio.internal.FeedApiImpl;
 import org.instancio.internal.GenApiImpl;
 import org.instancio.internal.MapApiImpl;
+import org.instancio.internal.feed.FeedCacheImpl;
 import org.instancio.settings.FillType;
 import org.instancio.settings.Keys;
 import org.jspecify.annotations.Nullable;
@@ -878,4 +880,27 @@ public final class Instancio {
     public static <F extends Feed> InstancioFeedApi<F> ofFeed(final Class<F> type) {
         return new FeedApiImpl<>(type);
     }
+
+    /**
+     * Returns the cache of loaded {@link Feed} data, which can be used
+     * to preload feeds, clear the cache, or obtain cache statistics.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * Instancio.feedCache().preload(PersonFeed.class);
+     *
+     * // snip...
+     *
+     * FeedCacheStats stats = Instancio.feedCache().getStats();
+     * }</pre>
+     *
+     * @return the feed cache
+     * @see Keys#FEED_CACHE_MAX_ENTRIES
+     * @see Keys#FEED_CACHE_MAX_BYTES
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static FeedCache feedCache() {
+        return FeedCacheImpl.getInstance();
+    }
 }
@@ -146,6 +146,43 @@ public interface InstancioApi<T extends @Nullable Object> extends
      */
     Stream<T> stream();
 
+    /**
+     * Creates an ordered stream of the specified size that supports
+     * parallel processing.
+     *
+     * <p>Unlike {@link #stream()}, where the seed of each object is derived
+     * from the previous object, the seed of the {@code i}-th object is derived
+     * only from the root seed and the index {@code i}. Therefore, given the same
+     * seed, the results are the same regardless of whether the stream is
+     * processed sequentially or in parallel, and regardless of the number
+     * of threads:
+     *
+     * <pre>{@code
+     * List<Person> persons = Instancio.of(Person.class)
+     *     .withSeed(12345)
+     *     .stream(1_000_000)
+     *     .parallel()
+     *     .toList();
+     * }</pre>
+     *
+     * <p>As with {@link #stream()}, each object is generated separately.
+     * Generators created from specs, such as {@code emit()} and
+     * {@code intSeq()}, are created for each object and do not
+     * carry over state from one object to the next.
+     * Generator instances passed to the API directly, for example via
+     * {@link #supply(TargetSelector, Generator)}, are shared by all
+     * objects and must therefore be thread-safe when the stream is
+     * processed in parallel. Results that depend on the state of such
+     * generators, or of {@code withUnique()}, are not deterministic
+     * when the stream is processed in parallel.
+     *
+     * @param size number of objects to generate
+     * @return a stream of object instances of the specified size
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    Stream<T> stream(int size);
+
     /**
      * Creates a model containing generation parameters for creating an object.
      * A model acts as a template for creating objects or other models.
@@ -26,6 +26,7 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Provides an API for generating the Cartesian product.
@@ -114,6 +115,35 @@ public interface InstancioCartesianProductApi<T extends @Nullable Object> extend
     @ExperimentalApi
     List<T> create();
 
+    /**
+     * Returns the Cartesian product generated from values specified via
+     * the {@link #with(TargetSelector, Object[])} method as an ordered
+     * stream that supports parallel processing.
+     *
+     * <p>The elements are in the same order as those returned by
+     * {@link #create()}. However, unlike {@link #create()}, each element
+     * is generated separately, using a seed derived from the root seed and
+     * the element's index. Therefore, given the same seed, the results are
+     * the same regardless of whether the stream is processed sequentially
+     * or in parallel, and regardless of the number of threads:
+     *
+     * <pre>{@code
+     * List<Widget> results = Instancio.ofCartesianProduct(Widget.class)
+     *     .with(field(Widget::type), "FOO", "BAR", "BAZ")
+     *     .with(field(Widget::num), 1, 2, 3)
+     *     .withSeed(12345)
+     *     .stream()
+     *     .parallel()
+     *     .toList();
+     * }</pre>
+     *
+     * @return Cartesian product as a stream
+     * @see InstancioApi#stream(int)
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    Stream<T> stream();
+
     /**
      * {@inheritDoc}
      *
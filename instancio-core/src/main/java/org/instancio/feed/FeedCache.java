@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.feed;
+
+import org.instancio.Instancio;
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.settings.Keys;
+
+/**
+ * Provides access to the cache of loaded {@link Feed} data.
+ *
+ * <p>Data loaded from files, resources, and data sources specified
+ * via {@link Feed.Source} is cached globally, so that creating multiple
+ * instances of a feed does not reload the same data. The size of the
+ * cache is bounded by the following settings:
+ *
+ * <ul>
+ *   <li>{@link Keys#FEED_CACHE_MAX_ENTRIES}</li>
+ *   <li>{@link Keys#FEED_CACHE_MAX_BYTES}</li>
+ *   <li>{@link Keys#FEED_CACHE_EVICTION}</li>
+ *   <li>{@link Keys#FEED_CACHE_SOFT_REFERENCES}</li>
+ * </ul>
+ *
+ * <p>An instance of this class can be obtained using {@link Instancio#feedCache()}.
+ *
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public interface FeedCache {
+
+    /**
+     * Loads the data of the specified feed class into the cache,
+     * unless it is already cached. The data is loaded using the
+     * data source and tag key declared by the feed class.
+     *
+     * <p>This method can be used to load large feeds before running
+     * tests, for example, in a {@code @BeforeAll} method:
+     *
+     * <pre>{@code
+     * @BeforeAll
+     * static void preloadFeeds() {
+     *     Instancio.feedCache().preload(PersonFeed.class);
+     * }
+     * }</pre>
+     *
+     * @param feedClass the feed class whose data should be loaded
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    void preload(Class<? extends Feed> feedClass);
+
+    /**
+     * Removes all data from the cache and resets the statistics.
+     *
+     * <p>Feed instances that have already been created
+     * continue using the data they were created with.
+     *
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    void clear();
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return cache statistics
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    FeedCacheStats getStats();
+}
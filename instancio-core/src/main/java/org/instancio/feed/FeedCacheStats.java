@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.feed;
+
+import org.instancio.documentation.ExperimentalApi;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Statistics of the {@link FeedCache}, which can be used
+ * to diagnose feeds whose data is loaded repeatedly,
+ * for example, because it is evicted from the cache.
+ *
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public interface FeedCacheStats {
+
+    /**
+     * Returns the number of times data was found in the cache.
+     *
+     * @return the number of cache hits
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    long getHitCount();
+
+    /**
+     * Returns the number of times data was not found in the cache
+     * and had to be loaded.
+     *
+     * @return the number of cache misses
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    long getMissCount();
+
+    /**
+     * Returns the number of entries evicted from the cache,
+     * including entries reclaimed by the garbage collector
+     * when using soft references.
+     *
+     * @return the number of evictions
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    long getEvictionCount();
+
+    /**
+     * Returns the total time spent loading data.
+     *
+     * @return the total load time
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    Duration getTotalLoadTime();
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return the number of cached entries
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    int getEntryCount();
+
+    /**
+     * Returns the estimated size of the cached data in bytes.
+     *
+     * @return the estimated size of cached data
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    long getEstimatedBytes();
+
+    /**
+     * Returns the number of times data was loaded, by data source.
+     * The keys of the map identify the data source and the tag key,
+     * for example {@code "persons.csv:gender"}. A count greater than
+     * one indicates that the data has been reloaded.
+     *
+     * @return the number of loads by data source
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    Map<String, Integer> getLoadCounts();
+}
@@ -15,16 +15,19 @@
  */
 package org.instancio.generator;
 
+import org.instancio.generator.hints.ArrayHint;
+import org.instancio.generator.hints.CollectionHint;
+import org.instancio.generator.hints.MapHint;
 import org.instancio.internal.ApiValidator;
+import org.instancio.internal.generator.InternalGeneratorHint;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.StringJoiner;
 
-import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
-
 /**
  * Hints are provided by {@link Generator} implementations to the engine to
  * support more flexibility in how objects are populated.
@@ -37,11 +40,23 @@ import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
 public final class Hints {
 
     private final @Nullable AfterGenerate afterGenerate;
-    private final Map<Class<?>, Hint<?>> hintMap;
+
+    // Hints used by the engine for most nodes are stored in dedicated
+    // fields to avoid a map lookup and allocation. Other hints are
+    // stored in the map, which is null if there are none.
+    private final @Nullable CollectionHint collectionHint;
+    private final @Nullable MapHint mapHint;
+    private final @Nullable ArrayHint arrayHint;
+    private final @Nullable InternalGeneratorHint generatorHint;
+    private final @Nullable Map<Class<?>, Hint<?>> hintMap;
 
     private Hints(final Builder builder) {
         afterGenerate = builder.afterGenerate;
-        hintMap = defaultIfNull(builder.hintMap, Collections.emptyMap());
+        collectionHint = builder.collectionHint;
+        mapHint = builder.mapHint;
+        arrayHint = builder.arrayHint;
+        generatorHint = builder.generatorHint;
+        hintMap = builder.hintMap == null ? null : Collections.unmodifiableMap(builder.hintMap);
     }
 
     /**
@@ -59,7 +74,11 @@ public final class Hints {
     public static Builder builder(final Hints copy) {
         Builder builder = new Builder();
         builder.afterGenerate = copy.afterGenerate;
-        builder.hintMap = copy.hintMap;
+        builder.collectionHint = copy.collectionHint;
+        builder.mapHint = copy.mapHint;
+        builder.arrayHint = copy.arrayHint;
+        builder.generatorHint = copy.generatorHint;
+        builder.hintMap = copy.hintMap == null ? null : new HashMap<>(copy.hintMap);
         return builder;
     }
 
@@ -85,7 +104,19 @@ public final class Hints {
      */
     @Nullable
     public <T extends Hint<T>> T get(final Class<T> hintType) {
-        return hintType.cast(hintMap.get(hintType));
+        final Object hint;
+        if (hintType == CollectionHint.class) {
+            hint = collectionHint;
+        } else if (hintType == MapHint.class) {
+            hint = mapHint;
+        } else if (hintType == ArrayHint.class) {
+            hint = arrayHint;
+        } else if (hintType == InternalGeneratorHint.class) {
+            hint = generatorHint;
+        } else {
+            hint = hintMap == null ? null : hintMap.get(hintType);
+        }
+        return hintType.cast(hint);
     }
 
     /**
@@ -102,6 +133,10 @@ public final class Hints {
      */
     public static final class Builder {
         private @Nullable AfterGenerate afterGenerate;
+        private @Nullable CollectionHint collectionHint;
+        private @Nullable MapHint mapHint;
+        private @Nullable ArrayHint arrayHint;
+        private @Nullable InternalGeneratorHint generatorHint;
         private @Nullable Map<Class<?>, Hint<?>> hintMap;
 
         private Builder() {
@@ -121,10 +156,21 @@ public final class Hints {
          * @since 2.0.0
          */
         public <T extends Hint<T>> Builder with(final T hint) {
-            if (hintMap == null) {
-                hintMap = new HashMap<>();
+            final Class<?> hintType = hint.type();
+            if (hintType == CollectionHint.class) {
+                collectionHint = (CollectionHint) hint;
+            } else if (hintType == MapHint.class) {
+                mapHint = (MapHint) hint;
+            } else if (hintType == ArrayHint.class) {
+                arrayHint = (ArrayHint) hint;
+            } else if (hintType == InternalGeneratorHint.class) {
+                generatorHint = (InternalGeneratorHint) hint;
+            } else {
+                if (hintMap == null) {
+                    hintMap = new HashMap<>();
+                }
+                hintMap.put(hintType, hint);
             }
-            hintMap.put(hint.type(), hint);
             return this;
         }
 
@@ -171,9 +217,23 @@ public final class Hints {
 
     @Override
     public String toString() {
+        final Map<Class<?>, Hint<?>> allHints = new LinkedHashMap<>();
+        putIfNotNull(allHints, collectionHint);
+        putIfNotNull(allHints, mapHint);
+        putIfNotNull(allHints, arrayHint);
+        putIfNotNull(allHints, generatorHint);
+        if (hintMap != null) {
+            allHints.putAll(hintMap);
+        }
         return new StringJoiner(", ", "Hints[", "]")
                 .add("afterGenerate=" + afterGenerate)
-                .add("hints=" + hintMap)
+                .add("hints=" + allHints)
                 .toString();
     }
+
+    private static void putIfNotNull(final Map<Class<?>, Hint<?>> map, @Nullable final Hint<?> hint) {
+        if (hint != null) {
+            map.put(hint.type(), hint);
+        }
+    }
 }
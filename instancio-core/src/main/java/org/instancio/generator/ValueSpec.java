@@ -16,6 +16,7 @@
 package org.instancio.generator;
 
 import org.instancio.Instancio;
+import org.instancio.documentation.ExperimentalApi;
 import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -77,6 +78,26 @@ public interface ValueSpec<T extends @Nullable Object> extends GeneratorSpec<T>,
         return results;
     }
 
+    /**
+     * Fills the given array with generated values.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * String[] codes = Instancio.gen().string().length(3).fill(new String[100]);
+     * }</pre>
+     *
+     * @param array to fill
+     * @return the given array
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    default T[] fill(final T[] array) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = get();
+        }
+        return array;
+    }
+
     /**
      * Returns an infinite {@link Stream} of values.
      *
@@ -15,6 +15,8 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
+
 /**
  * Spec for generating {@link Byte} values.
  *
@@ -53,4 +55,36 @@ public interface ByteSpec extends NumberSpec<Byte> {
      */
     @Override
     ByteSpec nullable();
+
+    /**
+     * Generates an array of {@code byte} values of the specified size.
+     *
+     * <p>Unlike {@link #list(int)}, values are generated directly
+     * into a primitive array without boxing. Since a primitive array
+     * cannot contain {@code null} values, {@link #nullable()} is ignored.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * byte[] values = Instancio.gen().bytes().byteArray(1000);
+     * }</pre>
+     *
+     * @param size of the array to generate
+     * @return an array of random values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    byte[] byteArray(int size);
+
+    /**
+     * Fills the given array with generated {@code byte} values.
+     * This method can be used to re-use an existing array.
+     * Since a primitive array cannot contain {@code null} values,
+     * {@link #nullable()} is ignored.
+     *
+     * @param array to fill
+     * @return the given array
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    byte[] fill(byte[] array);
 }
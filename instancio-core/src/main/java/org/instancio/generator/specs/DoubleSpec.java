@@ -15,6 +15,10 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
+
+import java.util.stream.DoubleStream;
+
 /**
  * Spec for generating {@link Double} values.
  *
@@ -53,4 +57,50 @@ public interface DoubleSpec extends NumberSpec<Double> {
      */
     @Override
     DoubleSpec nullable();
+
+    /**
+     * Generates an array of {@code double} values of the specified size.
+     *
+     * <p>Unlike {@link #list(int)}, values are generated directly
+     * into a primitive array without boxing. Since a primitive array
+     * cannot contain {@code null} values, {@link #nullable()} is ignored.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * double[] values = Instancio.gen().doubles().range(1.0, 100.0).doubleArray(1000);
+     * }</pre>
+     *
+     * @param size of the array to generate
+     * @return an array of random values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    double[] doubleArray(int size);
+
+    /**
+     * Fills the given array with generated {@code double} values.
+     * This method can be used to re-use an existing array.
+     * Since a primitive array cannot contain {@code null} values,
+     * {@link #nullable()} is ignored.
+     *
+     * @param array to fill
+     * @return the given array
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    double[] fill(double[] array);
+
+    /**
+     * Returns an infinite {@link DoubleStream} of values.
+     *
+     * <p>Unlike {@link #stream()}, values are not boxed.
+     * Since a primitive stream cannot contain {@code null} values,
+     * {@link #nullable()} is ignored. Note that {@link DoubleStream#limit(long)}
+     * must be called to avoid an infinite loop.
+     *
+     * @return an infinite stream of values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    DoubleStream doubleStream();
 }
@@ -15,6 +15,8 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
+
 /**
  * Spec for generating {@link Float} values.
  *
@@ -53,4 +55,36 @@ public interface FloatSpec extends NumberSpec<Float> {
      */
     @Override
     FloatSpec nullable();
+
+    /**
+     * Generates an array of {@code float} values of the specified size.
+     *
+     * <p>Unlike {@link #list(int)}, values are generated directly
+     * into a primitive array without boxing. Since a primitive array
+     * cannot contain {@code null} values, {@link #nullable()} is ignored.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * float[] values = Instancio.gen().floats().range(1f, 100f).floatArray(1000);
+     * }</pre>
+     *
+     * @param size of the array to generate
+     * @return an array of random values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    float[] floatArray(int size);
+
+    /**
+     * Fills the given array with generated {@code float} values.
+     * This method can be used to re-use an existing array.
+     * Since a primitive array cannot contain {@code null} values,
+     * {@link #nullable()} is ignored.
+     *
+     * @param array to fill
+     * @return the given array
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    float[] fill(float[] array);
 }
@@ -15,6 +15,10 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
+
+import java.util.stream.LongStream;
+
 /**
  * Spec for generating {@link Long} values.
  *
@@ -53,4 +57,50 @@ public interface LongSpec extends NumberSpec<Long> {
      */
     @Override
     LongSpec nullable();
+
+    /**
+     * Generates an array of {@code long} values of the specified size.
+     *
+     * <p>Unlike {@link #list(int)}, values are generated directly
+     * into a primitive array without boxing. Since a primitive array
+     * cannot contain {@code null} values, {@link #nullable()} is ignored.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * long[] values = Instancio.gen().longs().range(1L, 100L).longArray(1000);
+     * }</pre>
+     *
+     * @param size of the array to generate
+     * @return an array of random values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    long[] longArray(int size);
+
+    /**
+     * Fills the given array with generated {@code long} values.
+     * This method can be used to re-use an existing array.
+     * Since a primitive array cannot contain {@code null} values,
+     * {@link #nullable()} is ignored.
+     *
+     * @param array to fill
+     * @return the given array
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    long[] fill(long[] array);
+
+    /**
+     * Returns an infinite {@link LongStream} of values.
+     *
+     * <p>Unlike {@link #stream()}, values are not boxed.
+     * Since a primitive stream cannot contain {@code null} values,
+     * {@link #nullable()} is ignored. Note that {@link LongStream#limit(long)}
+     * must be called to avoid an infinite loop.
+     *
+     * @return an infinite stream of values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    LongStream longStream();
 }
@@ -31,22 +31,35 @@ import org.instancio.feed.FeedProvider;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorSpec;
 import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.random.SeedSplitter;
 import org.instancio.settings.FillType;
+import org.instancio.settings.Keys;
 import org.instancio.settings.SettingKey;
 import org.instancio.settings.Settings;
+import org.instancio.support.Seeds;
 import org.jspecify.annotations.NullUnmarked;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
 
     private final ModelContext.Builder modelContextBuilder;
 
+    /**
+     * Model supplied via {@link #ApiImpl(Model)} that can be reused
+     * as is, provided the API has not been customised further.
+     */
+    private @Nullable InternalModel<T> compiledModel;
+
     public ApiImpl(final Type klass) {
         this.modelContextBuilder = ModelContext.builder(klass);
     }
@@ -60,6 +73,10 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
         final ModelContext suppliedContext = suppliedModel.getModelContext();
         // copy context data to allow overriding
         this.modelContextBuilder = suppliedContext.toBuilder();
+
+        if (suppliedModel.isCompiled()) {
+            this.compiledModel = suppliedModel;
+        }
     }
 
     public ApiImpl(final T object) {
@@ -68,12 +85,12 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
     }
 
     protected final void addTypeParameters(final Type... types) {
-        modelContextBuilder.withRootTypeParameters(Arrays.asList(types));
+        builder().withRootTypeParameters(Arrays.asList(types));
     }
 
     @Override
     public ApiImpl<T> ignore(final TargetSelector selector) {
-        modelContextBuilder.withIgnored(selector);
+        builder().withIgnored(selector);
         return this;
     }
 
@@ -82,7 +99,7 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final GeneratorSpecProvider<V> gen) {
 
-        modelContextBuilder.withGeneratorSpec(selector, gen);
+        builder().withGeneratorSpec(selector, gen);
         return this;
     }
 
@@ -91,7 +108,7 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final GeneratorSpec<V> spec) {
 
-        modelContextBuilder.withGenerator(selector, (Generator<T>) spec);
+        builder().withGenerator(selector, (Generator<T>) spec);
         return this;
     }
 
@@ -100,25 +117,25 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final OnCompleteCallback<V> callback) {
 
-        modelContextBuilder.withOnCompleteCallback(selector, callback);
+        builder().withOnCompleteCallback(selector, callback);
         return this;
     }
 
     @Override
     public <V> ApiImpl<T> filter(final TargetSelector selector, final FilterPredicate<V> predicate) {
-        modelContextBuilder.filter(selector, predicate);
+        builder().filter(selector, predicate);
         return this;
     }
 
     @Override
     public <V> ApiImpl<T> set(final TargetSelector selector, final V value) {
-        modelContextBuilder.withSet(selector, value);
+        builder().withSet(selector, value);
         return this;
     }
 
     @Override
     public <V> ApiImpl<T> setModel(final TargetSelector selector, final Model<V> model) {
-        modelContextBuilder.setModel(selector, model);
+        builder().setModel(selector, model);
         return this;
     }
 
@@ -127,7 +144,7 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final Generator<V> generator) {
 
-        modelContextBuilder.withGenerator(selector, generator);
+        builder().withGenerator(selector, generator);
         return this;
     }
 
@@ -136,7 +153,7 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final Supplier<V> supplier) {
 
-        modelContextBuilder.withSupplier(selector, supplier);
+        builder().withSupplier(selector, supplier);
         return this;
     }
 
@@ -145,85 +162,85 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
             final TargetSelector selector,
             final Class<?> subtype) {
 
-        modelContextBuilder.withSubtype(selector, subtype);
+        builder().withSubtype(selector, subtype);
         return this;
     }
 
     @Override
     public ApiImpl<T> assign(final Assignment... assignments) {
-        modelContextBuilder.withAssignments(assignments);
+        builder().withAssignments(assignments);
         return this;
     }
 
     @Override
     public ApiImpl<T> setBlank(final TargetSelector selector) {
-        modelContextBuilder.setBlank(selector);
+        builder().setBlank(selector);
         return this;
     }
 
     @Override
     public ApiImpl<T> withUnique(final TargetSelector selector) {
-        modelContextBuilder.withUnique(selector);
+        builder().withUnique(selector);
         return this;
     }
 
     @Override
     public ApiImpl<T> applyFeed(final TargetSelector selector, final Feed feed) {
-        modelContextBuilder.applyFeed(selector, feed);
+        builder().applyFeed(selector, feed);
         return this;
     }
 
     @Override
     public ApiImpl<T> applyFeed(final TargetSelector selector, final FeedProvider provider) {
-        modelContextBuilder.applyFeed(selector, provider);
+        builder().applyFeed(selector, provider);
         return this;
     }
 
     @Override
     public ApiImpl<T> withSeed(final long seed) {
-        modelContextBuilder.withSeed(seed);
+        builder().withSeed(seed);
         return this;
     }
 
     @Override
     public ApiImpl<T> withMaxDepth(final int maxDepth) {
-        modelContextBuilder.withMaxDepth(maxDepth);
+        builder().withMaxDepth(maxDepth);
         return this;
     }
 
     @Override
     public ApiImpl<T> withNullable(final TargetSelector selector) {
-        modelContextBuilder.withNullable(selector);
+        builder().withNullable(selector);
         return this;
     }
 
     @Override
     public <V> ApiImpl<T> withSetting(final SettingKey<V> key, final V value) {
-        modelContextBuilder.withSetting(key, value);
+        builder().withSetting(key, value);
         return this;
     }
 
     @Override
     public ApiImpl<T> withSettings(final Settings settings) {
-        modelContextBuilder.withSettings(settings);
+        builder().withSettings(settings);
         return this;
     }
 
     @Override
     public ApiImpl<T> lenient() {
-        modelContextBuilder.lenient();
+        builder().lenient();
         return this;
     }
 
     @Override
     public ApiImpl<T> verbose() {
-        modelContextBuilder.verbose();
+        builder().verbose();
         return this;
     }
 
     @Override
     public ApiImpl<T> withFillType(final FillType fillType) {
-        this.modelContextBuilder.withFillType(fillType);
+        builder().withFillType(fillType);
         return this;
     }
 
@@ -235,14 +252,29 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
     @NullUnmarked
     @Override
     public T create() {
-        return createRootObject(createModel());
+        final InternalModel<T> model = acquireCompiledModel();
+        if (model == null) {
+            return createRootObject(createModel());
+        }
+        try {
+            return createRootObject(model);
+        } finally {
+            model.release();
+        }
     }
 
     @Override
     public Result<T> asResult() {
-        final InternalModel<T> model = createModel();
-        final long seed = model.getModelContext().getRandom().getSeed();
-        return new InternalResult<>(createRootObject(model), seed);
+        final InternalModel<T> compiled = acquireCompiledModel();
+        final InternalModel<T> model = compiled == null ? createModel() : compiled;
+        try {
+            final long seed = model.getModelContext().getRandom().getSeed();
+            return new InternalResult<>(createRootObject(model), seed);
+        } finally {
+            if (compiled != null) {
+                compiled.release();
+            }
+        }
     }
 
     @Override
@@ -252,33 +284,180 @@ public class ApiImpl<T> implements InstancioApi<T>, InstancioObjectApi<T> {
 
     @Override
     public Stream<T> stream() {
-        final AtomicBoolean modelDumped = new AtomicBoolean();
-        final AtomicLong nextSeed = new AtomicLong();
-
-        return Stream.generate(() -> {
-            final InternalModel<T> model = new InternalModel<>(modelContextBuilder.build());
+        return Stream.generate(new StreamElementSupplier());
+    }
 
-            // verbose() should print only once per stream()
-            if (modelDumped.compareAndSet(false, true)) {
-                ModelReporter.report(model);
+    @Override
+    public Stream<T> stream(final int size) {
+        ApiValidator.validateSize(size);
+        final IndexedObjectFactory factory;
+        final InternalModel<T> compiled = acquireCompiledModel();
+        if (compiled == null) {
+            // only the context is needed since models are created for each element
+            final ModelContext context = modelContextBuilder.build();
+            Seeds.logSeed(context.getRandom(), context.getRootType().getType());
+            factory = new IndexedObjectFactory(context, true);
+        } else {
+            try {
+                // the compiled model has already been reported
+                factory = new IndexedObjectFactory(compiled.getModelContext(), false);
+            } finally {
+                compiled.release();
             }
-
-            // Update seed for each stream element to avoid generating the same object
-            final Random random = model.getModelContext().getRandom();
-            nextSeed.set(random.longRange(1, Long.MAX_VALUE));
-
-            modelContextBuilder.withSeed(nextSeed.get());
-            return createRootObject(model);
-        });
+        }
+        return IntStream.range(0, size).mapToObj(factory::create);
     }
 
     private T createRootObject(final InternalModel<T> model) {
         return new InstancioEngine(model).createRootObject();
     }
 
+    private ModelContext.Builder builder() {
+        // the supplied model can no longer be reused as is
+        compiledModel = null;
+        return modelContextBuilder;
+    }
+
+    /**
+     * Returns the compiled model if it can be reused for creating
+     * another object, or {@code null} if a new model should be built.
+     */
+    @Nullable
+    private InternalModel<T> acquireCompiledModel() {
+        final InternalModel<T> model = compiledModel;
+        if (model == null || !model.tryAcquire()) {
+            return null;
+        }
+        if (!model.getModelContext().prepareForReuse()) {
+            model.release();
+            return null;
+        }
+        ModelReporter.report(model);
+        return model;
+    }
+
     private InternalModel<T> createModel() {
         final InternalModel<T> model = new InternalModel<>(modelContextBuilder.build());
         ModelReporter.report(model);
         return model;
     }
-}
\ No newline at end of file
+
+    /**
+     * Supplies stream elements, updating the seed for each element
+     * to avoid generating the same object. If the model is compiled
+     * (see {@link Keys#COMPILED_MODEL_ENABLED}), it is built once and
+     * re-seeded for each element instead of being rebuilt.
+     */
+    private final class StreamElementSupplier implements Supplier<T> {
+        private final AtomicBoolean modelDumped = new AtomicBoolean();
+        private final AtomicLong nextSeed = new AtomicLong();
+        private @Nullable ModelContext firstContext;
+        private volatile @Nullable InternalModel<T> streamModel;
+
+        @Override
+        public T get() {
+            final InternalModel<T> model = acquireModel();
+            try {
+                // verbose() should print only once per stream()
+                if (modelDumped.compareAndSet(false, true)) {
+                    ModelReporter.report(model);
+                }
+
+                // Update seed for each stream element to avoid generating the same object
+                final Random random = model.getModelContext().getRandom();
+                nextSeed.set(random.longRange(1, Long.MAX_VALUE));
+                return createRootObject(model);
+            } finally {
+                if (model.isCompiled()) {
+                    model.release();
+                }
+            }
+        }
+
+        private InternalModel<T> acquireModel() {
+            final InternalModel<T> current = streamModel;
+            if (current != null && current.tryAcquire()) {
+                if (current.getModelContext().reseed(nextSeed.get())) {
+                    return current;
+                }
+                // the model is using a shared random that cannot be re-seeded
+                current.release();
+            }
+
+            final InternalModel<T> model = new InternalModel<>(nextContext());
+            if (model.isCompiled() && model.tryAcquire()) {
+                streamModel = model;
+            }
+            return model;
+        }
+
+        /**
+         * Builds the context of the next element. The seed is applied to a copy
+         * of the first element's context, leaving the API's builder unchanged,
+         * so that the API and its compiled model can still be used after
+         * the stream has been created.
+         */
+        private synchronized ModelContext nextContext() {
+            if (firstContext == null) {
+                firstContext = modelContextBuilder.build();
+                return firstContext;
+            }
+            return firstContext.toBuilder().withSeed(nextSeed.get()).build();
+        }
+    }
+
+    /**
+     * Creates objects using seeds derived from the root seed and
+     * the object's index, so that objects can be created independently
+     * of each other, in any order and from multiple threads.
+     */
+    private final class IndexedObjectFactory {
+        private final ModelContext context;
+        private final long rootSeed;
+        private final boolean compiled;
+        private final Queue<InternalModel<T>> compiledModels = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean reportPending;
+
+        IndexedObjectFactory(final ModelContext context, final boolean reportFirstModel) {
+            this.context = context;
+            this.reportPending = new AtomicBoolean(reportFirstModel && context.isVerbose());
+            this.rootSeed = context.getRandom().longRange(1, Long.MAX_VALUE);
+            // models with stateful generators are created for each object,
+            // since the generators' state would depend on which objects
+            // were previously created using the same pooled model
+            this.compiled = context.isReusable();
+        }
+
+        T create(final int index) {
+            final long seed = SeedSplitter.split(rootSeed, index);
+            if (!compiled) {
+                return createRootObject(newModel(seed));
+            }
+
+            // Compiled models are built with the same seed to ensure
+            // their node trees are identical, and re-seeded for each object
+            InternalModel<T> model = compiledModels.poll();
+            if (model == null) {
+                model = newModel(rootSeed);
+            }
+            try {
+                model.getModelContext().reseed(seed);
+                return createRootObject(model);
+            } finally {
+                compiledModels.offer(model);
+            }
+        }
+
+        private InternalModel<T> newModel(final long seed) {
+            // Context is copied to retain settings resolved on the calling thread
+            final ModelContext.Builder builder = context.toBuilder().withSeed(seed);
+            if (reportPending.compareAndSet(true, false)) {
+                // only the first model created for the stream is printed
+                builder.verbose();
+            }
+            final InternalModel<T> model = new InternalModel<>(builder.build());
+            ModelReporter.printVerbose(model);
+            return model;
+        }
+    }
+}
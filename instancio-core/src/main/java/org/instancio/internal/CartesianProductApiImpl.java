@@ -29,6 +29,7 @@ import org.instancio.feed.FeedProvider;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorSpec;
 import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.random.SeedSplitter;
 import org.instancio.internal.reflect.ParameterizedTypeImpl;
 import org.instancio.internal.util.CartesianList;
 import org.instancio.settings.SettingKey;
@@ -42,6 +43,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class CartesianProductApiImpl<T> implements InstancioCartesianProductApi<T> {
 
@@ -226,23 +229,11 @@ public class CartesianProductApiImpl<T> implements InstancioCartesianProductApi<
 
     @Override
     public List<T> create() {
-        final List<List<Object>> cartesianInputs = new ArrayList<>();
-        for (CartesianValues rangeValue : cartesianValues) {
-            cartesianInputs.add(rangeValue.values);
-        }
-
-        final List<List<Object>> combinations = CartesianList.create(cartesianInputs);
+        final List<List<Object>> combinations = getCombinations();
         final Map<TargetSelector, List<Object>> selectorRangeMap = getSelectorValues(combinations);
 
         for (Map.Entry<TargetSelector, List<Object>> entry : selectorRangeMap.entrySet()) {
-            final TargetSelector selector = entry.getKey();
-            final List<Object> valuesToEmit = entry.getValue();
-            modelContextBuilder.withGeneratorSpec(selector, gen -> gen.emit()
-                    // Some items might be unused due to generation parameters specified by the user
-                    .ignoreUnused()
-                    // Fail because this should not happen unless something went wrong
-                    .whenEmptyThrowException()
-                    .items(valuesToEmit));
+            addEmitGenerator(modelContextBuilder, entry.getKey(), entry.getValue());
         }
 
         modelContextBuilder.withGeneratorSpec(Select.root(), gen -> gen.collection().size(combinations.size()));
@@ -253,6 +244,55 @@ public class CartesianProductApiImpl<T> implements InstancioCartesianProductApi<
         return new InstancioEngine(model).createRootObject();
     }
 
+    @Override
+    public Stream<T> stream() {
+        final List<List<Object>> combinations = getCombinations();
+        final InternalModel<List<T>> model = new InternalModel<>(modelContextBuilder.build());
+        ModelReporter.report(model);
+
+        final ModelContext context = model.getModelContext();
+        final long rootSeed = context.getRandom().longRange(1, Long.MAX_VALUE);
+
+        return IntStream.range(0, combinations.size()).mapToObj(i -> createElement(
+                context, combinations.get(i), SeedSplitter.split(rootSeed, i)));
+    }
+
+    private T createElement(final ModelContext context, final List<Object> combination, final long seed) {
+        // Context is copied to retain settings resolved on the calling thread
+        final ModelContext.Builder builder = context.toBuilder().withSeed(seed);
+        final Map<TargetSelector, List<Object>> selectorValues = getSelectorValues(List.of(combination));
+
+        for (Map.Entry<TargetSelector, List<Object>> entry : selectorValues.entrySet()) {
+            addEmitGenerator(builder, entry.getKey(), entry.getValue());
+        }
+
+        builder.withGeneratorSpec(Select.root(), gen -> gen.collection().size(1));
+
+        final List<T> result = new InstancioEngine(new InternalModel<List<T>>(builder.build())).createRootObject();
+        return result.get(0);
+    }
+
+    private List<List<Object>> getCombinations() {
+        final List<List<Object>> cartesianInputs = new ArrayList<>();
+        for (CartesianValues rangeValue : cartesianValues) {
+            cartesianInputs.add(rangeValue.values);
+        }
+        return CartesianList.create(cartesianInputs);
+    }
+
+    private static void addEmitGenerator(
+            final ModelContext.Builder builder,
+            final TargetSelector selector,
+            final List<Object> valuesToEmit) {
+
+        builder.withGeneratorSpec(selector, gen -> gen.emit()
+                // Some items might be unused due to generation parameters specified by the user
+                .ignoreUnused()
+                // Fail because this should not happen unless something went wrong
+                .whenEmptyThrowException()
+                .items(valuesToEmit));
+    }
+
     private Map<TargetSelector, List<Object>> getSelectorValues(final List<List<Object>> combinations) {
         final Map<TargetSelector, List<Object>> selectorValues = new LinkedHashMap<>();
 
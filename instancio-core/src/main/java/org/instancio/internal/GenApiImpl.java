@@ -46,7 +46,6 @@ import org.instancio.generators.SpatialSpecs;
 import org.instancio.generators.TemporalSpecs;
 import org.instancio.generators.TextSpecs;
 import org.instancio.internal.generators.BuiltInGenerators;
-import org.instancio.settings.Keys;
 import org.instancio.settings.SettingKey;
 import org.instancio.settings.Settings;
 import org.instancio.support.Global;
@@ -75,7 +74,7 @@ public final class GenApiImpl implements InstancioGenApi {
     }
 
     private BuiltInGenerators generators() {
-        final Random random = RandomHelper.resolveRandom(settings.get(Keys.SEED), null);
+        final Random random = RandomHelper.resolveRandom(settings, null);
         return new BuiltInGenerators(new GeneratorContext(settings, random));
     }
 
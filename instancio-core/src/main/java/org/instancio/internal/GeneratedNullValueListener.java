@@ -29,6 +29,8 @@ import java.util.Queue;
  * Looks up generators and on-complete callbacks for all descendants
  * of a node for which a null value was generated in order to prevent
  * false positive "unused selector" errors in strict mode.
+ * Descendants are only visited up to the maximum depth of selectors
+ * that were unused when the null value was generated.
  */
 final class GeneratedNullValueListener implements GenerationListener {
     private final ModelContext context;
@@ -52,6 +54,12 @@ final class GeneratedNullValueListener implements GenerationListener {
             return;
         }
 
+        // Only visit descendants if there are unused selectors that
+        // could match them, since obtaining the children of a node
+        // creates them if the node tree is expanded lazily
+        final int maxDepth = result.isIgnored()
+                ? -1 : context.getSelectorMaps().getMaxUnusedSelectorDepth();
+
         queue.add(node);
 
         while (!queue.isEmpty()) {
@@ -78,7 +86,9 @@ final class GeneratedNullValueListener implements GenerationListener {
                 // confusing method naming: this is marking _origin_ selectors as used
                 context.getAssignmentDestinationSelectors(current);
 
-                queue.addAll(current.getChildren());
+                if (current.getDepth() < maxDepth) {
+                    queue.addAll(current.getChildren());
+                }
             }
         }
     }
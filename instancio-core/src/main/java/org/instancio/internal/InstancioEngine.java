@@ -16,6 +16,7 @@
 package org.instancio.internal;
 
 import org.instancio.generator.AfterGenerate;
+import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 import org.instancio.generator.hints.ArrayHint;
 import org.instancio.generator.hints.CollectionHint;
@@ -23,16 +24,20 @@ import org.instancio.generator.hints.MapHint;
 import org.instancio.internal.NodePopulationFilter.NodeFilterResult;
 import org.instancio.internal.assigners.Assigner;
 import org.instancio.internal.assigners.AssignerResolver;
+import org.instancio.internal.assignment.AssignmentDependencyGraph;
 import org.instancio.internal.assignment.AssignmentErrorUtil;
 import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.generation.AssigmentObjectStore;
 import org.instancio.internal.generation.GenerationListener;
+import org.instancio.internal.generation.GenerationProfiler;
 import org.instancio.internal.generation.GeneratorFacade;
 import org.instancio.internal.generator.ContainerAddFunction;
 import org.instancio.internal.generator.ContainerBuildFunction;
 import org.instancio.internal.generator.ContainerCreateFunction;
 import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.generator.InternalContainerHint;
+import org.instancio.internal.generator.PrimitiveArrayFiller;
+import org.instancio.internal.jfr.InstancioEvents;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.nodes.NodeKind;
 import org.instancio.internal.util.ArrayUtils;
@@ -82,6 +87,8 @@ class InstancioEngine {
     private final GeneratorFacade generatorFacade;
     private final ModelContext context;
     private final InternalNode rootNode;
+    private final AssignmentDependencyGraph assignmentDependencyGraph;
+    private final LeafFastPath leafFastPath;
     private final ErrorHandler errorHandler;
     private final CallbackHandler callbackHandler;
     private final ContainerFactoriesHandler containerFactoriesHandler;
@@ -92,19 +99,26 @@ class InstancioEngine {
     private final AssigmentObjectStore assigmentObjectStore;
     private final NullSubstitutorFacade nullSubstitutorFacade;
     private final DelayedNodeQueue delayedNodeQueue = new DelayedNodeQueue();
+    private final GenerationProfiler profiler;
     private final int maxGenerationAttempts;
+    private final boolean hasAssignments;
+    private long objectCount;
 
     InstancioEngine(InternalModel<?> model) {
         context = model.getModelContext();
         rootNode = model.getRootNode();
+        assignmentDependencyGraph = model.getAssignmentDependencyGraph();
+        leafFastPath = model.getLeafFastPath();
         errorHandler = new ErrorHandler(context);
         callbackHandler = CallbackHandler.create(context);
         containerFactoriesHandler = new ContainerFactoriesHandler(context.getInternalServiceProviders());
         assigmentObjectStore = AssigmentObjectStore.create(context);
         nullSubstitutorFacade = new NullSubstitutorFacade(context);
-        generatorFacade = new GeneratorFacade(context, nullSubstitutorFacade, assigmentObjectStore);
+        profiler = GenerationProfiler.create(context);
+        generatorFacade = new GeneratorFacade(context, nullSubstitutorFacade, assigmentObjectStore, profiler);
         defaultAfterGenerate = context.getSettings().get(Keys.AFTER_GENERATE_HINT);
         maxGenerationAttempts = context.getSettings().get(Keys.MAX_GENERATION_ATTEMPTS);
+        hasAssignments = context.getSelectorMaps().hasAssignments();
         nodeFilter = new NodeFilter(context);
         assignerResolver = AssignerResolver.create(context);
         listeners = new GenerationListener[]{
@@ -117,9 +131,14 @@ class InstancioEngine {
     @NullUnmarked
     @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
     <T> T createRootObject() {
-        return (T) errorHandler
-                .conditionalFailOnError(this::createRootObjectInternal)
-                .orElse(null);
+        final Object event = InstancioEvents.beginGenerate();
+        try {
+            return (T) errorHandler
+                    .conditionalFailOnError(this::createRootObjectInternal)
+                    .orElse(null);
+        } finally {
+            InstancioEvents.endGenerate(event, rootNode, context.getRandom().getSeed(), objectCount);
+        }
     }
 
     @Nullable
@@ -128,6 +147,7 @@ class InstancioEngine {
         callbackHandler.invokeCallbacks();
         processDelayedNodes(true);
         context.reportWarnings();
+        profiler.report(rootNode);
 
         if (generatorResult.isUnresolved()) {
             final Class<?> rootClass = rootNode.getTargetClass();
@@ -149,6 +169,7 @@ class InstancioEngine {
 
             if (result.isDelayed()) {
                 i--;
+                profiler.nodeDelayed(entry.getNode());
                 delayedNodeQueue.addLast(entry);
             } else {
                 final GeneratorResult parentResult = entry.getParentResult();
@@ -169,12 +190,15 @@ class InstancioEngine {
     private GeneratorResult createObject(final InternalNode node, final boolean isNullable) {
         LOG.trace(" >> {}", node);
 
+        final long start = profiler.nodeStarted();
         GeneratorResult generatorResult = doCreateObject(node, isNullable);
 
         int retryCount = 0;
 
-        while (!context.isAccepted(node, generatorResult.getValue())) {
+        while (!context.isAccepted(node, generatorResult)) {
+            profiler.valueRejected(node);
             if (++retryCount > maxGenerationAttempts) {
+                InstancioEvents.maxGenerationAttemptsReached(node, maxGenerationAttempts);
 
                 if (context.getSettings().get(Keys.FAIL_ON_MAX_GENERATION_ATTEMPTS_REACHED)) {
                     throw Fail.withUsageError(ErrorMessageUtils.maxGenerationAttemptsExceeded(
@@ -191,12 +215,14 @@ class InstancioEngine {
             generatorResult = doCreateObject(node, isNullable);
         }
 
+        objectCount++;
         notifyListeners(node, generatorResult);
 
         if (assigmentObjectStore.hasNewValues()) {
             processDelayedNodes(false);
         }
 
+        profiler.nodeCompleted(node, start);
         LOG.trace("<< {} : {}", node, generatorResult);
 
         return generatorResult;
@@ -230,7 +256,7 @@ class InstancioEngine {
         final GeneratorResult nodeResult = generateValue(node);
 
         if (!nodeResult.isDelayed()) {
-            populateChildren(node.getChildren(), nodeResult);
+            populateChildren(node, nodeResult);
         }
 
         return nodeResult.applyBuildFunctionIfPresent();
@@ -242,7 +268,7 @@ class InstancioEngine {
             final Object[] array = (Object[]) requireNonNull(result.getValue());
             for (Object element : array) {
                 final GeneratorResult elementResult = GeneratorResult.resolved(element, result.getHints());
-                populateChildren(elementNode.getChildren(), elementResult);
+                populateChildren(elementNode, elementResult);
             }
         }
     }
@@ -253,7 +279,7 @@ class InstancioEngine {
             final Iterable<?> iterable = (Iterable<?>) requireNonNull(result.getValue());
             for (Object element : iterable) {
                 final GeneratorResult elementResult = GeneratorResult.resolved(element, result.getHints());
-                populateChildren(elementNode.getChildren(), elementResult);
+                populateChildren(elementNode, elementResult);
             }
         }
     }
@@ -269,11 +295,11 @@ class InstancioEngine {
 
             if (keyNode.is(NodeKind.POJO)) {
                 final GeneratorResult keyResult = GeneratorResult.resolved(k, result.getHints());
-                populateChildren(keyNode.getChildren(), keyResult);
+                populateChildren(keyNode, keyResult);
             }
             if (valueNode.is(NodeKind.POJO)) {
                 final GeneratorResult valueResult = GeneratorResult.resolved(v, result.getHints());
-                populateChildren(valueNode.getChildren(), valueResult);
+                populateChildren(valueNode, valueResult);
             }
         }
     }
@@ -296,11 +322,9 @@ class InstancioEngine {
 
         // Populated objects that were created/added in the generator itself
         for (Map.Entry<Object, Object> entry : map.entrySet()) {
-            final List<InternalNode> keyNodeChildren = keyNode.getChildren();
-            final List<InternalNode> valueNodeChildren = valueNode.getChildren();
 
-            populateChildren(keyNodeChildren, GeneratorResult.resolved(entry.getKey(), hints));
-            populateChildren(valueNodeChildren, GeneratorResult.resolved(entry.getValue(), hints));
+            populateChildren(keyNode, GeneratorResult.resolved(entry.getKey(), hints));
+            populateChildren(valueNode, GeneratorResult.resolved(entry.getValue(), hints));
         }
 
         if (keyNode.isIgnored() || valueNode.isIgnored()) {
@@ -345,6 +369,7 @@ class InstancioEngine {
                     map.put(mapKey, mapValue);
                     entriesToGenerate--;
                 } else {
+                    profiler.duplicateDiscarded(keyNode);
                     failedAdditions++;
                 }
             } else {
@@ -396,8 +421,7 @@ class InstancioEngine {
 
             // Populate objects created by user within the generator
             if (elementValue != null) {
-                final List<InternalNode> elementNodeChildren = node.getOnlyChild().getChildren();
-                populateChildren(elementNodeChildren, GeneratorResult.resolved(elementValue, hints));
+                populateChildren(elementNode, GeneratorResult.resolved(elementValue, hints));
             }
 
             // Current element may have been set by a custom generator.
@@ -414,6 +438,10 @@ class InstancioEngine {
         final AfterGenerate action = requireNonNull(hints.afterGenerate());
         final boolean isPrimitiveArray = elementNode.getRawType().isPrimitive();
 
+        if (isPrimitiveArray && fillPrimitiveArray(arrayObj, lastIndex, elementNode, action, hint)) {
+            return generatorResult;
+        }
+
         // If array elements fail to generate for any reason and null is returned,
         // terminate the loop once we reach the threshold to avoid an infinite loop.
         int failedAdditions = 0;
@@ -425,8 +453,7 @@ class InstancioEngine {
 
             // Populate objects created by user within the generator
             if (currentValue != null) {
-                final List<InternalNode> elementNodeChildren = node.getOnlyChild().getChildren();
-                populateChildren(elementNodeChildren, GeneratorResult.resolved(currentValue, hints));
+                populateChildren(elementNode, GeneratorResult.resolved(currentValue, hints));
             }
 
             if (nodeFilter.filter(elementNode, action, currentValue) == NodeFilterResult.SKIP) {
@@ -469,6 +496,38 @@ class InstancioEngine {
         return generatorResult;
     }
 
+    /**
+     * Fills the remaining elements of a primitive array in bulk,
+     * if the element node is eligible for the leaf fast path.
+     *
+     * @return {@code false} if the elements should be generated one at a time
+     */
+    private boolean fillPrimitiveArray(
+            final Object arrayObj,
+            final int fromIndex,
+            final InternalNode elementNode,
+            final AfterGenerate action,
+            final ArrayHint hint) {
+
+        if (action != AfterGenerate.POPULATE_ALL
+            || hint.nullableElements()
+            || !leafFastPath.isEligible(elementNode)) {
+            return false;
+        }
+
+        final PrimitiveArrayFiller filler = generatorFacade.getPrimitiveArrayFiller(elementNode);
+        if (filler == null) {
+            return false;
+        }
+
+        filler.fillArray(arrayObj, fromIndex, Array.getLength(arrayObj), context.getRandom());
+
+        if (hint.shuffle()) {
+            ArrayUtils.shuffle(arrayObj, context.getRandom());
+        }
+        return true;
+    }
+
     @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.NPathComplexity"})
     private GeneratorResult generateCollection(final InternalNode node) {
         final GeneratorResult generatorResult = generateValue(node);
@@ -486,8 +545,7 @@ class InstancioEngine {
 
         // Populated objects that were created/added in the generator itself
         for (Object element : collection) {
-            final List<InternalNode> elementNodeChildren = elementNode.getChildren();
-            populateChildren(elementNodeChildren, GeneratorResult.resolved(element, hints));
+            populateChildren(elementNode, GeneratorResult.resolved(element, hints));
         }
 
         if (elementNode.isIgnored()) {
@@ -532,6 +590,7 @@ class InstancioEngine {
                     // Special case for hash based collections.
                     // If requested size is impossible (e.g. a Set<Boolean> of size 5)
                     // then abandon populating it after the threshold is reached
+                    profiler.duplicateDiscarded(elementNode);
                     failedAdditions++;
                 }
             } else {
@@ -566,7 +625,7 @@ class InstancioEngine {
         final GeneratorResult customRecord = generateValue(node);
 
         if (!customRecord.isUnresolved()) {
-            populateChildren(node.getChildren(), customRecord);
+            populateChildren(node, customRecord);
             return customRecord;
         }
 
@@ -586,12 +645,18 @@ class InstancioEngine {
         // along with the index, and attempt to generate it again later.
         final Deque<DelayedRecordComponentNode> recordComponentQueue = new ArrayDeque<>();
 
-        for (int i = 0; i < args.length; i++) {
-            final InternalNode child = children.get(i);
+        // Components are generated in assignment dependency order,
+        // but passed to the constructor in declaration order
+        final List<InternalNode> orderedChildren = assignmentDependencyGraph.getChildren(node);
+
+        for (int k = 0; k < args.length; k++) {
+            final InternalNode child = orderedChildren.get(k);
+            final int i = orderedChildren == children ? k : indexOf(children, child);
             final GeneratorResult result = createObject(child);
 
             if (result.isDelayed()) {
                 LOG.trace("Delayed record arg: {}", child);
+                profiler.nodeDelayed(child);
                 recordComponentQueue.add(new DelayedRecordComponentNode(child, i));
             } else {
                 args[i] = result.getValue() == null
@@ -610,6 +675,7 @@ class InstancioEngine {
 
             if (result.isDelayed()) {
                 threshold--;
+                profiler.nodeDelayed(entry.getNode());
                 recordComponentQueue.addFirst(entry);
 
             } else if (!result.isUnresolved()) {
@@ -636,9 +702,18 @@ class InstancioEngine {
         return generatorResult;
     }
 
+    private static int indexOf(final List<InternalNode> nodes, final InternalNode node) {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (nodes.get(i) == node) {
+                return i;
+            }
+        }
+        throw Fail.withInternalError("node not found: %s", node);
+    }
+
     @SuppressWarnings("PMD.CognitiveComplexity")
     private void populateChildren(
-            final List<InternalNode> children,
+            final InternalNode node,
             final GeneratorResult generatorResult) {
 
         if (generatorResult.getValue() == null) {
@@ -648,9 +723,17 @@ class InstancioEngine {
         final Object parentObject = generatorResult.getValue();
         final Hints hints = generatorResult.getHints();
         final AfterGenerate action = requireNonNull(hints.afterGenerate());
+
+        // Children of an object that should not be modified are only
+        // visited to collect values for assignments. Returning early
+        // avoids creating the children if nodes are expanded lazily.
+        if (action == AfterGenerate.DO_NOT_MODIFY && !hasAssignments) {
+            return;
+        }
+
         final Assigner assigner = assignerResolver.resolve(generatorResult);
 
-        for (final InternalNode child : children) {
+        for (final InternalNode child : assignmentDependencyGraph.getChildren(node)) {
             if (child.isIgnored()) {
                 continue;
             }
@@ -658,9 +741,14 @@ class InstancioEngine {
             final NodeFilterResult filterResult = nodeFilter.filter(child, action, parentObject);
 
             if (filterResult == NodeFilterResult.GENERATE) {
+                if (leafFastPath.isEligible(child) && generateLeaf(parentObject, child, assigner)) {
+                    continue;
+                }
+
                 final GeneratorResult result = createObject(child);
 
                 if (result.isDelayed()) {
+                    profiler.nodeDelayed(child);
                     delayedNodeQueue.addLast(new DelayedNode(child, generatorResult));
                 } else {
                     assignValue(parentObject, child, result, assigner);
@@ -684,7 +772,7 @@ class InstancioEngine {
             if (filterResult == NodeFilterResult.POPULATE) {
 
                 if (child.is(NodeKind.POJO)) {
-                    populateChildren(child.getChildren(), childResult);
+                    populateChildren(child, childResult);
                 } else if (child.is(NodeKind.COLLECTION)) {
                     populateCollection(child, childResult);
                 } else if (child.is(NodeKind.MAP)) {
@@ -773,6 +861,24 @@ class InstancioEngine {
         }
     }
 
+    /**
+     * Generates and assigns the value of a leaf node eligible for the fast path.
+     *
+     * @return {@code false} if the node has no built-in generator,
+     * in which case it should be generated via the regular path
+     */
+    private boolean generateLeaf(final Object parentObject, final InternalNode node, final Assigner assigner) {
+        final Generator<?> generator = generatorFacade.getLeafGenerator(node);
+        if (generator == null) {
+            return false;
+        }
+        final long start = profiler.nodeStarted();
+        assigner.assign(node, parentObject, generatorFacade.generateLeafValue(node, generator));
+        objectCount++;
+        profiler.nodeCompleted(node, start);
+        return true;
+    }
+
     private GeneratorResult generateValue(final InternalNode node) {
         return generatorFacade.generateNodeValue(node);
     }
@@ -16,18 +16,27 @@
 package org.instancio.internal;
 
 import org.instancio.Model;
+import org.instancio.internal.assignment.AssignmentDependencyGraph;
 import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.jfr.InstancioEvents;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.nodes.NodeFactory;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 public final class InternalModel<T> implements Model<T> {
 
     private final ModelContext modelContext;
     private final InternalNode rootNode;
+    private final AssignmentDependencyGraph assignmentDependencyGraph;
+    private final LeafFastPath leafFastPath;
+    private final AtomicBoolean inUse = new AtomicBoolean();
 
     InternalModel(ModelContext modelContext) {
         this.modelContext = modelContext;
         this.rootNode = createRootNode();
+        this.assignmentDependencyGraph = AssignmentDependencyGraph.create(modelContext, rootNode);
+        this.leafFastPath = LeafFastPath.create(modelContext, rootNode);
     }
 
     public ModelContext getModelContext() {
@@ -38,9 +47,41 @@ public final class InternalModel<T> implements Model<T> {
         return rootNode;
     }
 
+    AssignmentDependencyGraph getAssignmentDependencyGraph() {
+        return assignmentDependencyGraph;
+    }
+
+    LeafFastPath getLeafFastPath() {
+        return leafFastPath;
+    }
+
+    boolean isCompiled() {
+        return modelContext.isReusable();
+    }
+
+    /**
+     * Attempts to acquire this model for generating a root object
+     * using the existing context and node tree. The model can only
+     * be used by one thread at a time and must be released using
+     * {@link #release()} once the object has been created.
+     *
+     * @return {@code true} if the model was acquired,
+     * or {@code false} if it is in use
+     */
+    boolean tryAcquire() {
+        return inUse.compareAndSet(false, true);
+    }
+
+    void release() {
+        inUse.set(false);
+    }
+
     private InternalNode createRootNode() {
+        final Object event = InstancioEvents.beginModelBuild();
         final NodeFactory nodeFactory = new NodeFactory(modelContext);
-        return nodeFactory.createRootNode(modelContext.getRootType().getType());
+        final InternalNode node = nodeFactory.createRootNode(modelContext.getRootType().getType());
+        InstancioEvents.endModelBuild(event, node);
+        return node;
     }
 
     @Override
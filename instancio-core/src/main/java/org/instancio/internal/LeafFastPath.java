@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.context.SelectorMaps;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.nodes.NodeKind;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Leaf nodes whose values can be generated using a built-in generator
+ * and assigned directly, without creating a {@code GeneratorResult}
+ * or notifying generation listeners.
+ *
+ * <p>The fast path is only enabled if the model does not use features
+ * that need to observe or customise each generated value, such as
+ * assignments, callbacks, filters, {@code setModel()}, generator SPIs,
+ * or annotation processing. Additionally, a node is not eligible if it
+ * is matched by a selector that customises its value, for example
+ * {@code generate()} or {@code withNullable()}.
+ *
+ * <p>Eligible nodes are determined once when the model is created.
+ * If the node tree is expanded lazily, eligibility of a node is determined
+ * when it is checked for the first time, and retained by the model.
+ */
+final class LeafFastPath {
+
+    private static final LeafFastPath DISABLED = new LeafFastPath(Collections.emptyMap(), null);
+
+    /**
+     * Eligibility of nodes. If nodes are expanded lazily, this map is
+     * populated on demand. Otherwise, it only contains eligible nodes.
+     */
+    private final Map<InternalNode, Boolean> eligibility;
+    private final @Nullable ModelContext lazyContext;
+
+    private LeafFastPath(final Map<InternalNode, Boolean> eligibility,
+                         @Nullable final ModelContext lazyContext) {
+        this.eligibility = eligibility;
+        this.lazyContext = lazyContext;
+    }
+
+    static LeafFastPath create(final ModelContext context, final InternalNode rootNode) {
+        if (!isSupported(context)) {
+            return DISABLED;
+        }
+        // since assignments are not supported, the node tree
+        // is expanded lazily if the setting is enabled
+        if (context.getSettings().get(Keys.LAZY_NODE_EXPANSION_ENABLED)) {
+            return new LeafFastPath(new IdentityHashMap<>(), context);
+        }
+
+        final Map<InternalNode, Boolean> nodes = new IdentityHashMap<>();
+        final Deque<InternalNode> stack = new ArrayDeque<>();
+        stack.push(rootNode);
+
+        while (!stack.isEmpty()) {
+            final InternalNode node = stack.pop();
+            if (node.isIgnored()) {
+                continue;
+            }
+            if (isEligible(context, node)) {
+                nodes.put(node, Boolean.TRUE);
+            }
+            for (InternalNode child : node.getChildren()) {
+                stack.push(child);
+            }
+        }
+        return nodes.isEmpty() ? DISABLED : new LeafFastPath(nodes, null);
+    }
+
+    /**
+     * Returns {@code true} if the value of the given node
+     * can be generated using the fast path.
+     *
+     * @param node to check
+     * @return whether the node is eligible
+     */
+    boolean isEligible(final InternalNode node) {
+        if (lazyContext == null) {
+            return eligibility.containsKey(node);
+        }
+        Boolean eligible = eligibility.get(node);
+        if (eligible == null) {
+            eligible = isEligible(lazyContext, node);
+            eligibility.put(node, eligible);
+        }
+        return eligible;
+    }
+
+    private static boolean isSupported(final ModelContext context) {
+        final SelectorMaps selectorMaps = context.getSelectorMaps();
+        final Settings settings = context.getSettings();
+
+        return !selectorMaps.hasAssignments()
+                && !selectorMaps.hasCallbacks()
+                && !selectorMaps.hasFilters()
+                && !selectorMaps.hasSetModels()
+                && !settings.get(Keys.BEAN_VALIDATION_ENABLED)
+                && !settings.get(Keys.JPA_ENABLED)
+                && context.getServiceProviders().getGeneratorProviders().isEmpty()
+                && context.getServiceProviders().getAnnotationProcessors().isEmpty();
+    }
+
+    private static boolean isEligible(final ModelContext context, final InternalNode node) {
+        return node.is(NodeKind.JDK)
+                && node.getChildren().isEmpty()
+                && !node.isCyclic()
+                && context.isDefaultGenerated(node);
+    }
+}
@@ -17,12 +17,18 @@ package org.instancio.internal;
 
 import org.instancio.Random;
 import org.instancio.documentation.InternalApi;
+import org.instancio.settings.Keys;
+import org.instancio.settings.RandomAlgorithm;
+import org.instancio.settings.Settings;
 import org.instancio.support.DefaultRandom;
 import org.instancio.support.Global;
 import org.instancio.support.Seeds;
 import org.instancio.support.ThreadLocalRandom;
 import org.jspecify.annotations.Nullable;
 
+import java.lang.reflect.Type;
+import java.util.Objects;
+
 @InternalApi
 public final class RandomHelper {
 
@@ -38,24 +44,44 @@ public final class RandomHelper {
      *   <li>random seed</li>
      * </ol>
      *
-     * @param settingsSeed seed from {@code Settings}
-     * @param withSeed     seed from {@code withSeed()}
+     * <p>The algorithm is applied to random instances created by this method.
+     * Shared instances, such as the one supplied by the JUnit extension,
+     * are returned as is. If the seed is taken from {@code instancio.properties},
+     * the random instance is resolved based on {@link Keys#GLOBAL_SEED_MODE}.
+     *
+     * @param settings settings containing the seed and the algorithm
+     * @param withSeed seed from {@code withSeed()}
      * @return random instance resolved using the above precedence rules
      */
-    public static Random resolveRandom(
-            @Nullable final Long settingsSeed,
-            @Nullable final Long withSeed) {
+    public static Random resolveRandom(final Settings settings, @Nullable final Long withSeed) {
+        return resolveRandom(settings, withSeed, null);
+    }
+
+    /**
+     * Resolves the random instance as per {@link #resolveRandom(Settings, Long)}
+     * for generating a root object of the given type.
+     *
+     * @param settings settings containing the seed and the algorithm
+     * @param withSeed seed from {@code withSeed()}
+     * @param rootType type of the root object, or {@code null} if none
+     * @return random instance resolved using the above precedence rules
+     */
+    public static Random resolveRandom(final Settings settings,
+                                       @Nullable final Long withSeed,
+                                       @Nullable final Type rootType) {
+        final RandomAlgorithm algorithm = settings.get(Keys.RANDOM_ALGORITHM);
 
         if (withSeed != null) {
-            return new DefaultRandom(withSeed, Seeds.Source.MANUAL);
+            return new DefaultRandom(withSeed, Seeds.Source.MANUAL, algorithm);
         }
 
         // Based on instancio.properties seed, if defined
         final Random configuredRandom = Global.getConfiguredRandom();
+        final Long settingsSeed = settings.get(Keys.SEED);
 
         // This ensures we can override seed from the properties file using a custom Settings instance.
         if (settingsSeed != null && (configuredRandom == null || configuredRandom.getSeed() != settingsSeed)) {
-            return new DefaultRandom(settingsSeed, Seeds.Source.WITH_SETTINGS_BUILDER);
+            return new DefaultRandom(settingsSeed, Seeds.Source.WITH_SETTINGS_BUILDER, algorithm);
         }
 
         // If running under JUnit extension, use the Random instance supplied by the extension
@@ -65,11 +91,24 @@ public final class RandomHelper {
         }
 
         if (configuredRandom != null) {
-            return configuredRandom;
+            return Objects.requireNonNull(Global.getConfiguredRandom(settings.get(Keys.GLOBAL_SEED_MODE), rootType));
         }
 
         // Random seed
-        return new DefaultRandom();
+        return new DefaultRandom(Seeds.randomSeed(), Seeds.Source.RANDOM, algorithm);
+    }
+
+    /**
+     * Checks whether the given random instance is shared across
+     * model contexts, i.e. it was not created specifically for one context.
+     *
+     * @param random to check
+     * @return {@code true} if the instance is a global random shared by multiple contexts
+     * or the one supplied by the JUnit extension
+     */
+    public static boolean isShared(final Random random) {
+        return Global.isSharedConfiguredRandom(random)
+               || random == ThreadLocalRandom.getInstance().get();
     }
 
     private RandomHelper() {
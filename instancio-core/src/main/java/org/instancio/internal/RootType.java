@@ -57,6 +57,10 @@ public final class RootType {
         return typeMap.get(type);
     }
 
+    public boolean hasTypeMappings() {
+        return !typeMap.isEmpty();
+    }
+
     private static Map<Type, Type> buildRootTypeMap(
             final Type rootType,
             final List<Type> rootTypeParameters) {
@@ -17,14 +17,12 @@ package org.instancio.internal.annotation;
 
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
-import org.instancio.generator.GeneratorSpec;
 import org.instancio.internal.util.Sonar;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -56,22 +54,10 @@ abstract class AbstractAnnotationLibraryFacade implements AnnotationLibraryFacad
         return primaryAnnotations.containsKey(annotationType);
     }
 
+    @Nullable
     @Override
-    public final void consumeAnnotations(final AnnotationMap annotationMap,
-                                         final GeneratorSpec<?> spec,
-                                         final Class<?> targetClass,
-                                         final GeneratorContext generatorContext) {
-
-        final AnnotationHandlerMap annotationHandlerMap = getAnnotationHandlerMap();
-        final Collection<Annotation> annotations = annotationMap.getAnnotations();
-
-        for (Annotation annotation : annotations) {
-            final FieldAnnotationHandler handler = annotationHandlerMap.get(annotation);
-            if (handler != null) {
-                handler.process(annotation, spec, targetClass, generatorContext);
-                annotationMap.remove(annotation.annotationType());
-            }
-        }
+    public final FieldAnnotationHandler getAnnotationHandler(final Annotation annotation) {
+        return getAnnotationHandlerMap().get(annotation);
     }
 
     @Nullable
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.annotation;
+
+import org.instancio.generator.Generator;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.GeneratorSpec;
+import org.instancio.internal.util.Sonar;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes how a generator for an annotated node is created
+ * and customised, so that annotations are resolved only once
+ * rather than each time a value is generated.
+ *
+ * <p>Since annotation handlers mutate the generator's state, a recipe
+ * does not hold a generator instance. Instead, it creates a new
+ * generator and applies the recorded annotation handlers to it.
+ *
+ * @see AnnotationMap
+ */
+public final class AnnotationGeneratorRecipe {
+
+    private static final AnnotationGeneratorRecipe EMPTY = new AnnotationGeneratorRecipe(
+            new Annotation[0], null, null, Collections.emptyList());
+
+    private final Annotation[] annotations;
+    private final @Nullable AnnotationLibraryFacade primaryLibrary;
+    private final @Nullable Annotation primaryAnnotation;
+    private final List<Step> steps;
+
+    private AnnotationGeneratorRecipe(
+            final Annotation[] annotations,
+            @Nullable final AnnotationLibraryFacade primaryLibrary,
+            @Nullable final Annotation primaryAnnotation,
+            final List<Step> steps) {
+
+        this.annotations = annotations;
+        this.primaryLibrary = primaryLibrary;
+        this.primaryAnnotation = primaryAnnotation;
+        this.steps = steps;
+    }
+
+    /**
+     * Creates a recipe for the given annotations. The primary annotation
+     * and the order in which annotations are consumed is the same as when
+     * processing annotations using {@link AnnotationMap} directly.
+     *
+     * @param annotations declared by the node
+     * @param libraries   annotation libraries available on the classpath
+     * @return a recipe for creating generators
+     */
+    public static AnnotationGeneratorRecipe compile(
+            final Annotation[] annotations,
+            final List<AnnotationLibraryFacade> libraries) {
+
+        if (annotations.length == 0) {
+            return EMPTY;
+        }
+
+        final AnnotationMap annotationMap = new AnnotationMap(annotations);
+        AnnotationLibraryFacade primaryLibrary = null;
+        Annotation primaryAnnotation = null;
+
+        for (AnnotationLibraryFacade library : libraries) {
+            for (Annotation annotation : annotations) {
+                if (primaryAnnotation == null && library.isPrimary(annotation.annotationType())) {
+                    annotationMap.setPrimary(annotation);
+                    primaryLibrary = library;
+                    primaryAnnotation = annotation;
+                }
+            }
+        }
+
+        final List<Step> steps = new ArrayList<>();
+        for (AnnotationLibraryFacade library : libraries) {
+            for (Annotation annotation : annotationMap.getAnnotations()) {
+                final FieldAnnotationHandler handler = library.getAnnotationHandler(annotation);
+                if (handler != null) {
+                    steps.add(new Step(handler, annotation));
+                    annotationMap.remove(annotation.annotationType());
+                }
+            }
+        }
+
+        return new AnnotationGeneratorRecipe(
+                annotations, primaryLibrary, primaryAnnotation, Collections.unmodifiableList(steps));
+    }
+
+    /**
+     * Returns annotations declared by the node.
+     *
+     * @return annotations, or an empty array if none
+     */
+    public Annotation[] getAnnotations() {
+        return annotations;
+    }
+
+    public boolean hasPrimaryAnnotation() {
+        return primaryAnnotation != null;
+    }
+
+    /**
+     * Creates a new generator for the primary annotation.
+     *
+     * @param context generator context
+     * @return a new generator, or {@code null} if the primary
+     * annotation does not define a generator
+     */
+    @Nullable
+    @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
+    public Generator<?> createPrimaryGenerator(final GeneratorContext context) {
+        if (primaryLibrary == null || primaryAnnotation == null) {
+            return null;
+        }
+        return primaryLibrary.resolveGenerator(primaryAnnotation, context);
+    }
+
+    /**
+     * Customises the given spec using non-primary annotations.
+     *
+     * @param spec        to customise
+     * @param targetClass type being generated
+     * @param context     generator context
+     */
+    public void applyAnnotations(
+            final GeneratorSpec<?> spec,
+            final Class<?> targetClass,
+            final GeneratorContext context) {
+
+        for (Step step : steps) {
+            step.handler.process(step.annotation, spec, targetClass, context);
+        }
+    }
+
+    private static final class Step {
+        private final FieldAnnotationHandler handler;
+        private final Annotation annotation;
+
+        private Step(final FieldAnnotationHandler handler, final Annotation annotation) {
+            this.handler = handler;
+            this.annotation = annotation;
+        }
+    }
+}
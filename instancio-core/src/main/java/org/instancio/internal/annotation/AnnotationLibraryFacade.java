@@ -18,7 +18,6 @@ package org.instancio.internal.annotation;
 import org.instancio.documentation.InternalApi;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
-import org.instancio.generator.GeneratorSpec;
 import org.instancio.internal.util.Sonar;
 import org.jspecify.annotations.Nullable;
 
@@ -51,20 +50,15 @@ public interface AnnotationLibraryFacade {
     boolean isPrimary(Class<? extends Annotation> annotationType);
 
     /**
-     * Consumes all the annotations supported by this consumer from the given map,
-     * starting with the primary annotation. Consumed annotations are removed
-     * from the map.
+     * Returns the handler for the given annotation.
      *
-     * @param map              from which annotations will be consumed
-     * @param spec             generator spec for the given field
-     * @param targetClass      type being generated
-     * @param generatorContext the generator context containing current settings
-     * @since 2.7.0
+     * @param annotation to return the handler for
+     * @return the handler, or {@code null} if the annotation
+     * is not supported by this library
+     * @since 6.0.0
      */
-    void consumeAnnotations(AnnotationMap map,
-                            GeneratorSpec<?> spec,
-                            Class<?> targetClass,
-                            GeneratorContext generatorContext);
+    @Nullable
+    FieldAnnotationHandler getAnnotationHandler(Annotation annotation);
 
     /**
      * Resolves a generator for the given primary annotation.
@@ -21,6 +21,7 @@ import org.instancio.internal.util.ErrorMessageUtils;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.settings.AssignmentAccessor;
 import org.instancio.settings.AssignmentType;
 import org.instancio.settings.Keys;
 import org.instancio.settings.OnSetFieldError;
@@ -38,11 +39,15 @@ final class FieldAssigner implements Assigner {
     private static final Logger LOG = LoggerFactory.getLogger(FieldAssigner.class);
 
     private final Settings settings;
+    private final boolean useMethodHandles;
 
     FieldAssigner(final Settings settings) {
         this.settings = settings;
+        this.useMethodHandles = settings.get(Keys.ASSIGNMENT_ACCESSOR) == AssignmentAccessor.METHOD_HANDLE;
 
-        LOG.trace("{}, {}", AssignmentType.FIELD, settings.get(Keys.ON_SET_FIELD_ERROR));
+        LOG.trace("{}, {}, {}", AssignmentType.FIELD,
+                settings.get(Keys.ASSIGNMENT_ACCESSOR),
+                settings.get(Keys.ON_SET_FIELD_ERROR));
     }
 
     @Override
@@ -60,8 +65,10 @@ final class FieldAssigner implements Assigner {
         final Object value = arg == null ? ObjectUtils.defaultValue(field.getType()) : arg;
 
         try {
-            ReflectionUtils.setAccessible(field);
-            field.set(target, value);
+            if (!useMethodHandles || !HandleSetter.forField(field).set(target, value)) {
+                ReflectionUtils.setAccessible(field);
+                field.set(target, value);
+            }
         } catch (IllegalArgumentException ex) {
             // Wrong type is being assigned to a field.
             // Always propagate type mismatch errors as it's most likely a user error.
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.assigners;
+
+import org.instancio.internal.util.ReflectionUtils;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns values to a field, or via a setter method, using a method handle.
+ *
+ * <p>Instances are cached per field or method, so that the handle
+ * is created only once and shared by all nodes referring to the member.
+ * The cache is keyed by the declaring class using a {@link ClassValue}
+ * to avoid preventing the class from being unloaded.
+ *
+ * @since 6.0.0
+ */
+abstract class HandleSetter {
+    private static final Logger LOG = LoggerFactory.getLogger(HandleSetter.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Placeholder for members that do not support method handles,
+     * in which case the value should be assigned using reflection.
+     */
+    private static final HandleSetter UNSUPPORTED = new HandleSetter() {
+        @Override
+        boolean set(final Object target, @Nullable final Object value) {
+            return false;
+        }
+    };
+
+    private static final ClassValue<Map<Member, HandleSetter>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Member, HandleSetter> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    static HandleSetter forField(final Field field) {
+        return CACHE.get(field.getDeclaringClass())
+                .computeIfAbsent(field, k -> createFieldSetter(field));
+    }
+
+    static HandleSetter forMethod(final Method method) {
+        return CACHE.get(method.getDeclaringClass())
+                .computeIfAbsent(method, k -> createMethodSetter(method));
+    }
+
+    /**
+     * Assigns the value to the target.
+     *
+     * @param target to assign the value to
+     * @param value  to assign; must not be {@code null} if the
+     *               member's type is a primitive
+     * @return {@code true} if the value was assigned, or {@code false}
+     * if the value should be assigned using reflection instead
+     * @throws InvocationTargetException if the underlying method throws an exception
+     */
+    abstract boolean set(Object target, @Nullable Object value) throws InvocationTargetException;
+
+    private static HandleSetter createFieldSetter(final Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            return UNSUPPORTED;
+        }
+        try {
+            ReflectionUtils.setAccessible(field);
+            return create(LOOKUP.unreflectSetter(field), field.getType());
+        } catch (IllegalAccessException | RuntimeException ex) {
+            LOG.trace("Unable to create method handle for field {}, falling back to reflection", field, ex);
+            return UNSUPPORTED;
+        }
+    }
+
+    private static HandleSetter createMethodSetter(final Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) {
+            return UNSUPPORTED;
+        }
+        try {
+            ReflectionUtils.setAccessible(method);
+            return create(LOOKUP.unreflect(method), method.getParameterTypes()[0]);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            LOG.trace("Unable to create method handle for method {}, falling back to reflection", method, ex);
+            return UNSUPPORTED;
+        }
+    }
+
+    private static HandleSetter create(final MethodHandle handle, final Class<?> type) {
+        if (type == int.class) {
+            return new IntSetter(handle.asType(MethodType.methodType(void.class, Object.class, int.class)));
+        } else if (type == long.class) {
+            return new LongSetter(handle.asType(MethodType.methodType(void.class, Object.class, long.class)));
+        } else if (type == double.class) {
+            return new DoubleSetter(handle.asType(MethodType.methodType(void.class, Object.class, double.class)));
+        }
+        final MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return type.isPrimitive()
+                ? new BoxedPrimitiveSetter(generic, MethodType.methodType(type).wrap().returnType())
+                : new ReferenceSetter(generic, type);
+    }
+
+    private static InvocationTargetException wrap(final Throwable t) {
+        return new InvocationTargetException(t);
+    }
+
+    private static final class IntSetter extends HandleSetter {
+        private final MethodHandle handle;
+
+        IntSetter(final MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        boolean set(final Object target, @Nullable final Object value) throws InvocationTargetException {
+            if (!(value instanceof Integer)) {
+                return false;
+            }
+            try {
+                handle.invokeExact(target, ((Integer) value).intValue());
+                return true;
+            } catch (Throwable t) {
+                throw wrap(t);
+            }
+        }
+    }
+
+    private static final class LongSetter extends HandleSetter {
+        private final MethodHandle handle;
+
+        LongSetter(final MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        boolean set(final Object target, @Nullable final Object value) throws InvocationTargetException {
+            if (!(value instanceof Long)) {
+                return false;
+            }
+            try {
+                handle.invokeExact(target, ((Long) value).longValue());
+                return true;
+            } catch (Throwable t) {
+                throw wrap(t);
+            }
+        }
+    }
+
+    private static final class DoubleSetter extends HandleSetter {
+        private final MethodHandle handle;
+
+        DoubleSetter(final MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        boolean set(final Object target, @Nullable final Object value) throws InvocationTargetException {
+            if (!(value instanceof Double)) {
+                return false;
+            }
+            try {
+                handle.invokeExact(target, ((Double) value).doubleValue());
+                return true;
+            } catch (Throwable t) {
+                throw wrap(t);
+            }
+        }
+    }
+
+    /**
+     * Handles primitive types other than {@code int}, {@code long}, and {@code double}.
+     * Only values of the exact wrapper type are accepted, since the handle would
+     * otherwise apply narrowing conversions that reflection rejects.
+     */
+    private static final class BoxedPrimitiveSetter extends HandleSetter {
+        private final MethodHandle handle;
+        private final Class<?> wrapperType;
+
+        BoxedPrimitiveSetter(final MethodHandle handle, final Class<?> wrapperType) {
+            this.handle = handle;
+            this.wrapperType = wrapperType;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        boolean set(final Object target, @Nullable final Object value) throws InvocationTargetException {
+            if (value == null || value.getClass() != wrapperType) {
+                return false;
+            }
+            try {
+                handle.invokeExact(target, value);
+                return true;
+            } catch (Throwable t) {
+                throw wrap(t);
+            }
+        }
+    }
+
+    private static final class ReferenceSetter extends HandleSetter {
+        private final MethodHandle handle;
+        private final Class<?> type;
+
+        ReferenceSetter(final MethodHandle handle, final Class<?> type) {
+            this.handle = handle;
+            this.type = type;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        boolean set(final Object target, @Nullable final Object value) throws InvocationTargetException {
+            if (value != null && !type.isInstance(value)) {
+                return false;
+            }
+            try {
+                handle.invokeExact(target, value);
+                return true;
+            } catch (Throwable t) {
+                throw wrap(t);
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.instancio.internal.util.Format;
 import org.instancio.internal.util.MethodUtils;
 import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.settings.AssignmentAccessor;
 import org.instancio.settings.AssignmentType;
 import org.instancio.settings.Keys;
 import org.instancio.settings.OnSetMethodError;
@@ -44,6 +45,7 @@ final class MethodAssigner implements Assigner {
 
     private final Settings settings;
     private final int excludedModifiers;
+    private final boolean useMethodHandles;
     private final Assigner fieldAssigner;
     private final SetterMethodResolverFacade setterMethodResolverFacade;
 
@@ -53,10 +55,12 @@ final class MethodAssigner implements Assigner {
 
         this.settings = settings;
         this.excludedModifiers = settings.get(Keys.SETTER_EXCLUDE_MODIFIER);
+        this.useMethodHandles = settings.get(Keys.ASSIGNMENT_ACCESSOR) == AssignmentAccessor.METHOD_HANDLE;
         this.fieldAssigner = new FieldAssigner(settings);
         this.setterMethodResolverFacade = setterMethodResolverFacade;
 
-        LOG.trace("{}, {}, {}, {}", AssignmentType.METHOD,
+        LOG.trace("{}, {}, {}, {}, {}", AssignmentType.METHOD,
+                settings.get(Keys.ASSIGNMENT_ACCESSOR),
                 settings.get(Keys.SETTER_STYLE),
                 settings.get(Keys.ON_SET_METHOD_NOT_FOUND),
                 settings.get(Keys.ON_SET_METHOD_ERROR));
@@ -78,8 +82,10 @@ final class MethodAssigner implements Assigner {
         final Object value = arg == null ? ObjectUtils.defaultValue(parameterType) : arg;
 
         try {
-            ReflectionUtils.setAccessible(method);
-            method.invoke(target, value);
+            if (!useMethodHandles || !HandleSetter.forMethod(method).set(target, value)) {
+                ReflectionUtils.setAccessible(method);
+                method.invoke(target, value);
+            }
         } catch (IllegalAccessException ex) {
             throw new InstancioException("Error setting value via method: " + method, ex);
         } catch (Exception ex) {
@@ -0,0 +1,375 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.assignment;
+
+import org.instancio.TargetSelector;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.nodes.NodeKind;
+import org.instancio.internal.util.Fail;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependencies between assignment origins and destinations,
+ * computed once per node tree.
+ *
+ * <p>The graph is used for:
+ *
+ * <ul>
+ *   <li>ordering sibling nodes so that a node containing an origin
+ *       is generated before a sibling containing the destination.
+ *       This allows most destinations to be generated once, instead
+ *       of being delayed and re-attempted by the engine.</li>
+ *   <li>reporting assignments that can never be resolved, such as
+ *       cycles, before any values are generated.</li>
+ * </ul>
+ *
+ * <p>Values of origins within collection, map, and array elements
+ * are only available within the element's scope. Such origins are
+ * therefore not considered when ordering siblings, and the order
+ * of these nodes is determined by the engine as before.
+ */
+public final class AssignmentDependencyGraph {
+
+    private static final AssignmentDependencyGraph EMPTY = new AssignmentDependencyGraph(Collections.emptyMap());
+
+    private final Map<InternalNode, List<InternalNode>> orderedChildren;
+
+    private AssignmentDependencyGraph(final Map<InternalNode, List<InternalNode>> orderedChildren) {
+        this.orderedChildren = orderedChildren;
+    }
+
+    public static AssignmentDependencyGraph create(final ModelContext context, final InternalNode rootNode) {
+        if (!context.getSelectorMaps().hasAssignments()) {
+            return EMPTY;
+        }
+        final Builder builder = new Builder(context);
+        builder.collect(rootNode);
+
+        if (builder.dependencies.isEmpty()) {
+            return EMPTY;
+        }
+        if (!context.isFill()) {
+            builder.failOnUnresolvableAssignments();
+        }
+        return new AssignmentDependencyGraph(builder.orderChildren());
+    }
+
+    /**
+     * Returns children of the given node in the order they should be generated.
+     *
+     * @param node whose children to return
+     * @return ordered children
+     */
+    public List<InternalNode> getChildren(final InternalNode node) {
+        final List<InternalNode> children = orderedChildren.get(node);
+        return children == null ? node.getChildren() : children;
+    }
+
+    private static final class Builder {
+        private final ModelContext context;
+
+        // all non-ignored nodes in depth-first order
+        private final List<InternalNode> nodes = new ArrayList<>();
+        private final Map<TargetSelector, InternalNode> originNodes = new HashMap<>();
+        private final Map<InternalNode, Set<TargetSelector>> nodeOrigins = new IdentityHashMap<>();
+
+        // destination node -> origin selectors of its conditional assignments
+        private final Map<InternalNode, Set<TargetSelector>> dependencies = new IdentityHashMap<>();
+
+        // destination node -> the assignment that is always evaluated first
+        private final Map<InternalNode, InternalAssignment> requiredAssignments = new IdentityHashMap<>();
+
+        Builder(final ModelContext context) {
+            this.context = context;
+        }
+
+        void collect(final InternalNode rootNode) {
+            final Deque<InternalNode> stack = new ArrayDeque<>();
+            stack.push(rootNode);
+
+            while (!stack.isEmpty()) {
+                final InternalNode node = stack.pop();
+                if (node.isIgnored()) {
+                    continue;
+                }
+                nodes.add(node);
+
+                final Set<TargetSelector> origins = context.getAssignmentOriginSelectors(node);
+                if (!origins.isEmpty()) {
+                    nodeOrigins.put(node, origins);
+                    for (TargetSelector origin : origins) {
+                        originNodes.putIfAbsent(origin, node);
+                    }
+                }
+
+                collectDependencies(node);
+
+                final List<InternalNode> children = node.getChildren();
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    stack.push(children.get(i));
+                }
+            }
+        }
+
+        private void collectDependencies(final InternalNode node) {
+            final List<InternalAssignment> assignments = context.peekAssignments(node);
+            final Set<TargetSelector> origins = new LinkedHashSet<>();
+
+            // assignments are evaluated starting from the last one, and
+            // evaluation stops at the first unconditional assignment
+            for (int i = assignments.size() - 1; i >= 0; i--) {
+                final InternalAssignment assignment = assignments.get(i);
+                if (assignment.getOriginPredicate() == null && assignment.getGeneratorHolder() != null) {
+                    break;
+                }
+                if (origins.isEmpty()) {
+                    requiredAssignments.put(node, assignment);
+                }
+                origins.add(assignment.getOrigin());
+            }
+            if (!origins.isEmpty()) {
+                dependencies.put(node, origins);
+            }
+        }
+
+        /**
+         * Fails if there are destinations that can never be resolved.
+         *
+         * <p>Starting with all candidate destinations as unresolvable,
+         * destinations whose required origin may have a value (assuming all
+         * remaining candidates are unresolved) are removed until no more
+         * can be removed. The remaining destinations depend on each other's
+         * values, and therefore cannot be resolved in any order.
+         */
+        void failOnUnresolvableAssignments() {
+            final Set<InternalNode> unresolved = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            for (InternalNode node : requiredAssignments.keySet()) {
+                if (isCandidate(node)) {
+                    unresolved.add(node);
+                }
+            }
+
+            boolean changed = !unresolved.isEmpty();
+            while (changed) {
+                changed = false;
+                for (InternalNode node : new ArrayList<>(unresolved)) {
+                    final InternalNode origin = originNodes.get(requiredAssignments.get(node).getOrigin());
+                    if (!hasNoValue(origin, unresolved)) {
+                        unresolved.remove(node);
+                        changed = true;
+                    }
+                }
+            }
+
+            if (!unresolved.isEmpty()) {
+                final List<InternalNode> destinations = new ArrayList<>();
+                final List<InternalAssignment> assignments = new ArrayList<>();
+                for (InternalNode node : nodes) {
+                    if (unresolved.contains(node)) {
+                        destinations.add(node);
+                        assignments.add(requiredAssignments.get(node));
+                    }
+                }
+                throw Fail.withUnresolvedAssignment(AssignmentErrorUtil.getAssignmentCycleErrorMessage(
+                        assignments, destinations));
+            }
+        }
+
+        /**
+         * A destination is a candidate if it is always generated,
+         * and can only be resolved using its assignment.
+         */
+        private boolean isCandidate(final InternalNode node) {
+            final InternalAssignment assignment = requiredAssignments.get(node);
+            if (originNodes.get(assignment.getOrigin()) == null || context.isNullablePeek(node)) {
+                return false;
+            }
+            InternalNode parent = node.getParent();
+            while (parent != null) {
+                if (!(parent.is(NodeKind.POJO) || parent.is(NodeKind.RECORD))
+                        || !context.isDefaultGenerated(parent)) {
+                    return false;
+                }
+                parent = parent.getParent();
+            }
+            return true;
+        }
+
+        /**
+         * Returns {@code true} if the given origin cannot have a value
+         * while the given destinations remain unresolved.
+         */
+        private static boolean hasNoValue(final InternalNode origin, final Set<InternalNode> unresolved) {
+            for (InternalNode node : unresolved) {
+                if (node == origin || isAncestor(node, origin) || isBlockedBy(origin, node)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isAncestor(final InternalNode ancestor, final InternalNode node) {
+            for (InternalNode p = node.getParent(); p != null; p = p.getParent()) {
+                if (p == ancestor) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * A record cannot be created until all of its components
+         * have been resolved, including nested record components.
+         */
+        private static boolean isBlockedBy(final InternalNode node, final InternalNode delayed) {
+            for (InternalNode p = delayed.getParent(); p != null && p.is(NodeKind.RECORD); p = p.getParent()) {
+                if (p == node) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Map<InternalNode, List<InternalNode>> orderChildren() {
+            final Map<InternalNode, Set<TargetSelector>> provides = new IdentityHashMap<>();
+            final Map<InternalNode, Set<TargetSelector>> requires = new IdentityHashMap<>();
+
+            // process nodes bottom-up, so that children are processed before parents
+            for (int i = nodes.size() - 1; i >= 0; i--) {
+                final InternalNode node = nodes.get(i);
+                final Set<TargetSelector> nodeProvides = copyOf(nodeOrigins.get(node));
+                final Set<TargetSelector> nodeRequires = copyOf(dependencies.get(node));
+
+                // origins within elements are scoped to the element
+                final boolean isScopeBoundary = !(node.is(NodeKind.POJO) || node.is(NodeKind.RECORD));
+
+                for (InternalNode child : node.getChildren()) {
+                    if (!isScopeBoundary) {
+                        addAll(nodeProvides, provides.get(child));
+                    }
+                    addAll(nodeRequires, requires.get(child));
+                }
+                if (!nodeProvides.isEmpty()) {
+                    provides.put(node, nodeProvides);
+                }
+                if (!nodeRequires.isEmpty()) {
+                    requires.put(node, nodeRequires);
+                }
+            }
+
+            final Map<InternalNode, List<InternalNode>> results = new IdentityHashMap<>();
+            for (InternalNode node : nodes) {
+                if ((node.is(NodeKind.POJO) || node.is(NodeKind.RECORD)) && node.getChildren().size() > 1) {
+                    final List<InternalNode> ordered = orderSiblings(node.getChildren(), provides, requires);
+                    if (ordered != null) {
+                        results.put(node, ordered);
+                    }
+                }
+            }
+            return results;
+        }
+
+        /**
+         * Orders siblings topologically, preserving the original order
+         * where there are no dependencies. Siblings that depend on each
+         * other retain their original order.
+         *
+         * @return ordered siblings, or {@code null} if the order is unchanged
+         */
+        @Nullable
+        private static List<InternalNode> orderSiblings(
+                final List<InternalNode> children,
+                final Map<InternalNode, Set<TargetSelector>> provides,
+                final Map<InternalNode, Set<TargetSelector>> requires) {
+
+            final int size = children.size();
+            final int[] inDegree = new int[size];
+            final List<List<Integer>> dependents = new ArrayList<>(size);
+            boolean hasDependencies = false;
+
+            for (int i = 0; i < size; i++) {
+                dependents.add(new ArrayList<>(0));
+            }
+            for (int a = 0; a < size; a++) {
+                final Set<TargetSelector> provided = provides.get(children.get(a));
+                if (provided == null) {
+                    continue;
+                }
+                for (int b = 0; b < size; b++) {
+                    final Set<TargetSelector> required = requires.get(children.get(b));
+                    if (a != b && required != null && !Collections.disjoint(provided, required)) {
+                        dependents.get(a).add(b);
+                        inDegree[b]++;
+                        hasDependencies = true;
+                    }
+                }
+            }
+            if (!hasDependencies) {
+                return null;
+            }
+
+            final List<InternalNode> ordered = new ArrayList<>(size);
+            final boolean[] added = new boolean[size];
+            boolean progress = true;
+            while (progress) {
+                progress = false;
+                for (int i = 0; i < size; i++) {
+                    if (!added[i] && inDegree[i] == 0) {
+                        added[i] = true;
+                        ordered.add(children.get(i));
+                        for (int dependent : dependents.get(i)) {
+                            inDegree[dependent]--;
+                        }
+                        progress = true;
+                        // restart to keep the original order where possible
+                        break;
+                    }
+                }
+            }
+            // siblings that depend on each other
+            for (int i = 0; i < size; i++) {
+                if (!added[i]) {
+                    ordered.add(children.get(i));
+                }
+            }
+            return ordered.equals(children) ? null : Collections.unmodifiableList(ordered);
+        }
+
+        private static Set<TargetSelector> copyOf(@Nullable final Set<TargetSelector> set) {
+            return set == null ? new HashSet<>() : new HashSet<>(set);
+        }
+
+        private static void addAll(final Set<TargetSelector> target, @Nullable final Set<TargetSelector> source) {
+            if (source != null) {
+                target.addAll(source);
+            }
+        }
+    }
+}
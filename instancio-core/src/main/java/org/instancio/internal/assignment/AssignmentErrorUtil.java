@@ -21,6 +21,7 @@ import org.instancio.internal.DelayedNodeQueue;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.util.Format;
 
+import java.util.List;
 import java.util.Set;
 
 import static org.instancio.internal.util.Constants.NL;
@@ -62,6 +63,44 @@ public final class AssignmentErrorUtil {
                         .append(" (depth=").append(node.getDepth()).append(')')
                         .append(NL));
 
+        appendPossibleCauses(sb);
+        return sb.toString();
+    }
+
+    public static String getAssignmentCycleErrorMessage(
+            final List<InternalAssignment> assignments,
+            final List<InternalNode> destinations) {
+
+        final StringBuilder sb = new StringBuilder(2048)
+                .append("unresolved assignment expression").append(NL)
+                .append(NL)
+                .append("The following assignments depend on each other and cannot be applied:").append(NL)
+                .append(NL);
+
+        for (InternalAssignment assignment : assignments) {
+            sb.append(" -> from [")
+                    .append(assignment.getOrigin())
+                    .append("] to [")
+                    .append(assignment.getDestination())
+                    .append(']')
+                    .append(NL);
+        }
+
+        sb.append(NL)
+                .append("As a result, the following targets could not be assigned a value:").append(NL)
+                .append(NL);
+
+        for (InternalNode node : destinations) {
+            sb.append(" -> ").append(node.toDisplayString())
+                    .append(" (depth=").append(node.getDepth()).append(')')
+                    .append(NL);
+        }
+
+        appendPossibleCauses(sb);
+        return sb.toString();
+    }
+
+    private static void appendPossibleCauses(final StringBuilder sb) {
         sb.append(NL)
                 .append("Possible causes:").append(NL)
                 .append(NL)
@@ -80,8 +119,6 @@ public final class AssignmentErrorUtil {
                 .append("                .set(When.is(Gender.FEMALE), \"Fiona\")").append(NL)
                 .append("                .set(When.is(Gender.MALE), \"Michael\"))").append(NL)
                 .append("        .create();").append(NL);
-
-        return sb.toString();
     }
 
     @SuppressWarnings({"StringBufferReplaceableByString", "UnnecessaryStringBuilder"})
@@ -119,6 +119,11 @@ final class AssignmentSelectorMap {
         return value.orElse(Collections.emptyList());
     }
 
+    List<InternalAssignment> peekAssignments(final InternalNode node) {
+        final Optional<List<InternalAssignment>> value = destinationToAssignmentsMap.peekValue(node);
+        return value.orElse(Collections.emptyList());
+    }
+
     /**
      * Contains origin selectors.
      *
@@ -20,6 +20,8 @@ import org.instancio.TargetSelector;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generators.Generators;
+import org.instancio.internal.generator.misc.EmitGenerator;
+import org.instancio.internal.generator.sequence.AbstractNumericSequenceGenerator;
 import org.instancio.internal.generators.BuiltInGenerators;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.util.Sonar;
@@ -34,6 +36,7 @@ class GeneratorSelectorMap {
     private final GeneratorInitialiser generatorInitialiser;
     private final SelectorMap<Generator<?>> selectorMap = new SelectorMapImpl<>();
     private final Generators generators;
+    private boolean hasStatefulSpecs;
 
     GeneratorSelectorMap(final GeneratorContext generatorContext) {
         this.generators = new BuiltInGenerators(generatorContext);
@@ -45,7 +48,11 @@ class GeneratorSelectorMap {
     }
 
     void putGeneratorSpec(final TargetSelector targetSelector, final GeneratorSpecProvider<?> genFn) {
-        addToSelectorMap(targetSelector, (Generator<?>) genFn.getSpec(generators));
+        final Generator<?> generator = (Generator<?>) genFn.getSpec(generators);
+        hasStatefulSpecs |= generator instanceof EmitGenerator
+                || generator instanceof AbstractNumericSequenceGenerator;
+
+        addToSelectorMap(targetSelector, generator);
     }
 
     void putAllGenerators(final Map<TargetSelector, Generator<?>> generatorMap) {
@@ -65,6 +72,15 @@ class GeneratorSelectorMap {
         selectorMap.put(targetSelector, generator);
     }
 
+    /**
+     * Returns {@code true} if any of the generators created from
+     * generator specs keeps state between generated values,
+     * for example {@code emit()} or {@code intSeq()}.
+     */
+    boolean hasStatefulSpecs() {
+        return hasStatefulSpecs;
+    }
+
     SelectorMap<Generator<?>> getSelectorMap() {
         return selectorMap;
     }
@@ -16,7 +16,6 @@
 package org.instancio.internal.context;
 
 import org.instancio.Assignment;
-import org.instancio.FilterPredicate;
 import org.instancio.GeneratorSpecProvider;
 import org.instancio.Model;
 import org.instancio.OnCompleteCallback;
@@ -37,6 +36,7 @@ import org.instancio.internal.RootType;
 import org.instancio.internal.assignment.InternalAssignment;
 import org.instancio.internal.feed.InternalFeedContext;
 import org.instancio.internal.feed.InternalFeedProxy;
+import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.generator.misc.GeneratorDecorator;
 import org.instancio.internal.generator.misc.ObjectFillingGenerator;
 import org.instancio.internal.nodes.InternalNode;
@@ -49,6 +49,7 @@ import org.instancio.internal.spi.InternalServiceProvider;
 import org.instancio.internal.spi.InternalServiceProviderContext;
 import org.instancio.internal.spi.InternalServiceProviderImpl;
 import org.instancio.internal.spi.Providers;
+import org.instancio.internal.unique.UniqueValueFilter;
 import org.instancio.internal.util.CollectionUtils;
 import org.instancio.internal.util.ErrorMessageUtils;
 import org.instancio.internal.util.Fail;
@@ -61,15 +62,16 @@ import org.instancio.settings.Keys;
 import org.instancio.settings.Mode;
 import org.instancio.settings.SettingKey;
 import org.instancio.settings.Settings;
+import org.instancio.support.DefaultRandom;
 import org.instancio.support.Global;
 import org.instancio.support.Log;
+import org.instancio.support.Seeds;
 import org.instancio.support.ThreadLocalSettings;
 import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -98,21 +100,26 @@ public final class ModelContext {
     private final boolean verbose;
     private final Settings settings;
     private final Random random;
+    private final boolean ownsRandom;
     private final SelectorMaps selectorMaps;
     private final Providers providers;
+    private final boolean fill;
 
     private ModelContext(final Builder builder) {
         contextSource = builder.getModelContextSource();
         rootType = new RootType(builder.rootType, contextSource.getWithTypeParametersList());
+        fill = builder.fillObject != null;
         maxDepth = builder.maxDepth;
         seed = builder.seed;
         verbose = builder.verbose;
         settings = createSettings(builder);
-        random = RandomHelper.resolveRandom(settings.get(Keys.SEED), builder.seed);
+        random = RandomHelper.resolveRandom(settings, builder.seed, rootType.getType());
+        ownsRandom = !RandomHelper.isShared(random);
 
         final GeneratorContext generatorContext = new GeneratorContext(settings, random);
         selectorMaps = new SelectorMaps(contextSource, generatorContext);
         providers = new Providers(new InternalServiceProviderContext(settings, random));
+        initUniqueValueFilters();
 
         if (builder.fillObject != null) {
             final Generator<?> generator = new ObjectFillingGenerator(
@@ -123,6 +130,14 @@ public final class ModelContext {
         }
     }
 
+    private void initUniqueValueFilters() {
+        for (Predicate<?> predicate : contextSource.getFilterMap().values()) {
+            if (predicate instanceof UniqueValueFilter filter) {
+                filter.init(settings, random);
+            }
+        }
+    }
+
     private static Settings createSettings(final Builder builder) {
         final Settings threadLocalSettings = ThreadLocalSettings.getInstance().get();
         final Settings builderSettings = builder.settings;
@@ -195,6 +210,64 @@ public final class ModelContext {
         return random;
     }
 
+    /**
+     * Returns {@code true} if this context can be reused for
+     * generating multiple root objects (see {@link Keys#COMPILED_MODEL_ENABLED}).
+     *
+     * <p>Contexts with stateful generators, such as {@code emit()},
+     * {@code intSeq()} or feeds, are not reused, so that each object
+     * is generated as if the context had been built for it.
+     *
+     * @return whether this context can be reused
+     */
+    public boolean isReusable() {
+        return settings.get(Keys.COMPILED_MODEL_ENABLED)
+                && !selectorMaps.hasStatefulGenerators();
+    }
+
+    /**
+     * Prepares this context for generating another root object
+     * when a compiled model is reused.
+     *
+     * <p>The random instance is resolved again using the same precedence
+     * rules as when the context was created. If a new instance would be
+     * created, this context's own random is re-seeded accordingly.
+     *
+     * @return {@code true} if the context can be reused, or {@code false}
+     * if the random resolved for the new run cannot be applied to
+     * this context (for example, when running under a different test
+     * with a new random supplied by the JUnit extension)
+     * @see Keys#COMPILED_MODEL_ENABLED
+     */
+    public boolean prepareForReuse() {
+        final Random resolved = RandomHelper.resolveRandom(settings, seed, rootType.getType());
+        if (resolved == random) {
+            return true;
+        }
+        if (ownsRandom && !RandomHelper.isShared(resolved)) {
+            final DefaultRandom newRandom = (DefaultRandom) resolved;
+            ((DefaultRandom) random).reseed(newRandom.getSeed(), newRandom.getSource());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Re-seeds this context's random with the given seed,
+     * as if the context had been created using {@code withSeed(seed)}.
+     *
+     * @param seed new seed value
+     * @return {@code true} if the random was re-seeded, or {@code false}
+     * if the random is shared and therefore cannot be re-seeded
+     */
+    public boolean reseed(final long seed) {
+        if (!ownsRandom) {
+            return false;
+        }
+        ((DefaultRandom) random).reseed(seed, Seeds.Source.MANUAL);
+        return true;
+    }
+
     public boolean isVerbose() {
         return verbose;
     }
@@ -208,6 +281,16 @@ public final class ModelContext {
         return selectorMaps;
     }
 
+    /**
+     * Returns {@code true} if this context is used for populating
+     * an existing object via {@code Instancio.ofObject()}.
+     *
+     * @return whether an existing object is being filled
+     */
+    public boolean isFill() {
+        return fill;
+    }
+
     public boolean isIgnored(final InternalNode node) {
         return selectorMaps.getIgnoreSelectorMap().isTrue(node);
     }
@@ -216,11 +299,22 @@ public final class ModelContext {
         return selectorMaps.getWithNullableSelectorMap().isTrue(node);
     }
 
+    public boolean isAccepted(final InternalNode node, final GeneratorResult result) {
+        return isAccepted(node, result.getValue(), result.getHints() == UniqueValueFilter.PERMUTATION_HINTS);
+    }
+
     public boolean isAccepted(final InternalNode node, @Nullable final Object value) {
+        return isAccepted(node, value, false);
+    }
+
+    private boolean isAccepted(final InternalNode node, @Nullable final Object value, final boolean fromPermutation) {
         Predicate<Object> predicate = selectorMaps.getFilterSelectorMap().getPredicate(node);
         if (predicate == null) {
             return true;
         }
+        if (predicate instanceof UniqueValueFilter filter) {
+            return filter.test(node, value, fromPermutation);
+        }
         try {
             return predicate.test(value);
         } catch (Exception ex) {
@@ -228,6 +322,12 @@ public final class ModelContext {
         }
     }
 
+    @Nullable
+    public UniqueValueFilter getUniqueValueFilter(final InternalNode node) {
+        final Predicate<Object> predicate = selectorMaps.getFilterSelectorMap().getPredicate(node);
+        return predicate instanceof UniqueValueFilter filter ? filter : null;
+    }
+
     @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
     public Optional<Generator<?>> getGenerator(final InternalNode node) {
         return selectorMaps.getGeneratorSelectorMap().getGenerator(node);
@@ -262,6 +362,44 @@ public final class ModelContext {
         return selectorMaps.getAssignmentSelectorMap().getAssignments(node);
     }
 
+    /**
+     * Returns assignments whose destination matches the given node
+     * without marking destination selectors as used.
+     *
+     * @param node destination node
+     * @return assignments for the node, or an empty list if none
+     */
+    public List<InternalAssignment> peekAssignments(final InternalNode node) {
+        return selectorMaps.getAssignmentSelectorMap().peekAssignments(node);
+    }
+
+    /**
+     * Returns {@code true} if the given node is nullable without
+     * marking {@code withNullable()} selectors as used.
+     *
+     * @param node to check
+     * @return whether the node is nullable
+     */
+    public boolean isNullablePeek(final InternalNode node) {
+        return selectorMaps.getWithNullableSelectorMap().getSelectorMap().peekValue(node)
+                .orElse(false);
+    }
+
+    /**
+     * Returns {@code true} if the given node is not nullable and its value
+     * is not customised using a generator, feed, or assignment. Unlike other
+     * lookups, this method does not mark matching selectors as used.
+     *
+     * @param node to check
+     * @return whether the node is always generated by the engine
+     */
+    public boolean isDefaultGenerated(final InternalNode node) {
+        return !isNullablePeek(node)
+                && selectorMaps.getGeneratorSelectorMap().getSelectorMap().peekValue(node).isEmpty()
+                && selectorMaps.getFeedSelectorMap().getSelectorMap().peekValue(node).isEmpty()
+                && peekAssignments(node).isEmpty();
+    }
+
     public BooleanSelectorMap getAssignmentOriginSelectorMap() {
         return selectorMaps.getAssignmentSelectorMap().getOriginSelectors();
     }
@@ -406,16 +544,9 @@ public final class ModelContext {
         }
 
         public Builder withUnique(final TargetSelector selector) {
-            final FilterPredicate<Object> predicate = new FilterPredicate<>() {
-                final Set<Object> generatedValues = new HashSet<>();
-
-                @Override
-                public boolean test(final Object obj) {
-                    return generatedValues.add(obj);
-                }
-            };
-            // withUnique() is implemented using filter()
-            return addFilterPredicate(selector, predicate, ApiMethodSelector.WITH_UNIQUE);
+            // withUnique() is implemented using filter();
+            // the filter is initialised once settings have been resolved
+            return addFilterPredicate(selector, new UniqueValueFilter(), ApiMethodSelector.WITH_UNIQUE);
         }
 
         private Builder addFilterPredicate(
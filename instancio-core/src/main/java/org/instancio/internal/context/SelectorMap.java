@@ -66,6 +66,17 @@ public interface SelectorMap<V> {
      */
     Optional<V> getValue(InternalNode node);
 
+    /**
+     * Returns the same value as {@link #getValue(InternalNode)}
+     * without marking the matching selector as used. This allows
+     * inspecting the node tree before generation without affecting
+     * unused selector reporting.
+     *
+     * @param node for which to look up the value
+     * @return value for given node, if present
+     */
+    Optional<V> peekValue(InternalNode node);
+
     /**
      * Returns all values for given node, including those matched by predicate selectors.
      *
@@ -41,6 +41,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -66,6 +67,16 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
     private final Set<TargetSelector> unusedSelectors = new LinkedHashSet<>(4);
     private boolean isEmpty = true;
 
+    /**
+     * Resolved values keyed by node identity. Since the node tree and
+     * the selectors are fixed once the context has been built, matching
+     * selectors for a given node only need to be resolved once.
+     * The caches are created lazily and discarded whenever a new
+     * selector is added to the map.
+     */
+    private @Nullable Map<InternalNode, Optional<V>> valueCache;
+    private @Nullable Map<InternalNode, List<V>> valuesCache;
+
     /**
      * Predicate selector precedence is based on priority (lower values are higher priority)
      * and insertion order (last added wins).
@@ -90,6 +101,8 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
     @Override
     public void put(final TargetSelector targetSelector, final V value) {
         isEmpty = false;
+        valueCache = null;
+        valuesCache = null;
 
         if (!((InternalSelector) targetSelector).isLenient()) {
             unusedSelectors.add(targetSelector);
@@ -120,20 +133,51 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
         if (isEmpty) {
             return Optional.empty();
         }
+        if (valueCache == null) {
+            valueCache = new IdentityHashMap<>();
+        }
+        Optional<V> value = valueCache.get(node);
+        if (value == null) {
+            value = resolveValue(node);
+            valueCache.put(node, value);
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<V> peekValue(final InternalNode node) {
+        if (isEmpty) {
+            return Optional.empty();
+        }
+        if (valueCache != null && valueCache.containsKey(node)) {
+            return valueCache.get(node);
+        }
+        // the result is not cached since cached values
+        // are assumed to have been marked as used
+        return resolveValue(node, false);
+    }
+
+    private Optional<V> resolveValue(final InternalNode node) {
+        return resolveValue(node, true);
+    }
+
+    private Optional<V> resolveValue(final InternalNode node, final boolean markUsed) {
         final List<SelectorImpl> withParent = getSelectorsWithParent(node, getCandidates(node), FIND_ONE_ONLY);
 
         if (!withParent.isEmpty()) {
             final SelectorImpl selector = withParent.get(0);
-            markUsed(selector);
+            if (markUsed) {
+                markUsed(selector);
+            }
             return Optional.ofNullable(this.selectors.get(selector));
         }
 
-        return getPredicateSelectorMatch(node);
+        return getPredicateSelectorMatch(node, markUsed);
     }
 
-    private Optional<V> getPredicateSelectorMatch(final InternalNode node) {
+    private Optional<V> getPredicateSelectorMatch(final InternalNode node, final boolean markUsed) {
         for (PredicateSelectorEntry<V> entry : predicateSelectors) {
-            if (isPredicateMatch(node, entry)) {
+            if (isPredicateMatch(node, entry, markUsed)) {
                 return Optional.of(entry.value);
             }
         }
@@ -145,6 +189,18 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
         if (isEmpty) {
             return emptyList();
         }
+        if (valuesCache == null) {
+            valuesCache = new IdentityHashMap<>();
+        }
+        List<V> values = valuesCache.get(node);
+        if (values == null) {
+            values = resolveValues(node);
+            valuesCache.put(node, values);
+        }
+        return values;
+    }
+
+    private List<V> resolveValues(final InternalNode node) {
         final List<SelectorImpl> selectorsWithParent = getSelectorsWithParent(node, getCandidates(node), !FIND_ONE_ONLY);
         final List<V> values = new ArrayList<>();
 
@@ -159,7 +215,7 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
             }
         }
 
-        return values;
+        return values.isEmpty() ? emptyList() : Collections.unmodifiableList(values);
     }
 
     @Override
@@ -205,13 +261,21 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
     }
 
     private boolean isPredicateMatch(final InternalNode targetNode, final PredicateSelectorEntry<?> entry) {
+        return isPredicateMatch(targetNode, entry, true);
+    }
+
+    private boolean isPredicateMatch(
+            final InternalNode targetNode,
+            final PredicateSelectorEntry<?> entry,
+            final boolean markUsed) {
+
         final boolean isMatch = entry.predicateSelector.getNodePredicate().test(targetNode)
                 // Predicate selector depth is captured as a Predicate<Integer>
                 // and it is checked by getNodePredicate() above.
                 // Therefore, passing null below
                 && selectorScopesMatchNodeHierarchy(/*candidateDepth = */ null, entry.predicateSelector.getScopes(), targetNode);
 
-        if (isMatch) {
+        if (isMatch && markUsed) {
             unusedSelectors.remove(entry.predicateSelector);
         }
 
@@ -23,6 +23,7 @@ import org.instancio.feed.Feed;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.assignment.InternalAssignment;
+import org.instancio.internal.selectors.SelectorImpl;
 import org.instancio.internal.util.TypeUtils;
 
 import java.util.ArrayList;
@@ -203,7 +204,65 @@ public final class SelectorMaps {
     }
 
     public boolean hasGenerators() {
-        return !generatorSelectorMap.getSelectorMap().isEmpty();
+        // feed specs are added as generators when nodes are created,
+        // which may happen during generation if nodes are expanded lazily
+        return !generatorSelectorMap.getSelectorMap().isEmpty()
+                || !feedSelectorMap.getSelectorMap().isEmpty();
+    }
+
+    /**
+     * Returns {@code true} if generators created by this context, such as
+     * {@code emit()}, {@code intSeq()} or feeds, keep state between objects.
+     * The state is only reset when a new context is built.
+     */
+    public boolean hasStatefulGenerators() {
+        return generatorSelectorMap.hasStatefulSpecs()
+                || !feedSelectorMap.getSelectorMap().isEmpty();
+    }
+
+    /**
+     * Returns the maximum depth of nodes that can be matched by unused
+     * selectors of generators, callbacks, subtypes, assignments,
+     * {@code ignore()} and {@code withNullable()}.
+     *
+     * @return maximum depth, {@link Integer#MAX_VALUE} if a selector
+     * is not restricted to a specific depth, or {@code -1}
+     * if all of these selectors have been used
+     */
+    public int getMaxUnusedSelectorDepth() {
+        int depth = -1;
+        depth = getMaxUnusedSelectorDepth(depth, generatorSelectorMap.getSelectorMap());
+        depth = getMaxUnusedSelectorDepth(depth, onCompleteSelectorMap.getSelectorMap());
+        depth = getMaxUnusedSelectorDepth(depth, subtypeSelectorMap.getSelectorMap());
+        depth = getMaxUnusedSelectorDepth(depth, assignmentSelectorMap.getDestinationToAssignmentsMap());
+        depth = getMaxUnusedSelectorDepth(depth, assignmentSelectorMap.getOriginToDestinationSelectorsMap());
+        depth = getMaxUnusedSelectorDepth(depth, ignoreSelectorMap.getSelectorMap());
+        depth = getMaxUnusedSelectorDepth(depth, withNullableSelectorMap.getSelectorMap());
+        return depth;
+    }
+
+    private static int getMaxUnusedSelectorDepth(final int depth, final SelectorMap<?> selectorMap) {
+        int result = depth;
+        for (TargetSelector selector : selectorMap.getUnusedKeys()) {
+            if (result == Integer.MAX_VALUE) {
+                break;
+            }
+            result = Math.max(result, getMaxDepth(selector));
+        }
+        return result;
+    }
+
+    private static int getMaxDepth(final TargetSelector selector) {
+        if (selector instanceof SelectorImpl s) {
+            if (s.isRootSelector()) {
+                return 0;
+            }
+            if (s.getDepth() != null) {
+                return s.getDepth();
+            }
+        }
+        // predicate selectors and selectors without depth
+        return Integer.MAX_VALUE;
     }
 
     public boolean hasCallbacks() {
@@ -214,7 +273,20 @@ public final class SelectorMaps {
         return !assignmentSelectorMap.getOriginSelectors().getSelectorMap().isEmpty();
     }
 
+    public boolean hasFilters() {
+        return !filterSelectorMap.getSelectorMap().isEmpty();
+    }
+
     public boolean hasSetModels() {
         return !setModelSelectorMap.getSelectorMap().isEmpty();
     }
+
+    /**
+     * Returns {@code true} if any selectors affect the structure
+     * of the node hierarchy, that is ignored nodes or subtypes.
+     */
+    public boolean hasNodeStructureSelectors() {
+        return !ignoreSelectorMap.getSelectorMap().isEmpty()
+                || !subtypeSelectorMap.getSelectorMap().isEmpty();
+    }
 }
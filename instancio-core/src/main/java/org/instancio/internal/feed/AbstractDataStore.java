@@ -26,11 +26,15 @@ import static java.util.Collections.unmodifiableList;
 
 public abstract class AbstractDataStore<R> implements DataStore<R> {
 
+    // a reference in the list of all records and in the list of records by tag
+    private static final int RECORD_REFERENCE_BYTES = 16;
+
     private final List<R> data;
     private final String tagKey;
     private final Map<String, Integer> fieldIndexMap;
     private final List<String> tagKeys;
     private final Map<String, List<R>> groupedByTag;
+    private final long estimatedBytes;
 
     protected AbstractDataStore(final String tagKey, final List<R> data) {
         ApiValidator.isFalse(data.isEmpty(), "empty data source");
@@ -39,6 +43,15 @@ public abstract class AbstractDataStore<R> implements DataStore<R> {
         this.fieldIndexMap = createFieldIndexMap(data);
         this.groupedByTag = groupDataByTag(tagKey, fieldIndexMap, data);
         this.tagKeys = unmodifiableList(new ArrayList<>(groupedByTag.keySet()));
+        this.estimatedBytes = estimateBytes(data);
+    }
+
+    private long estimateBytes(final List<R> data) {
+        long bytes = 0;
+        for (R record : data) {
+            bytes += RECORD_REFERENCE_BYTES + estimateRecordBytes(record);
+        }
+        return bytes;
     }
 
     protected abstract Map<String, Integer> createFieldIndexMap(List<R> data);
@@ -48,6 +61,11 @@ public abstract class AbstractDataStore<R> implements DataStore<R> {
             Map<String, Integer> fieldIndexMap,
             List<R> data);
 
+    /**
+     * Returns the estimated number of bytes retained by the given record.
+     */
+    protected abstract long estimateRecordBytes(R record);
+
     protected final List<R> getData() {
         return data;
     }
@@ -78,4 +96,9 @@ public abstract class AbstractDataStore<R> implements DataStore<R> {
     public final List<String> getTagKeys() {
         return tagKeys;
     }
+
+    @Override
+    public final long getEstimatedBytes() {
+        return estimatedBytes;
+    }
 }
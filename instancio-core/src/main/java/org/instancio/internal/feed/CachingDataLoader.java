@@ -18,26 +18,41 @@ package org.instancio.internal.feed;
 import org.instancio.exception.InstancioTerminatingException;
 import org.instancio.feed.DataSource;
 import org.instancio.internal.feed.datasource.CacheableDataSource;
+import org.instancio.internal.jfr.InstancioEvents;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.Sonar;
 
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 
 import static org.instancio.internal.util.ErrorMessageUtils.feedDataSourceIoErrorMessage;
 
 public class CachingDataLoader {
 
-    private static final Map<Object, DataStore<?>> CACHE = new ConcurrentHashMap<>();
-
     @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
     public DataStore<?> loadData(
             final InternalFeedContext<?> feedContext,
             final DataLoader<?> dataLoader,
             final BiFunction<String, List<?>, DataStore<?>> tagKeyToDataStoreMapper) {
 
+        return loadDataStore(feedContext, (tagKey, dataSource) -> {
+            final List<?> data = (List<?>) tryLoad(dataLoader, dataSource);
+            return tagKeyToDataStoreMapper.apply(tagKey, data);
+        });
+    }
+
+    /**
+     * Loads a data store using the given factory, which receives
+     * the tag key and the data source. This method can be used
+     * for data stores that read the data source directly instead
+     * of using a {@link DataLoader}.
+     */
+    @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
+    public DataStore<?> loadDataStore(
+            final InternalFeedContext<?> feedContext,
+            final BiFunction<String, DataSource, DataStore<?>> dataStoreFactory) {
+
         final DataSource dataSource = feedContext.getDataSource();
         final String tagKey = feedContext.getTagKey();
 
@@ -45,20 +60,34 @@ public class CachingDataLoader {
                 ? cacheableDataSource.getKey()
                 : null;
 
+        final Object event = InstancioEvents.beginFeedLoad();
+
         if (cacheKey == null) {
-            final List<?> data = tryLoad(dataLoader, dataSource);
-            return tagKeyToDataStoreMapper.apply(tagKey, data);
+            final DataStore<?> dataStore = dataStoreFactory.apply(tagKey, dataSource);
+            InstancioEvents.endFeedLoad(event, dataSource.getName(), dataStore, false);
+            return dataStore;
         }
 
-        return CACHE.computeIfAbsent(cacheKey, mapKey -> {
-            final List<?> data = tryLoad(dataLoader, dataSource);
-            return tagKeyToDataStoreMapper.apply(tagKey, data);
-        });
+        final AtomicBoolean loaded = new AtomicBoolean();
+        final DataStore<?> dataStore = FeedCacheImpl.getInstance().get(
+                cacheKey,
+                feedContext.getGeneratorContext().getSettings(),
+                () -> {
+                    loaded.set(true);
+                    return dataStoreFactory.apply(tagKey, dataSource);
+                });
+
+        InstancioEvents.endFeedLoad(event, dataSource.getName(), dataStore, !loaded.get());
+        return dataStore;
     }
 
-    private static List<?> tryLoad(final DataLoader<?> dataLoader, final DataSource dataSource) {
+    /**
+     * Loads data using the given loader, reporting
+     * errors other than terminating errors as usage errors.
+     */
+    public static <T> T tryLoad(final DataLoader<T> dataLoader, final DataSource dataSource) {
         try {
-            return (List<?>) dataLoader.load(dataSource);
+            return dataLoader.load(dataSource);
         } catch (InstancioTerminatingException ex) {
             throw ex;
         } catch (Exception ex) {
@@ -49,4 +49,10 @@ public interface DataStore<T> {
     boolean contains(String propertyName);
 
     int size();
+
+    /**
+     * Returns the estimated number of bytes retained by this data store.
+     * The estimate is used for limiting the size of cached feed data.
+     */
+    long getEstimatedBytes();
 }
\ No newline at end of file
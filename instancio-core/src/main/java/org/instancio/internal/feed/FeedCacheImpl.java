@@ -0,0 +1,341 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.feed.Feed;
+import org.instancio.feed.FeedCache;
+import org.instancio.feed.FeedCacheStats;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.FeedApiImpl;
+import org.instancio.internal.util.Sonar;
+import org.instancio.settings.FeedCacheEviction;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.SoftReference;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A global cache of loaded feed data, bounded by the number of entries
+ * and the estimated size of the data.
+ *
+ * <p>Each key is mapped to a cache entry that is added to the map before
+ * the data is loaded. The data is then loaded while holding the lock of
+ * the entry (but not the lock of the map), so that concurrent requests
+ * for the same data do not load it more than once.
+ * Eviction is performed after an entry has been loaded.
+ */
+public final class FeedCacheImpl implements FeedCache {
+
+    private static final FeedCacheImpl INSTANCE = new FeedCacheImpl();
+
+    private final Map<Object, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> loadCounts = new ConcurrentHashMap<>();
+    private final AtomicLong accessCounter = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadTimeNanos = new LongAdder();
+
+    private FeedCacheImpl() {
+        // singleton
+    }
+
+    public static FeedCacheImpl getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns cached data for the given key, loading it
+     * using the {@code loader} if it is not cached.
+     *
+     * @param key      the cache key
+     * @param settings settings of the feed that the data is being loaded for
+     * @param loader   loads the data
+     * @return the data store
+     */
+    DataStore<?> get(final Object key, final Settings settings, final Supplier<DataStore<?>> loader) {
+        final CacheEntry existing = entries.get(key);
+        final DataStore<?> cached = existing == null ? null : existing.get();
+        if (cached != null) {
+            hitCount.increment();
+            existing.recordAccess(accessCounter.incrementAndGet());
+            return cached;
+        }
+
+        final int maxEntries = settings.get(Keys.FEED_CACHE_MAX_ENTRIES);
+        final long maxBytes = settings.get(Keys.FEED_CACHE_MAX_BYTES);
+        if (maxEntries <= 0) {
+            return load(key, loader);
+        }
+
+        final boolean softReferences = settings.get(Keys.FEED_CACHE_SOFT_REFERENCES);
+        final CacheEntry entry = entries.computeIfAbsent(key, k -> new CacheEntry(softReferences));
+
+        DataStore<?> loaded = null;
+        synchronized (entry) {
+            if (!entry.isLoaded()) {
+                try {
+                    loaded = load(key, loader);
+                } catch (RuntimeException ex) {
+                    entries.remove(key, entry);
+                    throw ex;
+                }
+                entry.set(loaded, accessCounter.incrementAndGet());
+            }
+        }
+
+        if (loaded == null) {
+            if (entry.get() == null && entries.remove(key, entry)) {
+                // reclaimed by the garbage collector
+                evictionCount.increment();
+            }
+            // otherwise loaded by another thread
+            return get(key, settings, loader);
+        }
+
+        if (loaded.getEstimatedBytes() > maxBytes) {
+            entries.remove(key, entry);
+        } else {
+            evict(key, maxEntries, maxBytes, settings.get(Keys.FEED_CACHE_EVICTION));
+        }
+        return loaded;
+    }
+
+    private DataStore<?> load(final Object key, final Supplier<DataStore<?>> loader) {
+        missCount.increment();
+        loadCounts.computeIfAbsent(String.valueOf(key), k -> new AtomicInteger()).incrementAndGet();
+
+        final long start = System.nanoTime();
+        try {
+            return loader.get();
+        } finally {
+            loadTimeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Evicts entries until the cache is within the given limits.
+     * The entry that has just been added is not evicted.
+     */
+    private synchronized void evict(
+            final Object addedKey,
+            final int maxEntries,
+            final long maxBytes,
+            final FeedCacheEviction eviction) {
+
+        // remove data reclaimed by the garbage collector first
+        entries.forEach((key, entry) -> {
+            if (entry.isLoaded() && entry.get() == null && entries.remove(key, entry)) {
+                evictionCount.increment();
+            }
+        });
+
+        final Comparator<CacheEntry> comparator = eviction == FeedCacheEviction.LFU
+                ? Comparator.comparingLong(CacheEntry::getAccessCount).thenComparingLong(CacheEntry::getLastAccess)
+                : Comparator.comparingLong(CacheEntry::getLastAccess);
+
+        while (entries.size() > maxEntries || getEstimatedBytes() > maxBytes) {
+            Map.Entry<Object, CacheEntry> victim = null;
+            for (Map.Entry<Object, CacheEntry> candidate : entries.entrySet()) {
+                if (!candidate.getKey().equals(addedKey)
+                        && candidate.getValue().isLoaded()
+                        && (victim == null || comparator.compare(candidate.getValue(), victim.getValue()) < 0)) {
+                    victim = candidate;
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            if (entries.remove(victim.getKey(), victim.getValue())) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private long getEstimatedBytes() {
+        long bytes = 0;
+        for (CacheEntry entry : entries.values()) {
+            bytes += entry.estimatedBytes;
+        }
+        return bytes;
+    }
+
+    @Override
+    public void preload(final Class<? extends Feed> feedClass) {
+        ApiValidator.notNull(feedClass, "feed class must not be null");
+        new FeedApiImpl<>(feedClass).create();
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        loadCounts.clear();
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+        loadTimeNanos.reset();
+    }
+
+    @Override
+    public FeedCacheStats getStats() {
+        final Map<String, Integer> counts = new TreeMap<>();
+        loadCounts.forEach((key, count) -> counts.put(key, count.get()));
+
+        return new Stats(
+                hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                Duration.ofNanos(loadTimeNanos.sum()),
+                entries.size(),
+                getEstimatedBytes(),
+                Collections.unmodifiableMap(counts));
+    }
+
+    private static final class CacheEntry {
+        private final boolean softReferences;
+        private final AtomicLong accessCount = new AtomicLong();
+        private volatile @Nullable DataStore<?> dataStore;
+        private volatile @Nullable SoftReference<DataStore<?>> softReference;
+        private volatile long estimatedBytes;
+        private volatile long lastAccess;
+        private volatile boolean loaded;
+
+        CacheEntry(final boolean softReferences) {
+            this.softReferences = softReferences;
+        }
+
+        void set(final DataStore<?> store, final long accessNumber) {
+            if (softReferences) {
+                softReference = new SoftReference<>(store);
+            } else {
+                dataStore = store;
+            }
+            estimatedBytes = store.getEstimatedBytes();
+            recordAccess(accessNumber);
+            loaded = true;
+        }
+
+        boolean isLoaded() {
+            return loaded;
+        }
+
+        /**
+         * Returns the data, or {@code null} if it has not been loaded yet
+         * or has been reclaimed by the garbage collector.
+         */
+        @Nullable
+        DataStore<?> get() {
+            if (!loaded) {
+                return null;
+            }
+            final SoftReference<DataStore<?>> ref = softReference;
+            return ref == null ? dataStore : ref.get();
+        }
+
+        void recordAccess(final long accessNumber) {
+            accessCount.incrementAndGet();
+            lastAccess = accessNumber;
+        }
+
+        long getAccessCount() {
+            return accessCount.get();
+        }
+
+        long getLastAccess() {
+            return lastAccess;
+        }
+    }
+
+    private static final class Stats implements FeedCacheStats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final Duration totalLoadTime;
+        private final int entryCount;
+        private final long estimatedBytes;
+        private final Map<String, Integer> loadCounts;
+
+        @SuppressWarnings({Sonar.TOO_MANY_PARAMETERS, "PMD.ExcessiveParameterList"})
+        Stats(final long hitCount,
+              final long missCount,
+              final long evictionCount,
+              final Duration totalLoadTime,
+              final int entryCount,
+              final long estimatedBytes,
+              final Map<String, Integer> loadCounts) {
+
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.totalLoadTime = totalLoadTime;
+            this.entryCount = entryCount;
+            this.estimatedBytes = estimatedBytes;
+            this.loadCounts = loadCounts;
+        }
+
+        @Override
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        @Override
+        public long getMissCount() {
+            return missCount;
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        @Override
+        public Duration getTotalLoadTime() {
+            return totalLoadTime;
+        }
+
+        @Override
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        @Override
+        public long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+
+        @Override
+        public Map<String, Integer> getLoadCounts() {
+            return loadCounts;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("FeedCacheStats[hits=%s, misses=%s, evictions=%s, loadTime=%s, entries=%s, bytes=%s]",
+                    hitCount, missCount, evictionCount, totalLoadTime, entryCount, estimatedBytes);
+        }
+    }
+}
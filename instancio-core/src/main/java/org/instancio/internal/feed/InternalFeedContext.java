@@ -117,7 +117,7 @@ public final class InternalFeedContext<F extends Feed> {
                 .lock();
 
         return new GeneratorContext(
-                settings, RandomHelper.resolveRandom(settings.get(Keys.SEED), null));
+                settings, RandomHelper.resolveRandom(settings, null));
     }
 
     @Nullable
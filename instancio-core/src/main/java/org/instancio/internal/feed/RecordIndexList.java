@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A growable list of record indices backed by an {@code int} array,
+ * used by data stores that do not retain record objects.
+ */
+public final class RecordIndexList extends AbstractList<Integer> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] indices = new int[INITIAL_CAPACITY];
+    private int size;
+
+    public void addIndex(final int index) {
+        if (size == indices.length) {
+            indices = Arrays.copyOf(indices, size * 2);
+        }
+        indices[size++] = index;
+    }
+
+    public int getIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return indices[index];
+    }
+
+    /**
+     * Trims the backing array to the size of this list.
+     */
+    public void trimToSize() {
+        if (size < indices.length) {
+            indices = Arrays.copyOf(indices, size);
+        }
+    }
+
+    public long getEstimatedBytes() {
+        return (long) Integer.BYTES * indices.length;
+    }
+
+    @Override
+    public Integer get(final int index) {
+        return getIndex(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
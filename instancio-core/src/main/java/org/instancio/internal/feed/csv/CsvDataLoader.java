@@ -63,7 +63,7 @@ public final class CsvDataLoader implements DataLoader<List<String[]>> {
     }
 
     @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.EmptyControlStatement"})
-    private String[] parseLine(String line) {
+    String[] parseLine(String line) {
         List<String> tokens = new ArrayList<>();
         StringBuilder currentToken = new StringBuilder();
         boolean inQuotes = false;
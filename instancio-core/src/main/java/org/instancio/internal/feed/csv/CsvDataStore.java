@@ -25,6 +25,10 @@ import java.util.Map;
 
 public class CsvDataStore extends AbstractDataStore<String[]> {
 
+    private static final int ARRAY_OVERHEAD_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
     public CsvDataStore(final String tagKey, final List<String[]> data) {
         super(tagKey, data);
     }
@@ -68,6 +72,17 @@ public class CsvDataStore extends AbstractDataStore<String[]> {
         return map;
     }
 
+    @Override
+    protected long estimateRecordBytes(final String[] row) {
+        long bytes = ARRAY_OVERHEAD_BYTES + (long) REFERENCE_BYTES * row.length;
+        for (String value : row) {
+            if (value != null) {
+                bytes += STRING_OVERHEAD_BYTES + value.length();
+            }
+        }
+        return bytes;
+    }
+
     @Override
     public String[] get(final int index) {
         // offset by one to exclude the header row
@@ -15,6 +15,7 @@
  */
 package org.instancio.internal.feed.csv;
 
+import org.instancio.feed.DataSource;
 import org.instancio.feed.FormatOptionsProvider.FormatOptions;
 import org.instancio.internal.feed.CachingDataLoader;
 import org.instancio.internal.feed.DataLoader;
@@ -22,10 +23,20 @@ import org.instancio.internal.feed.DataStore;
 import org.instancio.internal.feed.InternalFeed;
 import org.instancio.internal.feed.InternalFeedContext;
 import org.instancio.internal.feed.ResourceHandler;
+import org.instancio.internal.feed.datasource.CacheableDataSource;
+import org.instancio.internal.feed.datasource.FileDataSource;
+import org.instancio.internal.util.Fail;
+import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.BiFunction;
 
+import static org.instancio.internal.util.ErrorMessageUtils.feedDataSourceIoErrorMessage;
+
 public final class CsvResourceHandler implements ResourceHandler {
 
     private final CachingDataLoader cachingDataLoader = new CachingDataLoader();
@@ -37,6 +48,14 @@ public final class CsvResourceHandler implements ResourceHandler {
                 ? InternalCsvFormatOptions.defaults(feedContext.getGeneratorContext().getSettings())
                 : options;
 
+        final Path mappedFile = getFileToMap(feedContext);
+        if (mappedFile != null) {
+            final DataStore<?> dataStore = cachingDataLoader.loadDataStore(feedContext, (tagKey, dataSource) ->
+                    createMappedDataStore(tagKey, mappedFile, (InternalCsvFormatOptions) csvOptions, dataSource));
+
+            return new CsvFeed(feedContext, (DataStore<String[]>) dataStore);
+        }
+
         final DataLoader<?> dataLoader = new CsvDataLoader((InternalCsvFormatOptions) csvOptions);
 
         final BiFunction<String, List<?>, DataStore<?>> tagKeyToDataStoreMapper =
@@ -47,4 +66,42 @@ public final class CsvResourceHandler implements ResourceHandler {
 
         return new CsvFeed(feedContext, (DataStore<String[]>) dataStore);
     }
+
+    /**
+     * Returns the path of the data source if it is a file that should
+     * be memory-mapped, or {@code null} if the data should be loaded
+     * into the heap.
+     */
+    @Nullable
+    private static Path getFileToMap(final InternalFeedContext<?> feedContext) {
+        DataSource dataSource = feedContext.getDataSource();
+        if (dataSource instanceof CacheableDataSource cacheableDataSource) {
+            dataSource = cacheableDataSource.getDelegate();
+        }
+        if (!(dataSource instanceof FileDataSource fileDataSource)) {
+            return null;
+        }
+
+        final Path path = fileDataSource.getPath();
+        final long threshold = feedContext.getGeneratorContext().getSettings().get(Keys.FEED_CSV_MEMORY_MAP_THRESHOLD);
+        try {
+            return Files.isRegularFile(path) && Files.size(path) >= threshold ? path : null;
+        } catch (IOException ex) {
+            // let the data loader report the error
+            return null;
+        }
+    }
+
+    private static DataStore<?> createMappedDataStore(
+            final String tagKey,
+            final Path path,
+            final InternalCsvFormatOptions formatOptions,
+            final DataSource dataSource) {
+
+        try {
+            return new MappedCsvDataStore(tagKey, path, formatOptions);
+        } catch (IOException ex) {
+            throw Fail.withUsageError(feedDataSourceIoErrorMessage(dataSource, ex), ex);
+        }
+    }
 }
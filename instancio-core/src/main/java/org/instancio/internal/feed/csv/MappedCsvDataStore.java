@@ -0,0 +1,298 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.csv;
+
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.feed.DataStore;
+import org.instancio.internal.feed.RecordIndexList;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * A CSV data store backed by a memory-mapped file.
+ *
+ * <p>Unlike {@link CsvDataStore}, this store does not retain parsed records.
+ * Instead, it keeps the offset of each record within the file (and, if a tag
+ * key is specified, the indices of records grouped by tag value). Records
+ * are parsed when they are retrieved. The data returned by this store is
+ * the same as the data returned by {@link CsvDataStore} for the same file.
+ */
+final class MappedCsvDataStore implements DataStore<String[]> {
+
+    // Files are mapped in segments since a single buffer is limited to 2 GB
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int INITIAL_RECORD_CAPACITY = 1024;
+
+    private final CsvDataLoader lineParser;
+    private final byte[] commentPrefix;
+    private final MappedByteBuffer[] segments;
+    private final long fileSize;
+    private final @Nullable String tagKey;
+    private final Map<String, Integer> fieldIndexMap;
+    private final Map<String, List<String[]>> groupedByTag;
+    private final List<String> tagKeys;
+
+    // offsets of records, excluding the header, comments, and empty lines
+    private long[] recordOffsets = new long[INITIAL_RECORD_CAPACITY];
+    private int recordCount;
+
+    MappedCsvDataStore(
+            @Nullable final String tagKey,
+            final Path path,
+            final InternalCsvFormatOptions formatOptions) throws IOException {
+
+        this.tagKey = tagKey;
+        this.lineParser = new CsvDataLoader(formatOptions);
+        this.commentPrefix = formatOptions.getCommentPrefix().getBytes(StandardCharsets.UTF_8);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.fileSize = channel.size();
+            this.segments = map(channel, fileSize);
+        }
+
+        final String[] headers = indexRecords();
+        ApiValidator.notNull(headers, "empty data source");
+        this.fieldIndexMap = createFieldIndexMap(headers);
+        this.groupedByTag = groupRecordsByTag(fieldIndexMap.getOrDefault(tagKey, -1));
+        this.tagKeys = Collections.unmodifiableList(new ArrayList<>(groupedByTag.keySet()));
+    }
+
+    private static MappedByteBuffer[] map(final FileChannel channel, final long size) throws IOException {
+        final MappedByteBuffer[] buffers = new MappedByteBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+        for (int i = 0; i < buffers.length; i++) {
+            final long position = i * SEGMENT_SIZE;
+            buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+        }
+        return buffers;
+    }
+
+    private byte byteAt(final long offset) {
+        return segments[(int) (offset >>> SEGMENT_SHIFT)].get((int) (offset & SEGMENT_MASK));
+    }
+
+    /**
+     * Records the offset of each data line and returns
+     * the parsed header line, or {@code null} if there is none.
+     */
+    private String @Nullable [] indexRecords() {
+        String[] headers = null;
+        long lineStart = 0;
+        while (lineStart < fileSize) {
+            final long lineEnd = lineEnd(lineStart);
+            if (lineEnd > lineStart && !startsWithCommentPrefix(lineStart, lineEnd)) {
+                if (headers == null) {
+                    headers = parseLine(lineStart, lineEnd);
+                } else {
+                    addRecordOffset(lineStart);
+                }
+            }
+            lineStart = nextLineStart(lineEnd);
+        }
+        return headers;
+    }
+
+    private void addRecordOffset(final long offset) {
+        if (recordCount == recordOffsets.length) {
+            recordOffsets = Arrays.copyOf(recordOffsets, recordCount * 2);
+        }
+        recordOffsets[recordCount++] = offset;
+    }
+
+    /**
+     * Returns the offset of the line terminator ({@code \n}, {@code \r},
+     * or {@code \r\n}) that ends the line, or the file size for the last line.
+     */
+    private long lineEnd(final long lineStart) {
+        long offset = lineStart;
+        while (offset < fileSize) {
+            final byte b = byteAt(offset);
+            if (b == '\n' || b == '\r') {
+                break;
+            }
+            offset++;
+        }
+        return offset;
+    }
+
+    private long nextLineStart(final long lineEnd) {
+        if (lineEnd + 1 < fileSize && byteAt(lineEnd) == '\r' && byteAt(lineEnd + 1) == '\n') {
+            return lineEnd + 2;
+        }
+        return lineEnd + 1;
+    }
+
+    private boolean startsWithCommentPrefix(final long lineStart, final long lineEnd) {
+        if (lineEnd - lineStart < commentPrefix.length) {
+            return false;
+        }
+        for (int i = 0; i < commentPrefix.length; i++) {
+            if (byteAt(lineStart + i) != commentPrefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String[] parseLine(final long lineStart, final long lineEnd) {
+        final byte[] bytes = new byte[(int) (lineEnd - lineStart)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = byteAt(lineStart + i);
+        }
+        return lineParser.parseLine(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private String[] parseRecord(final int recordIndex) {
+        final long lineStart = recordOffsets[recordIndex];
+        return parseLine(lineStart, lineEnd(lineStart));
+    }
+
+    private static Map<String, Integer> createFieldIndexMap(final String[] headers) {
+        final Map<String, Integer> fieldIndexMap = new LinkedHashMap<>();
+        for (int i = 0; i < headers.length; i++) {
+            fieldIndexMap.put(headers[i], i);
+        }
+        return fieldIndexMap;
+    }
+
+    private Map<String, List<String[]>> groupRecordsByTag(final int tagIndex) {
+        final Map<String, List<String[]>> map = new HashMap<>();
+        if (recordCount == 0) {
+            return map;
+        }
+        if (tagIndex == -1) {
+            map.put(null, new RecordList(null, recordCount));
+            return map;
+        }
+
+        final Map<String, RecordIndexList> indicesByTag = new HashMap<>();
+        for (int i = 0; i < recordCount; i++) {
+            final String[] row = parseRecord(i);
+            final String tag = tagIndex >= row.length ? null : row[tagIndex];
+            RecordIndexList indices = indicesByTag.get(tag);
+
+            // not using computeIfAbsent() since it changes the iteration
+            // order of colliding keys, which must match CsvDataStore
+            //noinspection Java8MapApi
+            if (indices == null) {
+                indices = new RecordIndexList();
+                indicesByTag.put(tag, indices);
+            }
+            indices.addIndex(i);
+        }
+        for (Map.Entry<String, RecordIndexList> entry : indicesByTag.entrySet()) {
+            final RecordIndexList indices = entry.getValue();
+            indices.trimToSize();
+            map.put(entry.getKey(), new RecordList(indices, indices.size()));
+        }
+        return map;
+    }
+
+    @Override
+    public List<String[]> get(final String tagValue) {
+        final List<String[]> tagData = groupedByTag.get(tagValue);
+        return ApiValidator.notNull(tagData, () -> String.format(
+                "no data found with tag value: '%s' (tagKey is set to: '%s')", tagValue, tagKey));
+    }
+
+    @Override
+    public String[] get(final int index) {
+        return parseRecord(index);
+    }
+
+    @Override
+    public Set<String> getPropertyKeys() {
+        return fieldIndexMap.keySet();
+    }
+
+    @Override
+    public List<String> getTagKeys() {
+        return tagKeys;
+    }
+
+    @Override
+    public int indexOf(final String propertyName) {
+        return fieldIndexMap.getOrDefault(propertyName, -1);
+    }
+
+    @Override
+    public boolean contains(final String propertyName) {
+        return fieldIndexMap.containsKey(propertyName);
+    }
+
+    @Override
+    public int size() {
+        return recordCount;
+    }
+
+    @Override
+    public long getEstimatedBytes() {
+        // record data is not retained, only the offsets and indices by tag
+        long bytes = (long) Long.BYTES * recordOffsets.length;
+        for (List<String[]> records : groupedByTag.values()) {
+            final RecordIndexList recordIndices = ((RecordList) records).recordIndices;
+            if (recordIndices != null) {
+                bytes += recordIndices.getEstimatedBytes();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * A read-only view of records that parses each record when it is retrieved.
+     */
+    private final class RecordList extends AbstractList<String[]> implements RandomAccess {
+
+        // indices of records, or null if the list contains all records
+        private final @Nullable RecordIndexList recordIndices;
+        private final int size;
+
+        RecordList(@Nullable final RecordIndexList recordIndices, final int size) {
+            this.recordIndices = recordIndices;
+            this.size = size;
+        }
+
+        @Override
+        public String[] get(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return parseRecord(recordIndices == null ? index : recordIndices.getIndex(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
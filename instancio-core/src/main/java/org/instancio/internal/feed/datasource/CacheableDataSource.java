@@ -30,6 +30,10 @@ public class CacheableDataSource implements CacheableSource {
         this.cacheKey = cacheKey;
     }
 
+    public DataSource getDelegate() {
+        return delegate;
+    }
+
     @Nullable
     @Override
     public String getName() {
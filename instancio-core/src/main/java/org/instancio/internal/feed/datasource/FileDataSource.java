@@ -36,6 +36,10 @@ public class FileDataSource implements DataSource {
         return path.toString();
     }
 
+    public Path getPath() {
+        return path;
+    }
+
     @Override
     public InputStream getInputStream() throws IOException {
         return Files.newInputStream(path);
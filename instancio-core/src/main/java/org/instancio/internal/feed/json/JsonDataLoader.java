@@ -17,16 +17,33 @@ package org.instancio.internal.feed.json;
 
 import org.instancio.feed.DataSource;
 import org.instancio.internal.feed.DataLoader;
+import org.instancio.internal.feed.RecordIndexList;
 import org.instancio.internal.util.Fail;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.instancio.internal.util.ErrorMessageUtils.jacksonNotOnClasspathErrorMessage;
 
-public final class JsonDataLoader implements DataLoader<List<JsonNode>> {
+/**
+ * Loads an array of JSON records using Jackson's streaming API,
+ * without creating a tree of the entire document.
+ *
+ * <p>The properties of the first record determine the properties of the
+ * feed. Only values of these properties (and the tag key, if specified)
+ * are retained. Values are converted to strings as they are read,
+ * except for objects and arrays, which are read as trees.
+ */
+public final class JsonDataLoader implements DataLoader<JsonDataStore> {
 
     // Lazy singleton to force NoClassDefFoundError during load() invocation
     // rather than class loading when Jackson is not on the classpath
@@ -34,17 +51,128 @@ public final class JsonDataLoader implements DataLoader<List<JsonNode>> {
         private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     }
 
+    private final @Nullable String tagKey;
+
+    JsonDataLoader(@Nullable final String tagKey) {
+        this.tagKey = tagKey;
+    }
+
     @Override
-    public List<JsonNode> load(final DataSource dataSource) throws Exception {
-        try {
-            final JsonNode jsonNode = Holder.OBJECT_MAPPER.readTree(getInputStream(dataSource));
-            final List<JsonNode> results = new ArrayList<>(jsonNode.size());
-            for (int i = 0; i < jsonNode.size(); i++) {
-                results.add(jsonNode.get(i));
-            }
-            return results;
+    public JsonDataStore load(final DataSource dataSource) throws Exception {
+        try (JsonParser parser = Holder.OBJECT_MAPPER.createParser(getInputStream(dataSource))) {
+            return parse(parser);
         } catch (NoClassDefFoundError error) {
             throw Fail.withUsageError(jacksonNotOnClasspathErrorMessage(), error);
         }
     }
+
+    private JsonDataStore parse(final JsonParser parser) {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw Fail.withUsageError("JSON feed data must be an array of objects");
+        }
+
+        final Map<String, Integer> fieldIndexMap = new LinkedHashMap<>();
+        final List<List<@Nullable Object>> columns = new ArrayList<>();
+        final Map<String, RecordIndexList> groupedByTag = new HashMap<>();
+        int recordIndex = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) { //NOPMD
+            final List<@Nullable Object> values = new ArrayList<>(Collections.nCopies(fieldIndexMap.size(), null));
+            String tag = null;
+
+            if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                    final String propertyName = parser.currentName();
+                    parser.nextToken();
+
+                    if (recordIndex == 0 && !fieldIndexMap.containsKey(propertyName)) {
+                        fieldIndexMap.put(propertyName, fieldIndexMap.size());
+                        values.add(null);
+                    }
+                    final Integer propertyIndex = fieldIndexMap.get(propertyName);
+                    final boolean isTag = propertyName.equals(tagKey);
+
+                    if (propertyIndex == null && !isTag) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    final Object value = readValue(parser);
+                    if (propertyIndex != null) {
+                        values.set(propertyIndex, value);
+                    }
+                    if (isTag) {
+                        tag = JsonDataStore.asString(value);
+                    }
+                }
+            } else {
+                // not an object, therefore the record has no properties
+                parser.skipChildren();
+            }
+
+            addRecord(columns, values);
+            getTagIndices(groupedByTag, tag).addIndex(recordIndex);
+            recordIndex++;
+        }
+
+        for (List<Object> column : columns) {
+            ((ArrayList<Object>) column).trimToSize();
+        }
+        for (RecordIndexList indices : groupedByTag.values()) {
+            indices.trimToSize();
+        }
+        return new JsonDataStore(tagKey, fieldIndexMap, columns, groupedByTag, recordIndex);
+    }
+
+    /**
+     * Reads the current value as a string if it is a scalar,
+     * or as a tree if it is an object or an array. The strings
+     * are the same as those returned by {@link JsonNode#asString()}.
+     */
+    private static Object readValue(final JsonParser parser) {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getString();
+        }
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return String.valueOf(token == JsonToken.VALUE_TRUE);
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            return String.valueOf(parser.getLongValue());
+        }
+        // other values, such as floating point numbers,
+        // are converted by Jackson for consistent formatting
+        final JsonNode node = parser.readValueAsTree();
+        return node.isContainer() ? node : node.asString();
+    }
+
+    private static RecordIndexList getTagIndices(
+            final Map<String, RecordIndexList> groupedByTag,
+            @Nullable final String tag) {
+
+        RecordIndexList indices = groupedByTag.get(tag);
+
+        // not using computeIfAbsent() since it changes the iteration
+        // order of colliding keys (e.g. null and ""), which would
+        // produce different results for a given seed
+        //noinspection Java8MapApi
+        if (indices == null) {
+            indices = new RecordIndexList();
+            groupedByTag.put(tag, indices);
+        }
+        return indices;
+    }
+
+    private static void addRecord(
+            final List<List<@Nullable Object>> columns,
+            final List<@Nullable Object> values) {
+
+        // columns are created when the first record is added
+        while (columns.size() < values.size()) {
+            columns.add(new ArrayList<>());
+        }
+        for (int i = 0; i < values.size(); i++) {
+            columns.get(i).add(values.get(i));
+        }
+    }
 }
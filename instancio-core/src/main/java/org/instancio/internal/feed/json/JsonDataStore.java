@@ -15,66 +15,126 @@
  */
 package org.instancio.internal.feed.json;
 
-import org.instancio.internal.feed.AbstractDataStore;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.feed.DataStore;
+import org.instancio.internal.feed.RecordIndexList;
+import org.jspecify.annotations.Nullable;
 import tools.jackson.databind.JsonNode;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-public class JsonDataStore extends AbstractDataStore<JsonNode> {
+/**
+ * A data store that holds JSON records in columns, one column per
+ * property of the first record. Records are identified by their index.
+ *
+ * <p>Values of scalar properties are stored as strings. Values of
+ * properties that are objects or arrays are stored as {@link JsonNode}s.
+ */
+public final class JsonDataStore implements DataStore<Integer> {
+
+    private static final int REFERENCE_BYTES = 4;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    private static final int NODE_OVERHEAD_BYTES = 64;
+
+    private final @Nullable String tagKey;
+    private final Map<String, Integer> fieldIndexMap;
+    private final List<List<@Nullable Object>> columns;
+    private final Map<String, RecordIndexList> groupedByTag;
+    private final List<String> tagKeys;
+    private final int size;
 
-    public JsonDataStore(final String tagKey, final List<JsonNode> data) {
-        super(tagKey, data);
+    JsonDataStore(
+            @Nullable final String tagKey,
+            final Map<String, Integer> fieldIndexMap,
+            final List<List<@Nullable Object>> columns,
+            final Map<String, RecordIndexList> groupedByTag,
+            final int size) {
+
+        ApiValidator.isFalse(size == 0, "empty data source");
+        this.tagKey = tagKey;
+        this.fieldIndexMap = fieldIndexMap;
+        this.columns = columns;
+        this.groupedByTag = groupedByTag;
+        this.tagKeys = Collections.unmodifiableList(new ArrayList<>(groupedByTag.keySet()));
+        this.size = size;
     }
 
-    @Override
-    protected Map<String, Integer> createFieldIndexMap(final List<JsonNode> data) {
-        final Map<String, Integer> fieldIndexMap = new LinkedHashMap<>();
-        final JsonNode firstRecord = data.get(0);
-        final Set<Map.Entry<String, JsonNode>> headers = firstRecord.properties();
-        int i = 0;
-        for (Map.Entry<String, JsonNode> entry : headers) {
-            fieldIndexMap.put(entry.getKey(), i);
-            i++;
-        }
-        return fieldIndexMap;
+    /**
+     * Returns the value of a property of the given record,
+     * or {@code null} if the record does not have the property.
+     */
+    @Nullable
+    String getValue(final int recordIndex, final int propertyIndex) {
+        final Object value = columns.get(propertyIndex).get(recordIndex);
+        return value == null ? null : asString(value);
+    }
+
+    /**
+     * Converts a value read by the {@link JsonDataLoader} to a string.
+     * Objects and arrays are converted when their value is requested,
+     * so that they result in an error only if they are used.
+     */
+    static String asString(final Object value) {
+        return value instanceof JsonNode node ? node.asString() : (String) value;
     }
 
     @Override
-    protected Map<String, List<JsonNode>> groupDataByTag(
-            final String tagKey,
-            final Map<String, Integer> fieldIndexMap,
-            final List<JsonNode> data) {
+    public List<Integer> get(final String tagValue) {
+        final List<Integer> tagData = groupedByTag.get(tagValue);
+        return ApiValidator.notNull(tagData, () -> String.format(
+                "no data found with tag value: '%s' (tagKey is set to: '%s')", tagValue, tagKey));
+    }
 
-        final Map<String, List<JsonNode>> map = new HashMap<>();
+    @Override
+    public Integer get(final int index) {
+        return index;
+    }
 
-        for (JsonNode entry : data) {
-            final JsonNode node = entry.get(tagKey);
-            final String tag = node == null ? null : node.asString();
+    @Override
+    public Set<String> getPropertyKeys() {
+        return fieldIndexMap.keySet();
+    }
 
-            List<JsonNode> tagData = map.get(tag);
+    @Override
+    public List<String> getTagKeys() {
+        return tagKeys;
+    }
 
-            //noinspection Java8MapApi
-            if (tagData == null) {
-                tagData = new ArrayList<>();
-                map.put(tag, tagData);
-            }
-            tagData.add(entry);
-        }
-        return map;
+    @Override
+    public int indexOf(final String propertyName) {
+        return fieldIndexMap.getOrDefault(propertyName, -1);
     }
 
     @Override
-    public JsonNode get(final int index) {
-        return getData().get(index);
+    public boolean contains(final String propertyName) {
+        return fieldIndexMap.containsKey(propertyName);
     }
 
     @Override
     public int size() {
-        return getData().size();
+        return size;
+    }
+
+    @Override
+    public long getEstimatedBytes() {
+        long bytes = 0;
+        for (List<Object> column : columns) {
+            for (Object value : column) {
+                bytes += REFERENCE_BYTES;
+                if (value instanceof String string) {
+                    bytes += STRING_OVERHEAD_BYTES + string.length();
+                } else if (value != null) {
+                    bytes += NODE_OVERHEAD_BYTES;
+                }
+            }
+        }
+        for (RecordIndexList indices : groupedByTag.values()) {
+            bytes += indices.getEstimatedBytes();
+        }
+        return bytes;
     }
 }
@@ -16,30 +16,29 @@
 package org.instancio.internal.feed.json;
 
 import org.instancio.internal.feed.AbstractFeed;
-import org.instancio.internal.feed.DataStore;
 import org.instancio.internal.feed.InternalFeedContext;
 import org.instancio.internal.util.Verify;
 import org.jspecify.annotations.Nullable;
-import tools.jackson.databind.JsonNode;
 
-class JsonFeed extends AbstractFeed<JsonNode> {
+class JsonFeed extends AbstractFeed<Integer> {
+
+    private final JsonDataStore dataStore;
 
     JsonFeed(
             final InternalFeedContext<?> feedContext,
-            final DataStore<JsonNode> dataStore) {
+            final JsonDataStore dataStore) {
 
         super(feedContext, dataStore);
+        this.dataStore = dataStore;
     }
 
     @Nullable
     @Override
     protected String getValue(final String propertyKey) {
-        // We don't need the value, just fail if property key not found
-        getPropertyIndex(propertyKey);
-        final JsonNode currentEntry = Verify.notNull(getCurrentEntry(),
+        final int index = getPropertyIndex(propertyKey);
+        final Integer currentEntry = Verify.notNull(getCurrentEntry(),
                 "currentEntry is null; propertyKey: %s", propertyKey);
 
-        final JsonNode node = currentEntry.get(propertyKey);
-        return node == null ? null : node.asString();
+        return dataStore.getValue(currentEntry, index);
     }
 }
@@ -16,15 +16,10 @@
 package org.instancio.internal.feed.json;
 
 import org.instancio.internal.feed.CachingDataLoader;
-import org.instancio.internal.feed.DataLoader;
 import org.instancio.internal.feed.DataStore;
 import org.instancio.internal.feed.InternalFeed;
 import org.instancio.internal.feed.InternalFeedContext;
 import org.instancio.internal.feed.ResourceHandler;
-import tools.jackson.databind.JsonNode;
-
-import java.util.List;
-import java.util.function.BiFunction;
 
 public final class JsonResourceHandler implements ResourceHandler {
 
@@ -32,14 +27,9 @@ public final class JsonResourceHandler implements ResourceHandler {
 
     @Override
     public InternalFeed createFeed(final InternalFeedContext<?> feedContext) {
-        final DataLoader<?> dataLoader = new JsonDataLoader();
-
-        final BiFunction<String, List<?>, DataStore<?>> tagKeyToDataStoreMapper =
-                (tagKey, data) -> new JsonDataStore(tagKey, (List<JsonNode>) data);
-
-        final DataStore<?> dataStore = cachingDataLoader.loadData(
-                feedContext, dataLoader, tagKeyToDataStoreMapper);
+        final DataStore<?> dataStore = cachingDataLoader.loadDataStore(feedContext,
+                (tagKey, dataSource) -> CachingDataLoader.tryLoad(new JsonDataLoader(tagKey), dataSource));
 
-        return new JsonFeed(feedContext, (DataStore<JsonNode>) dataStore);
+        return new JsonFeed(feedContext, (JsonDataStore) dataStore);
     }
 }
@@ -20,9 +20,9 @@ import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.Hints;
 import org.instancio.internal.PrimitiveWrapperBiLookup;
 import org.instancio.internal.annotation.AnnotationExtractor;
+import org.instancio.internal.annotation.AnnotationGeneratorRecipe;
 import org.instancio.internal.annotation.AnnotationLibraries;
 import org.instancio.internal.annotation.AnnotationLibraryFacade;
-import org.instancio.internal.annotation.AnnotationMap;
 import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.generation.AnnotationProcessorHelper.AnnotatedMethod;
 import org.instancio.internal.generator.GeneratorResolver;
@@ -34,7 +34,9 @@ import org.instancio.spi.InstancioServiceProvider.AnnotationProcessor;
 import org.jspecify.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Objects.requireNonNull;
 
@@ -52,7 +54,7 @@ import static java.util.Objects.requireNonNull;
  * <p>All of the above is done on a best-effort basis and is not guaranteed
  * to work in all circumstances.
  *
- * @see AnnotationMap
+ * @see AnnotationGeneratorRecipe
  */
 final class AnnotationNodeHandler implements NodeHandler {
 
@@ -65,6 +67,12 @@ final class AnnotationNodeHandler implements NodeHandler {
     private final AnnotationProcessorHelper annotationProcessorMethods;
     private final boolean beanValidationOrJpaEnabled;
 
+    /**
+     * Recipes are compiled once per node, since extracting and
+     * resolving annotations does not depend on generated values.
+     */
+    private final Map<InternalNode, AnnotationGeneratorRecipe> recipes = new IdentityHashMap<>();
+
     private AnnotationNodeHandler(
             final ModelContext modelContext,
             final GeneratorResolver generatorResolver,
@@ -96,7 +104,8 @@ final class AnnotationNodeHandler implements NodeHandler {
 
     @Override
     public GeneratorResult getResult(final InternalNode node) {
-        final Annotation[] annotations = annotationExtractor.getAnnotations(node);
+        final AnnotationGeneratorRecipe recipe = getRecipe(node);
+        final Annotation[] annotations = recipe.getAnnotations();
 
         if (annotations.length == 0) {
             return GeneratorResult.unresolvedResult();
@@ -104,21 +113,19 @@ final class AnnotationNodeHandler implements NodeHandler {
 
         // NOTE: annotation handlers can mutate the generator's state,
         // therefore shared/cached generator instances must not be used here.
+        // Instead, a new generator is created from the recipe for each value.
         Generator<?> generator;
 
         // AnnotationProcessor SPI can be used with or without
         // Bean Validation/JPA annotations
         if (beanValidationOrJpaEnabled) {
-            final AnnotationMap annotationMap = new AnnotationMap(annotations);
-            generator = getGenerator(node, annotations, annotationMap);
+            generator = getGenerator(node, recipe);
 
             if (generator == null) {
                 return GeneratorResult.unresolvedResult();
             }
 
-            for (AnnotationLibraryFacade lib : annotationLibraryFacades) {
-                lib.consumeAnnotations(annotationMap, generator, node.getTargetClass(), generatorContext);
-            }
+            recipe.applyAnnotations(generator, node.getTargetClass(), generatorContext);
         } else {
             generator = generatorResolver.get(node);
         }
@@ -183,19 +190,22 @@ final class AnnotationNodeHandler implements NodeHandler {
         return targetClass.isAssignableFrom(obj.getClass());
     }
 
+    private AnnotationGeneratorRecipe getRecipe(final InternalNode node) {
+        AnnotationGeneratorRecipe recipe = recipes.get(node);
+        if (recipe == null) {
+            // libraries are only used if Bean Validation or JPA is enabled
+            recipe = AnnotationGeneratorRecipe.compile(
+                    annotationExtractor.getAnnotations(node),
+                    beanValidationOrJpaEnabled ? annotationLibraryFacades : List.of());
+            recipes.put(node, recipe);
+        }
+        return recipe;
+    }
+
     @Nullable
-    private Generator<?> getGenerator(
-            final InternalNode node,
-            final Annotation[] annotations,
-            final AnnotationMap annotationMap) {
-
-        for (AnnotationLibraryFacade provider : annotationLibraryFacades) {
-            for (Annotation annotation : annotations) {
-                if (provider.isPrimary(annotation.annotationType())) {
-                    annotationMap.setPrimary(annotation);
-                    return provider.resolveGenerator(annotation, generatorContext);
-                }
-            }
+    private Generator<?> getGenerator(final InternalNode node, final AnnotationGeneratorRecipe recipe) {
+        if (recipe.hasPrimaryAnnotation()) {
+            return recipe.createPrimaryGenerator(generatorContext);
         }
         // If no primary annotation present or no generator defined
         // for the primary annotation, fallback to a built-in generator.
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generation;
+
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.util.Format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.instancio.internal.util.Constants.NL;
+
+final class DefaultGenerationProfiler implements GenerationProfiler {
+
+    private static final int MAX_REPORTED_NODES = 25;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Consumer<String> consumer;
+    private final Map<InternalNode, NodeProfile> nodeProfiles = new IdentityHashMap<>();
+    private final Map<Class<?>, HandlerProfile> handlerProfiles = new LinkedHashMap<>();
+
+    // time spent in child nodes of each node currently being generated
+    private long[] childNanos = new long[16];
+    private int depth;
+    private long totalNanos;
+
+    DefaultGenerationProfiler() {
+        this(System.out::println); // NOSONAR
+    }
+
+    DefaultGenerationProfiler(final Consumer<String> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public long nodeStarted() {
+        if (depth == childNanos.length) {
+            childNanos = Arrays.copyOf(childNanos, depth * 2);
+        }
+        childNanos[depth++] = 0;
+        return System.nanoTime();
+    }
+
+    @Override
+    public void nodeCompleted(final InternalNode node, final long startNanos) {
+        final long elapsed = System.nanoTime() - startNanos;
+        final long elapsedInChildren = childNanos[--depth];
+
+        final NodeProfile profile = getNodeProfile(node);
+        profile.count++;
+        profile.totalNanos += elapsed;
+        profile.selfNanos += elapsed - elapsedInChildren;
+
+        if (depth > 0) {
+            childNanos[depth - 1] += elapsed;
+        } else {
+            totalNanos += elapsed;
+        }
+    }
+
+    @Override
+    public long handlerStarted() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void handlerCompleted(final Class<?> handlerType, final boolean resolved, final long startNanos) {
+        final long elapsed = System.nanoTime() - startNanos;
+
+        HandlerProfile profile = handlerProfiles.get(handlerType);
+        if (profile == null) {
+            profile = new HandlerProfile(handlerType);
+            handlerProfiles.put(handlerType, profile);
+        }
+        profile.count++;
+        profile.totalNanos += elapsed;
+        if (resolved) {
+            profile.resolved++;
+        }
+    }
+
+    @Override
+    public void valueRejected(final InternalNode node) {
+        getNodeProfile(node).rejected++;
+    }
+
+    @Override
+    public void nodeDelayed(final InternalNode node) {
+        getNodeProfile(node).delayed++;
+    }
+
+    @Override
+    public void duplicateDiscarded(final InternalNode node) {
+        getNodeProfile(node).duplicates++;
+    }
+
+    @Override
+    public void report(final InternalNode rootNode) {
+        consumer.accept(createReport(rootNode));
+    }
+
+    private NodeProfile getNodeProfile(final InternalNode node) {
+        NodeProfile profile = nodeProfiles.get(node);
+        if (profile == null) {
+            profile = new NodeProfile(node);
+            nodeProfiles.put(node, profile);
+        }
+        return profile;
+    }
+
+    private String createReport(final InternalNode rootNode) {
+        final List<NodeProfile> nodes = new ArrayList<>(nodeProfiles.values());
+        nodes.sort(Comparator.comparingLong((NodeProfile p) -> p.selfNanos).reversed());
+
+        long nodeCount = 0;
+        for (NodeProfile profile : nodes) {
+            nodeCount += profile.count;
+        }
+
+        final StringBuilder sb = new StringBuilder(4096)
+                .append("### Generation profile").append(NL)
+                .append(NL)
+                .append(" -> Root object ...........: ").append(Format.withoutPackage(rootNode.getType())).append(NL)
+                .append(" -> Total time ............: ").append(millis(totalNanos)).append(" ms").append(NL)
+                .append(" -> Values generated ......: ").append(nodeCount).append(NL)
+                .append(NL)
+                .append("### Handlers").append(NL)
+                .append(NL)
+                .append(String.format(Locale.ROOT, "%10s %10s %12s   %s", "Calls", "Resolved", "Time (ms)", "Handler"))
+                .append(NL);
+
+        for (HandlerProfile profile : handlerProfiles.values()) {
+            sb.append(String.format(Locale.ROOT, "%10d %10d %12s   %s",
+                    profile.count, profile.resolved, millis(profile.totalNanos),
+                    profile.handlerType.getSimpleName())).append(NL);
+        }
+
+        final int reportedNodes = Math.min(nodes.size(), MAX_REPORTED_NODES);
+
+        sb.append(NL)
+                .append("### Nodes").append(NL)
+                .append(NL)
+                .append("Top ").append(reportedNodes).append(" of ").append(nodes.size())
+                .append(" nodes by self time (excluding time spent in child nodes)").append(NL)
+                .append(NL)
+                .append(String.format(Locale.ROOT, "%10s %12s %12s %10s %10s %12s   %s",
+                        "Calls", "Self (ms)", "Total (ms)", "Rejected", "Delayed", "Duplicates", "Node"))
+                .append(NL);
+
+        for (NodeProfile profile : nodes.subList(0, reportedNodes)) {
+            sb.append(String.format(Locale.ROOT, "%10d %12s %12s %10d %10d %12d   %s",
+                    profile.count, millis(profile.selfNanos), millis(profile.totalNanos),
+                    profile.rejected, profile.delayed, profile.duplicates,
+                    Format.formatAsTreeNode(profile.node))).append(NL);
+        }
+        return sb.toString();
+    }
+
+    private static String millis(final long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / NANOS_PER_MILLI);
+    }
+
+    private static final class NodeProfile {
+        private final InternalNode node;
+        private long count;
+        private long totalNanos;
+        private long selfNanos;
+        private long rejected;
+        private long delayed;
+        private long duplicates;
+
+        NodeProfile(final InternalNode node) {
+            this.node = node;
+        }
+    }
+
+    private static final class HandlerProfile {
+        private final Class<?> handlerType;
+        private long count;
+        private long resolved;
+        private long totalNanos;
+
+        HandlerProfile(final Class<?> handlerType) {
+            this.handlerType = handlerType;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generation;
+
+import org.instancio.documentation.InternalApi;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.settings.Keys;
+
+/**
+ * Records generation statistics per node and per node handler
+ * when {@link Keys#PROFILING_ENABLED} is enabled.
+ *
+ * <p>Node timings are nested: {@link #nodeStarted()} and
+ * {@link #nodeCompleted(InternalNode, long)} must be invoked
+ * in pairs, in the order in which nodes are generated.
+ *
+ * @since 6.0.0
+ */
+@InternalApi
+public interface GenerationProfiler {
+
+    GenerationProfiler NOOP_PROFILER = new GenerationProfiler() {
+    };
+
+    static GenerationProfiler create(final ModelContext context) {
+        return context.getSettings().get(Keys.PROFILING_ENABLED)
+                ? new DefaultGenerationProfiler()
+                : NOOP_PROFILER;
+    }
+
+    /**
+     * Invoked before generating a node's value.
+     *
+     * @return the start time to pass to {@link #nodeCompleted(InternalNode, long)}
+     */
+    default long nodeStarted() {
+        return 0;
+    }
+
+    /**
+     * Invoked after a node's value has been generated,
+     * including any retries and values of its child nodes.
+     *
+     * @param node       the node
+     * @param startNanos as returned by {@link #nodeStarted()}
+     */
+    default void nodeCompleted(final InternalNode node, final long startNanos) {
+        // no-op
+    }
+
+    /**
+     * Invoked before a handler is asked to generate a node's value.
+     *
+     * @return the start time to pass to {@link #handlerCompleted(Class, boolean, long)}
+     */
+    default long handlerStarted() {
+        return 0;
+    }
+
+    /**
+     * Invoked after a handler was asked to generate a node's value.
+     *
+     * @param handlerType the type of the handler
+     * @param resolved    whether the handler produced a result
+     * @param startNanos  as returned by {@link #handlerStarted()}
+     */
+    default void handlerCompleted(final Class<?> handlerType, final boolean resolved, final long startNanos) {
+        // no-op
+    }
+
+    /**
+     * Invoked when a generated value was rejected by a {@code filter()}
+     * predicate and the node's value will be generated again.
+     *
+     * @param node the node
+     */
+    default void valueRejected(final InternalNode node) {
+        // no-op
+    }
+
+    /**
+     * Invoked when a node's value could not be generated yet,
+     * and the node was added to the queue of delayed nodes.
+     *
+     * @param node the node
+     */
+    default void nodeDelayed(final InternalNode node) {
+        // no-op
+    }
+
+    /**
+     * Invoked when a generated collection element or map key was
+     * discarded because the collection already contained it.
+     *
+     * @param node the collection element or map key node
+     */
+    default void duplicateDiscarded(final InternalNode node) {
+        // no-op
+    }
+
+    /**
+     * Reports the statistics recorded while generating the root object.
+     *
+     * @param rootNode the root node
+     */
+    default void report(final InternalNode rootNode) {
+        // no-op
+    }
+}
@@ -16,16 +16,19 @@
 package org.instancio.internal.generation;
 
 import org.instancio.exception.InstancioTerminatingException;
+import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.NullSubstitutorFacade;
 import org.instancio.internal.assignment.InternalAssignment;
 import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.generator.GeneratorResolver;
 import org.instancio.internal.generator.GeneratorResult;
+import org.instancio.internal.generator.PrimitiveArrayFiller;
 import org.instancio.internal.generator.SpiGeneratorResolver;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.Format;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,17 +42,21 @@ public class GeneratorFacade {
     private final ModelContext context;
     private final AssignmentNodeHandler assignmentNodeHandler;
     private final NodeHandler userSuppliedGeneratorHandler;
+    private final UsingGeneratorResolverHandler usingGeneratorResolverHandler;
     private final GeneratedPojoStore generatedPojoStore;
     private final List<NodeHandler> nodeHandlers = new ArrayList<>();
     private final NullSubstitutorFacade nullSubstitutorFacade;
+    private final GenerationProfiler profiler;
 
     public GeneratorFacade(
             final ModelContext context,
             final NullSubstitutorFacade nullSubstitutorFacade,
-            final AssigmentObjectStore assigmentObjectStore) {
+            final AssigmentObjectStore assigmentObjectStore,
+            final GenerationProfiler profiler) {
 
         this.context = context;
         this.nullSubstitutorFacade = nullSubstitutorFacade;
+        this.profiler = profiler;
         this.generatedPojoStore = GeneratedPojoStore.createStore(context);
 
         final GeneratorContext generatorContext = new GeneratorContext(
@@ -64,13 +71,16 @@ public class GeneratorFacade {
 
         assignmentNodeHandler = AssignmentNodeHandler.create(context, assigmentObjectStore, userSuppliedGeneratorProcessor);
         userSuppliedGeneratorHandler = UserSuppliedGeneratorHandler.create(context, userSuppliedGeneratorProcessor);
+        usingGeneratorResolverHandler = new UsingGeneratorResolverHandler(context, generatorResolver);
 
         // handlers in order of precedence, starting from highest
         addHandler(assignmentNodeHandler);
         addHandler(userSuppliedGeneratorHandler);
         addHandler(new SpiGeneratorNodeHandler(context, spiGeneratorResolver));
         addHandler(AnnotationNodeHandler.create(context, generatorResolver));
-        addHandler(new UsingGeneratorResolverHandler(context, generatorResolver));
+        // replaces built-in generators only
+        addHandler(UniquePermutationNodeHandler.create(context));
+        addHandler(usingGeneratorResolverHandler);
         addHandler(new InstantiatingHandler(context));
     }
 
@@ -89,18 +99,71 @@ public class GeneratorFacade {
         } catch (InstancioTerminatingException ex) {
             throw ex;
         } catch (Exception ex) {
-            final String msg = String.format("exception thrown by a custom Generator or Supplier" +
-                            "%n%n" +
-                            " -> Could not generate value for: %s (depth=%s)" +
-                            "%n%n" +
-                            "%s",
+            throw generatorError(node, ex);
+        }
+    }
 
-                    node.toDisplayString(), node.getDepth(), Format.nodePathToRoot(node, "    "));
+    /**
+     * Returns the built-in generator for a leaf node eligible
+     * for the fast path, or {@code null} if there is none.
+     *
+     * @param node leaf node
+     * @return built-in generator, or {@code null}
+     */
+    @Nullable
+    public Generator<?> getLeafGenerator(final InternalNode node) {
+        return usingGeneratorResolverHandler.getGenerator(node);
+    }
 
-            throw Fail.withUsageError(msg, ex);
+    /**
+     * Generates a value for a leaf node eligible for the fast path.
+     * Unlike {@link #generateNodeValue(InternalNode)}, the value is
+     * returned as is, without creating a {@link GeneratorResult}.
+     *
+     * @param node      leaf node
+     * @param generator returned by {@link #getLeafGenerator(InternalNode)}
+     * @return generated value
+     */
+    @Nullable
+    public Object generateLeafValue(final InternalNode node, final Generator<?> generator) {
+        try {
+            final long start = profiler.handlerStarted();
+            final Object value = usingGeneratorResolverHandler.generateValue(node, generator);
+            profiler.handlerCompleted(UsingGeneratorResolverHandler.class, true, start);
+            return value;
+        } catch (InstancioTerminatingException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw generatorError(node, ex);
         }
     }
 
+    /**
+     * Returns a filler for primitive array elements eligible for
+     * the fast path, or {@code null} if elements should be generated
+     * one at a time.
+     *
+     * @param elementNode primitive array element node
+     * @return array filler, or {@code null}
+     */
+    @Nullable
+    public PrimitiveArrayFiller getPrimitiveArrayFiller(final InternalNode elementNode) {
+        final Generator<?> generator = usingGeneratorResolverHandler.getGenerator(elementNode);
+        return generator instanceof PrimitiveArrayFiller filler && !filler.isNullable() ? filler : null;
+    }
+
+    private static RuntimeException generatorError(final InternalNode node, final Exception ex) {
+        final String msg = String.format("exception thrown by a custom Generator or Supplier" +
+                        "%n%n" +
+                        " -> Could not generate value for: %s (depth=%s)" +
+                        "%n%n" +
+                        "%s",
+
+                node.toDisplayString(), node.getDepth(), Format.nodePathToRoot(node, "    "));
+
+        return Fail.withUsageError(msg, ex);
+    }
+
     private boolean shouldReturnNullForNullable(final InternalNode node) {
         final boolean precondition = context.isNullable(node);
         return context.getRandom().diceRoll(precondition);
@@ -116,10 +179,10 @@ public class GeneratorFacade {
             result = nullSubstitutorFacade.substituteNull(node);
         } else if (node.isCyclic()) {
             // Cyclic nodes can only be generated by a subset of handlers
-            result = assignmentNodeHandler.getResult(node);
+            result = getResult(assignmentNodeHandler, node);
 
             if (result.isUnresolved()) {
-                result = userSuppliedGeneratorHandler.getResult(node);
+                result = getResult(userSuppliedGeneratorHandler, node);
             }
             if (result.isUnresolved()) {
                 // if Keys.SET_BACK_REFERENCES is enabled, attempt to
@@ -128,7 +191,7 @@ public class GeneratorFacade {
             }
         } else {
             for (NodeHandler handler : nodeHandlers) {
-                result = handler.getResult(node);
+                result = getResult(handler, node);
 
                 if (!result.isUnresolved()) {
                     break;
@@ -138,6 +201,13 @@ public class GeneratorFacade {
         return result;
     }
 
+    private GeneratorResult getResult(final NodeHandler handler, final InternalNode node) {
+        final long start = profiler.handlerStarted();
+        final GeneratorResult result = handler.getResult(node);
+        profiler.handlerCompleted(handler.getClass(), !result.isUnresolved(), start);
+        return result;
+    }
+
     public Set<InternalAssignment> getUnresolvedAssignments() {
         return assignmentNodeHandler.getUnresolvedAssignments();
     }
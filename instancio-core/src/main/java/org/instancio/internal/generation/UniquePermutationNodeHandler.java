@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generation;
+
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.generator.GeneratorResult;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.unique.UniqueValueFilter;
+import org.instancio.internal.util.ErrorMessageUtils;
+import org.instancio.internal.util.Fail;
+import org.instancio.settings.Keys;
+import org.instancio.settings.UniqueStrategy;
+import org.instancio.support.Log;
+
+/**
+ * Generates values for {@code withUnique()} selectors
+ * when using {@link UniqueStrategy#PERMUTATION}.
+ */
+final class UniquePermutationNodeHandler implements NodeHandler {
+
+    private final ModelContext context;
+
+    private UniquePermutationNodeHandler(final ModelContext context) {
+        this.context = context;
+    }
+
+    static NodeHandler create(final ModelContext context) {
+        return context.getSettings().get(Keys.UNIQUE_STRATEGY) == UniqueStrategy.PERMUTATION
+                ? new UniquePermutationNodeHandler(context)
+                : NodeHandler.NOOP_HANDLER;
+    }
+
+    @Override
+    public GeneratorResult getResult(final InternalNode node) {
+        final UniqueValueFilter filter = context.getUniqueValueFilter(node);
+        if (filter == null || !filter.isPermutation(node)) {
+            return GeneratorResult.unresolvedResult();
+        }
+
+        final Object value = filter.nextPermutationValue(node);
+        if (value != null) {
+            return GeneratorResult.resolved(value, UniqueValueFilter.PERMUTATION_HINTS);
+        }
+
+        final long size = filter.getPermutationSize(node);
+        if (context.getSettings().get(Keys.FAIL_ON_MAX_GENERATION_ATTEMPTS_REACHED)) {
+            throw Fail.withUsageError(ErrorMessageUtils.uniqueValuesExhausted(node, size));
+        }
+        Log.msg(Log.Category.MAX_GENERATION_ATTEMPTS,
+                "All {} unique values have been generated for node {}. Using random value as fallback.",
+                size, node);
+
+        return GeneratorResult.unresolvedResult();
+    }
+}
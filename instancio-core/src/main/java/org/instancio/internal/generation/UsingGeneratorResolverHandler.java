@@ -23,6 +23,7 @@ import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.util.Verify;
 import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
 
 class UsingGeneratorResolverHandler implements NodeHandler {
 
@@ -48,9 +49,19 @@ class UsingGeneratorResolverHandler implements NodeHandler {
             return GeneratorResult.unresolvedResult();
         }
 
-        final Object value = generator.generate(context.getRandom());
-        final Object processed = stringPostProcessor.process(value, node, generator);
+        final Object processed = generateValue(node, generator);
         final Hints hints = Verify.notNull(generator.hints(), "Built-in generator hints are null");
         return GeneratorResult.resolved(processed, hints);
     }
+
+    @Nullable
+    Generator<?> getGenerator(final InternalNode node) {
+        return generatorResolver.getCached(node);
+    }
+
+    @Nullable
+    Object generateValue(final InternalNode node, final Generator<?> generator) {
+        final Object value = generator.generate(context.getRandom());
+        return stringPostProcessor.process(value, node, generator);
+    }
 }
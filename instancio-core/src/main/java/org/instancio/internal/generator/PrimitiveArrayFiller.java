@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator;
+
+import org.instancio.Random;
+
+/**
+ * A generator that can fill primitive arrays directly,
+ * without boxing each generated value.
+ *
+ * <p>Given the same {@link Random}, filled values must be the same
+ * as values produced by calling {@code generate()} for each element,
+ * assuming the generator is not nullable.
+ *
+ * @since 6.0.0
+ */
+public interface PrimitiveArrayFiller {
+
+    /**
+     * Fills the specified range of the given primitive array.
+     *
+     * @param array     primitive array of the generator's type
+     * @param fromIndex index of the first element to fill (inclusive)
+     * @param toIndex   index of the last element to fill (exclusive)
+     * @param random    for generating values
+     */
+    void fillArray(Object array, int fromIndex, int toIndex, Random random);
+
+    /**
+     * Returns {@code true} if the generator may produce {@code null} values,
+     * in which case the array should be populated element by element.
+     *
+     * @return whether the generator is nullable
+     */
+    boolean isNullable();
+}
@@ -33,7 +33,9 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Objects.requireNonNullElse;
 
@@ -46,6 +48,12 @@ public class SpiGeneratorResolver {
     private final List<ProviderEntry<GeneratorProvider>> providerEntries;
     private final AfterGenerate afterGenerate;
 
+    /**
+     * Generators resolved by cacheable providers. A {@code null} value
+     * indicates that no provider supplies a generator for the node.
+     */
+    private final Map<InternalNode, @Nullable Generator<?>> cache = new IdentityHashMap<>();
+
     public SpiGeneratorResolver(
             final ModelContext modelContext,
             final GeneratorContext generatorContext,
@@ -61,8 +69,24 @@ public class SpiGeneratorResolver {
     @Nullable
     @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
     public Generator<?> getSpiGenerator(final InternalNode node) {
+        if (providerEntries.isEmpty()) {
+            return null;
+        }
+
+        final Generator<?> cached = cache.get(node);
+        if (cached != null || cache.containsKey(node)) {
+            return cached;
+        }
+
+        // the result can be cached only if it does not depend on
+        // non-cacheable providers, including those that returned null
+        boolean isCacheable = true;
+
         for (ProviderEntry<GeneratorProvider> entry : providerEntries) {
-            final GeneratorSpec<?> spec = entry.getProvider().getGenerator(node, generators);
+            final GeneratorProvider provider = entry.getProvider();
+            isCacheable &= provider.isCacheable();
+
+            final GeneratorSpec<?> spec = provider.getGenerator(node, generators);
 
             if (spec != null) {
                 validateSpec(entry, spec);
@@ -70,9 +94,18 @@ public class SpiGeneratorResolver {
 
                 final Generator<?> generator = processGenerator((Generator<?>) spec, node);
                 generator.init(generatorContext);
-                return GeneratorDecorator.decorateIfNullAfterGenerate(generator, afterGenerate);
+
+                final Generator<?> result = GeneratorDecorator.decorateIfNullAfterGenerate(generator, afterGenerate);
+                if (isCacheable) {
+                    cache.put(node, result);
+                }
+                return result;
             }
         }
+
+        if (isCacheable) {
+            cache.put(node, null);
+        }
         return null;
     }
 
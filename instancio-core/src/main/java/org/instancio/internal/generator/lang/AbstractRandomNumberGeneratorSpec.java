@@ -96,7 +96,29 @@ public abstract class AbstractRandomNumberGeneratorSpec<T extends @Nullable Numb
         return tryGenerateNonNull(random);
     }
 
-    private void setRange(final Random random) {
+    /**
+     * Generates a non-null value, ignoring the nullable setting.
+     * Used for generating values in bulk, for example into primitive arrays.
+     *
+     * @param random for generating the value
+     * @return generated value
+     */
+    public final @NonNull T generateNonNull(final Random random) {
+        setRange(random);
+        return requireNonNull(tryGenerateNonNull(random));
+    }
+
+    /**
+     * Returns {@code true} if ranges were specified using {@code range()},
+     * in which case a range is selected randomly for each generated value.
+     *
+     * @return whether ranges were specified
+     */
+    protected final boolean hasRanges() {
+        return !rangeStack.isEmpty();
+    }
+
+    protected final void setRange(final Random random) {
         // if range() and min()/max() are used at the same time, range() takes precedence
         // therefore, it's ok to overwrite the min/max fields
         if (!rangeStack.isEmpty()) {
@@ -18,10 +18,12 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.ByteSpec;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.generator.PrimitiveArrayFiller;
 import org.instancio.settings.Keys;
 
 public class ByteGenerator extends AbstractRandomComparableNumberGeneratorSpec<Byte>
-        implements ByteSpec {
+        implements ByteSpec, PrimitiveArrayFiller {
 
     public ByteGenerator(final GeneratorContext context) {
         super(context,
@@ -65,6 +67,37 @@ public class ByteGenerator extends AbstractRandomComparableNumberGeneratorSpec<B
         return this;
     }
 
+    @Override
+    public byte[] byteArray(final int size) {
+        ApiValidator.isTrue(size >= 0, "array size must not be negative: %s", size);
+        return fill(new byte[size]);
+    }
+
+    @Override
+    public byte[] fill(final byte[] array) {
+        ApiValidator.notNull(array, "'array' must not be null");
+        fillArray(array, 0, array.length, getContext().random());
+        return array;
+    }
+
+    @Override
+    public void fillArray(final Object array, final int fromIndex, final int toIndex, final Random random) {
+        final byte[] values = (byte[]) array;
+
+        if (hasRanges()) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                setRange(random);
+                values[i] = random.byteRange(getMin(), getMax());
+            }
+        } else {
+            final byte min = getMin();
+            final byte max = getMax();
+            for (int i = fromIndex; i < toIndex; i++) {
+                values[i] = random.byteRange(min, max);
+            }
+        }
+    }
+
     @Override
     protected Byte tryGenerateNonNull(final Random random) {
         return random.byteRange(getMin(), getMax());
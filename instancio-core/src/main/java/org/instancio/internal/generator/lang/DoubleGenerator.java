@@ -20,15 +20,17 @@ import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.DoubleSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.generator.PrimitiveArrayFiller;
 import org.instancio.internal.generator.math.BigDecimalGenerator;
 import org.instancio.internal.generator.specs.InternalFractionalNumberGeneratorSpec;
 import org.instancio.settings.Keys;
 import org.jspecify.annotations.Nullable;
 
 import java.math.BigDecimal;
+import java.util.stream.DoubleStream;
 
 public class DoubleGenerator extends AbstractGenerator<Double>
-        implements DoubleSpec, InternalFractionalNumberGeneratorSpec<Double> {
+        implements DoubleSpec, InternalFractionalNumberGeneratorSpec<Double>, PrimitiveArrayFiller {
 
     private final BigDecimalGenerator delegate;
 
@@ -113,6 +115,33 @@ public class DoubleGenerator extends AbstractGenerator<Double>
         return delegate.isNullable();
     }
 
+    @Override
+    public double[] doubleArray(final int size) {
+        ApiValidator.isTrue(size >= 0, "array size must not be negative: %s", size);
+        return fill(new double[size]);
+    }
+
+    @Override
+    public double[] fill(final double[] array) {
+        ApiValidator.notNull(array, "'array' must not be null");
+        fillArray(array, 0, array.length, getContext().random());
+        return array;
+    }
+
+    @Override
+    public void fillArray(final Object array, final int fromIndex, final int toIndex, final Random random) {
+        final double[] values = (double[]) array;
+        for (int i = fromIndex; i < toIndex; i++) {
+            values[i] = delegate.generateNonNull(random).doubleValue();
+        }
+    }
+
+    @Override
+    public DoubleStream doubleStream() {
+        final Random random = getContext().random();
+        return DoubleStream.generate(() -> delegate.generateNonNull(random).doubleValue());
+    }
+
     @Nullable
     @Override
     protected Double tryGenerateNonNull(final Random random) {
@@ -20,6 +20,7 @@ import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.FloatSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.generator.PrimitiveArrayFiller;
 import org.instancio.internal.generator.math.BigDecimalGenerator;
 import org.instancio.internal.generator.specs.InternalFractionalNumberGeneratorSpec;
 import org.instancio.settings.Keys;
@@ -28,7 +29,7 @@ import org.jspecify.annotations.Nullable;
 import java.math.BigDecimal;
 
 public class FloatGenerator extends AbstractGenerator<Float>
-        implements FloatSpec, InternalFractionalNumberGeneratorSpec<Float> {
+        implements FloatSpec, InternalFractionalNumberGeneratorSpec<Float>, PrimitiveArrayFiller {
 
     private final BigDecimalGenerator delegate;
 
@@ -113,6 +114,27 @@ public class FloatGenerator extends AbstractGenerator<Float>
         return delegate.isNullable();
     }
 
+    @Override
+    public float[] floatArray(final int size) {
+        ApiValidator.isTrue(size >= 0, "array size must not be negative: %s", size);
+        return fill(new float[size]);
+    }
+
+    @Override
+    public float[] fill(final float[] array) {
+        ApiValidator.notNull(array, "'array' must not be null");
+        fillArray(array, 0, array.length, getContext().random());
+        return array;
+    }
+
+    @Override
+    public void fillArray(final Object array, final int fromIndex, final int toIndex, final Random random) {
+        final float[] values = (float[]) array;
+        for (int i = fromIndex; i < toIndex; i++) {
+            values[i] = delegate.generateNonNull(random).floatValue();
+        }
+    }
+
     @Nullable
     @Override
     protected Float tryGenerateNonNull(final Random random) {
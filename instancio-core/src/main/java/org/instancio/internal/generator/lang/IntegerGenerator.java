@@ -18,10 +18,14 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.IntegerSpec;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.generator.PrimitiveArrayFiller;
 import org.instancio.settings.Keys;
 
+import java.util.stream.IntStream;
+
 public class IntegerGenerator extends AbstractRandomComparableNumberGeneratorSpec<Integer>
-        implements IntegerSpec {
+        implements IntegerSpec, PrimitiveArrayFiller {
 
     public IntegerGenerator(final GeneratorContext context) {
         super(context,
@@ -65,6 +69,46 @@ public class IntegerGenerator extends AbstractRandomComparableNumberGeneratorSpe
         return this;
     }
 
+    @Override
+    public int[] intArray(final int size) {
+        ApiValidator.isTrue(size >= 0, "array size must not be negative: %s", size);
+        return fill(new int[size]);
+    }
+
+    @Override
+    public int[] fill(final int[] array) {
+        ApiValidator.notNull(array, "'array' must not be null");
+        fillArray(array, 0, array.length, getContext().random());
+        return array;
+    }
+
+    @Override
+    public void fillArray(final Object array, final int fromIndex, final int toIndex, final Random random) {
+        final int[] values = (int[]) array;
+
+        if (hasRanges()) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                setRange(random);
+                values[i] = random.intRange(getMin(), getMax());
+            }
+        } else {
+            final int min = getMin();
+            final int max = getMax();
+            for (int i = fromIndex; i < toIndex; i++) {
+                values[i] = random.intRange(min, max);
+            }
+        }
+    }
+
+    @Override
+    public IntStream intStream() {
+        final Random random = getContext().random();
+        return IntStream.generate(() -> {
+            setRange(random);
+            return random.intRange(getMin(), getMax());
+        });
+    }
+
     @Override
     protected Integer tryGenerateNonNull(final Random random) {
         return random.intRange(getMin(), getMax());
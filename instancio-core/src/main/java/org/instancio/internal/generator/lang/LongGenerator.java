@@ -18,10 +18,14 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.LongSpec;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.generator.PrimitiveArrayFiller;
 import org.instancio.settings.Keys;
 
+import java.util.stream.LongStream;
+
 public class LongGenerator extends AbstractRandomComparableNumberGeneratorSpec<Long>
-        implements LongSpec {
+        implements LongSpec, PrimitiveArrayFiller {
 
     public LongGenerator(final GeneratorContext context) {
         super(context,
@@ -65,6 +69,46 @@ public class LongGenerator extends AbstractRandomComparableNumberGeneratorSpec<L
         return this;
     }
 
+    @Override
+    public long[] longArray(final int size) {
+        ApiValidator.isTrue(size >= 0, "array size must not be negative: %s", size);
+        return fill(new long[size]);
+    }
+
+    @Override
+    public long[] fill(final long[] array) {
+        ApiValidator.notNull(array, "'array' must not be null");
+        fillArray(array, 0, array.length, getContext().random());
+        return array;
+    }
+
+    @Override
+    public void fillArray(final Object array, final int fromIndex, final int toIndex, final Random random) {
+        final long[] values = (long[]) array;
+
+        if (hasRanges()) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                setRange(random);
+                values[i] = random.longRange(getMin(), getMax());
+            }
+        } else {
+            final long min = getMin();
+            final long max = getMax();
+            for (int i = fromIndex; i < toIndex; i++) {
+                values[i] = random.longRange(min, max);
+            }
+        }
+    }
+
+    @Override
+    public LongStream longStream() {
+        final Random random = getContext().random();
+        return LongStream.generate(() -> {
+            setRange(random);
+            return random.longRange(getMin(), getMax());
+        });
+    }
+
     @Override
     protected Long tryGenerateNonNull(final Random random) {
         return random.longRange(getMin(), getMax());
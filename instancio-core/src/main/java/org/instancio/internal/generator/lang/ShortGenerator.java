@@ -18,10 +18,12 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.ShortSpec;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.generator.PrimitiveArrayFiller;
 import org.instancio.settings.Keys;
 
 public class ShortGenerator extends AbstractRandomComparableNumberGeneratorSpec<Short>
-        implements ShortSpec {
+        implements ShortSpec, PrimitiveArrayFiller {
 
     public ShortGenerator(final GeneratorContext context) {
         super(context,
@@ -65,6 +67,37 @@ public class ShortGenerator extends AbstractRandomComparableNumberGeneratorSpec<
         return this;
     }
 
+    @Override
+    public short[] shortArray(final int size) {
+        ApiValidator.isTrue(size >= 0, "array size must not be negative: %s", size);
+        return fill(new short[size]);
+    }
+
+    @Override
+    public short[] fill(final short[] array) {
+        ApiValidator.notNull(array, "'array' must not be null");
+        fillArray(array, 0, array.length, getContext().random());
+        return array;
+    }
+
+    @Override
+    public void fillArray(final Object array, final int fromIndex, final int toIndex, final Random random) {
+        final short[] values = (short[]) array;
+
+        if (hasRanges()) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                setRange(random);
+                values[i] = random.shortRange(getMin(), getMax());
+            }
+        } else {
+            final short min = getMin();
+            final short max = getMax();
+            for (int i = fromIndex; i < toIndex; i++) {
+                values[i] = random.shortRange(min, max);
+            }
+        }
+    }
+
     @Override
     protected Short tryGenerateNonNull(final Random random) {
         return random.shortRange(getMin(), getMax());
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.instantiation;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Creates instances of a particular class using a constructor
+ * or other means resolved in advance by an {@link InstantiationStrategy}.
+ *
+ * @since 6.0.0
+ */
+@FunctionalInterface
+interface ClassInstantiator {
+
+    /**
+     * Creates a new instance.
+     *
+     * @return new instance, or {@code null} if the instance could not be created
+     * @throws Exception if an error occurs creating the instance
+     */
+    @Nullable
+    Object newInstance() throws Exception;
+}
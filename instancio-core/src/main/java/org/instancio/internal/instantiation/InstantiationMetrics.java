@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.instantiation;
+
+import org.instancio.documentation.InternalApi;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects statistics about the built-in instantiation strategies
+ * resolved by the {@link Instantiator}.
+ *
+ * @since 6.0.0
+ */
+@InternalApi
+public final class InstantiationMetrics {
+
+    private static final Map<String, LongAdder> RESOLVED_CLASSES = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> CREATED_INSTANCES = new ConcurrentHashMap<>();
+
+    private InstantiationMetrics() {
+        // non-instantiable
+    }
+
+    static void recordResolved(final InstantiationStrategy strategy) {
+        increment(RESOLVED_CLASSES, strategy);
+    }
+
+    static void recordInstance(final InstantiationStrategy strategy) {
+        increment(CREATED_INSTANCES, strategy);
+    }
+
+    /**
+     * Returns the instance counter for the given strategy,
+     * allowing callers to avoid a map lookup per instance.
+     */
+    static LongAdder getInstanceCounter(final InstantiationStrategy strategy) {
+        return counter(CREATED_INSTANCES, strategy);
+    }
+
+    /**
+     * Returns the number of classes resolved to each strategy.
+     *
+     * @return a map of strategy name to the number of classes
+     */
+    public static Map<String, Long> getResolvedClassCounts() {
+        return snapshot(RESOLVED_CLASSES);
+    }
+
+    /**
+     * Returns the number of instances created using each strategy.
+     *
+     * @return a map of strategy name to the number of instances
+     */
+    public static Map<String, Long> getInstanceCounts() {
+        return snapshot(CREATED_INSTANCES);
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public static void reset() {
+        RESOLVED_CLASSES.values().forEach(LongAdder::reset);
+        CREATED_INSTANCES.values().forEach(LongAdder::reset);
+    }
+
+    private static void increment(final Map<String, LongAdder> counters, final InstantiationStrategy strategy) {
+        counter(counters, strategy).increment();
+    }
+
+    private static LongAdder counter(final Map<String, LongAdder> counters, final InstantiationStrategy strategy) {
+        return counters.computeIfAbsent(strategy.getClass().getSimpleName(), k -> new LongAdder());
+    }
+
+    private static Map<String, Long> snapshot(final Map<String, LongAdder> counters) {
+        final Map<String, Long> result = new TreeMap<>();
+        counters.forEach((name, count) -> result.put(name, count.sum()));
+        return Collections.unmodifiableMap(result);
+    }
+}
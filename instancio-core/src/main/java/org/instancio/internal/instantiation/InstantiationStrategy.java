@@ -23,4 +23,19 @@ public interface InstantiationStrategy {
 
     @Nullable
     <T> T createInstance(Class<T> klass);
+
+    /**
+     * Resolves an instantiator for the given class that can be
+     * invoked repeatedly without repeating the lookups performed
+     * by {@link #createInstance(Class)}.
+     *
+     * @param klass the class to bind the instantiator to
+     * @return instantiator, or {@code null} if this strategy
+     * does not support the given class
+     * @since 6.0.0
+     */
+    @Nullable
+    default ClassInstantiator bind(final Class<?> klass) {
+        return () -> createInstance(klass);
+    }
 }
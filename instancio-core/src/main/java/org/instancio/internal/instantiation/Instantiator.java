@@ -24,28 +24,129 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 public class Instantiator {
     private static final Logger LOG = LoggerFactory.getLogger(Instantiator.class);
 
-    private final InstantiationStrategy[] strategies;
+    /**
+     * Built-in strategies do not depend on the model's settings or
+     * service providers, therefore the strategy resolved for a class
+     * is cached globally and shared by all instantiators.
+     */
+    private static final InstantiationStrategy[] BUILT_IN_STRATEGIES = {
+            new NoArgumentConstructorInstantiationStrategy(),
+            UnsafeInstantiationStrategy.getInstance(),
+            ReflectionFactoryInstantiationStrategy.getInstance(),
+            new LeastArgumentsConstructorInstantiationStrategy()
+    };
+
+    private static final ClassValue<AtomicReference<@Nullable Resolution>> RESOLUTIONS = new ClassValue<>() {
+        @Override
+        protected AtomicReference<@Nullable Resolution> computeValue(final Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private final ServiceProviderInstantiationStrategy serviceProviderStrategy;
+    private final boolean hasServiceProviders;
 
     public Instantiator(final List<ProviderEntry<InstancioServiceProvider.TypeInstantiator>> providerEntries) {
-        strategies = new InstantiationStrategy[]{
-                new ServiceProviderInstantiationStrategy(providerEntries),
-                new NoArgumentConstructorInstantiationStrategy(),
-                UnsafeInstantiationStrategy.getInstance(),
-                ReflectionFactoryInstantiationStrategy.getInstance(),
-                new LeastArgumentsConstructorInstantiationStrategy()
-        };
+        serviceProviderStrategy = new ServiceProviderInstantiationStrategy(providerEntries);
+        hasServiceProviders = !providerEntries.isEmpty();
     }
 
     @Nullable
     public <T> T instantiate(final Class<T> klass) {
-        for (InstantiationStrategy strategy : strategies) {
+        if (hasServiceProviders) {
+            final T instance = createInstance(klass, serviceProviderStrategy);
+            if (instance != null) {
+                return instance;
+            }
+        }
+
+        final AtomicReference<@Nullable Resolution> ref = RESOLUTIONS.get(klass);
+        final Resolution resolution = ref.get();
+
+        if (resolution == null) {
+            return resolve(klass, ref);
+        }
+        if (resolution.instantiator == null) {
+            LOG.debug("Could not instantiate class '{}'", klass.getName());
+            return null;
+        }
+
+        final T instance = newInstance(klass, resolution.strategy, resolution.instantiator);
+        if (instance != null) {
+            resolution.instanceCounter.increment();
+            return instance;
+        }
+
+        // The cached strategy failed for this particular instance,
+        // e.g. due to a constructor that throws an exception intermittently
+        return instantiateUsingAllStrategies(klass);
+    }
+
+    /**
+     * Returns the name of the built-in strategy resolved for the given class.
+     *
+     * @param klass the class to check
+     * @return strategy name, or {@code null} if the class has not been
+     * instantiated yet, or could not be instantiated
+     */
+    @Nullable
+    public static String getResolvedStrategy(final Class<?> klass) {
+        final Resolution resolution = RESOLUTIONS.get(klass).get();
+        return resolution == null || resolution.instantiator == null
+                ? null
+                : resolution.strategy.getClass().getSimpleName();
+    }
+
+    /**
+     * Resolves the strategy for the given class. A strategy is only cached
+     * if it succeeded and none of the preferred strategies failed to create
+     * an instance, since such failures may be transient (for example,
+     * a constructor that throws an exception intermittently).
+     * A failure is only cached if none of the strategies supports the class,
+     * or if the class is abstract and can therefore never be instantiated.
+     */
+    @Nullable
+    private static <T> T resolve(final Class<T> klass, final AtomicReference<@Nullable Resolution> ref) {
+        boolean cacheable = true;
+
+        for (InstantiationStrategy strategy : BUILT_IN_STRATEGIES) {
+            final ClassInstantiator instantiator = bind(klass, strategy);
+            if (instantiator == null) {
+                continue;
+            }
+            final T instance = newInstance(klass, strategy, instantiator);
+            if (instance != null) {
+                if (cacheable && ref.compareAndSet(null, new Resolution(strategy, instantiator))) {
+                    LOG.trace("Resolved {} for {}", strategy.getClass().getSimpleName(), klass);
+                    InstantiationMetrics.recordResolved(strategy);
+                }
+                InstantiationMetrics.recordInstance(strategy);
+                return instance;
+            }
+            cacheable = false;
+        }
+
+        if (cacheable || Modifier.isAbstract(klass.getModifiers())) {
+            ref.compareAndSet(null, new Resolution(BUILT_IN_STRATEGIES[0], null));
+        }
+        LOG.debug("Could not instantiate class '{}'", klass.getName());
+        return null;
+    }
+
+    @Nullable
+    private static <T> T instantiateUsingAllStrategies(final Class<T> klass) {
+        for (InstantiationStrategy strategy : BUILT_IN_STRATEGIES) {
             final T instance = createInstance(klass, strategy);
             if (instance != null) {
+                InstantiationMetrics.recordInstance(strategy);
                 return instance;
             }
         }
@@ -56,7 +157,36 @@ public class Instantiator {
 
     @Nullable
     @SuppressWarnings(Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE)
-    private <T> T createInstance(final Class<T> klass, final InstantiationStrategy strategy) {
+    private static ClassInstantiator bind(final Class<?> klass, final InstantiationStrategy strategy) {
+        try {
+            return strategy.bind(klass);
+        } catch (Throwable ex) { //NOPMD catches java.lang.LinkageError
+            ExceptionUtils.logException("{}: failed resolving instantiator for {}",
+                    ex, strategy.getClass().getSimpleName(), klass);
+        }
+        return null;
+    }
+
+    @Nullable
+    @SuppressWarnings(Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE)
+    private static <T> T newInstance(
+            final Class<T> klass,
+            final InstantiationStrategy strategy,
+            final ClassInstantiator instantiator) {
+        try {
+            return klass.cast(instantiator.newInstance());
+        } catch (InstancioApiException ex) {
+            throw ex;
+        } catch (Throwable ex) { //NOPMD catches java.lang.InstantiationError
+            ExceptionUtils.logException("{}: failed instantiating {}",
+                    ex, strategy.getClass().getSimpleName(), klass);
+        }
+        return null;
+    }
+
+    @Nullable
+    @SuppressWarnings(Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE)
+    private static <T> T createInstance(final Class<T> klass, final InstantiationStrategy strategy) {
         try {
             LOG.trace("{}: attempting to instantiate {}", strategy.getClass(), klass);
             return strategy.createInstance(klass);
@@ -68,4 +198,20 @@ public class Instantiator {
         }
         return null;
     }
+
+    /**
+     * The strategy resolved for a class. If none of the strategies
+     * succeeded, the {@code instantiator} is {@code null}.
+     */
+    private static final class Resolution {
+        private final InstantiationStrategy strategy;
+        private final @Nullable ClassInstantiator instantiator;
+        private final LongAdder instanceCounter;
+
+        Resolution(final InstantiationStrategy strategy, @Nullable final ClassInstantiator instantiator) {
+            this.strategy = strategy;
+            this.instantiator = instantiator;
+            this.instanceCounter = InstantiationMetrics.getInstanceCounter(strategy);
+        }
+    }
 }
@@ -47,12 +47,7 @@ class LeastArgumentsConstructorInstantiationStrategy implements InstantiationStr
         }
 
         final Constructor<?> constructor = ReflectionUtils.setAccessible(ctor);
-        final Parameter[] params = constructor.getParameters();
-        final @Nullable Object[] args = new Object[params.length];
-
-        for (int i = 0; i < args.length; i++) {
-            args[i] = ObjectUtils.defaultValue(params[i].getType());
-        }
+        final @Nullable Object[] args = getDefaultArguments(constructor);
 
         try {
             return (T) constructor.newInstance(args);
@@ -64,6 +59,30 @@ class LeastArgumentsConstructorInstantiationStrategy implements InstantiationStr
         }
     }
 
+    @Nullable
+    @Override
+    public ClassInstantiator bind(final Class<?> klass) {
+        final Constructor<?> ctor = getConstructorWithLeastArgs(klass);
+
+        if (ctor == null) {
+            return null;
+        }
+
+        final Constructor<?> constructor = ReflectionUtils.setAccessible(ctor);
+        final @Nullable Object[] args = getDefaultArguments(constructor);
+        return () -> constructor.newInstance(args);
+    }
+
+    private static @Nullable Object[] getDefaultArguments(final Constructor<?> constructor) {
+        final Parameter[] params = constructor.getParameters();
+        final @Nullable Object[] args = new Object[params.length];
+
+        for (int i = 0; i < args.length; i++) {
+            args[i] = ObjectUtils.defaultValue(params[i].getType());
+        }
+        return args;
+    }
+
     @Nullable
     private static <T> Constructor<?> getConstructorWithLeastArgs(final Class<T> klass) {
         final Comparator<Constructor<?>> comparator = Comparator.comparingInt(Constructor::getParameterCount);
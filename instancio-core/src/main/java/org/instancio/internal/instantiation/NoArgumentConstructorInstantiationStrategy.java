@@ -38,6 +38,17 @@ class NoArgumentConstructorInstantiationStrategy implements InstantiationStrateg
         }
     }
 
+    @Nullable
+    @Override
+    public ClassInstantiator bind(final Class<?> klass) {
+        final Constructor<?> ctor = getDefaultConstructor(klass);
+        if (ctor == null) {
+            return null;
+        }
+        ReflectionUtils.setAccessible(ctor);
+        return ctor::newInstance;
+    }
+
     @Nullable
     private static Constructor<?> getDefaultConstructor(final Class<?> klass) {
         for (Constructor<?> ctor : klass.getDeclaredConstructors()) {
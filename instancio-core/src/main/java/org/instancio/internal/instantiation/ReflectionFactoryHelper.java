@@ -16,6 +16,7 @@
 package org.instancio.internal.instantiation;
 
 import org.instancio.internal.util.ExceptionUtils;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Constructor;
 
@@ -39,6 +40,17 @@ final class ReflectionFactoryHelper {
         }
     }
 
+    @Nullable
+    static <T> Constructor<T> getConstructorForSerialization(final Class<T> klass) {
+        try {
+            return getNewConstructorForSerialization(klass);
+        } catch (Throwable ex) {
+            ExceptionUtils.logException(
+                    "Error resolving newConstructorForSerialization for {}", ex, klass);
+            return null;
+        }
+    }
+
     private static <T> Constructor<T> getNewConstructorForSerialization(final Class<T> type)
             throws NoSuchMethodException {
 
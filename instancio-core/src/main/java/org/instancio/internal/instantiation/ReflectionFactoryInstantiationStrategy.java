@@ -21,6 +21,8 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Constructor;
+
 /**
  * Uses {@code sun.reflect.ReflectionFactory} to instantiate objects.
  */
@@ -50,6 +52,16 @@ final class ReflectionFactoryInstantiationStrategy implements InstantiationStrat
                 : null;
     }
 
+    @Nullable
+    @Override
+    public ClassInstantiator bind(final Class<?> klass) {
+        if (!isReflectionFactoryAvailable()) {
+            return null;
+        }
+        final Constructor<?> ctor = ReflectionFactoryHelper.getConstructorForSerialization(klass);
+        return ctor == null ? null : ctor::newInstance;
+    }
+
     @VisibleForTesting
     boolean isReflectionFactoryAvailable() {
         return isReflectionFactoryAvailable;
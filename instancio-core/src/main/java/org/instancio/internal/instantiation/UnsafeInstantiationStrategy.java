@@ -55,6 +55,14 @@ final class UnsafeInstantiationStrategy implements InstantiationStrategy {
                 : null;
     }
 
+    @Nullable
+    @Override
+    public ClassInstantiator bind(final Class<?> klass) {
+        return isUnsafeAvailable()
+                ? () -> UnsafeHelper.getInstance().allocateInstance(klass)
+                : null;
+    }
+
     @VisibleForTesting
     boolean isUnsafeAvailable() {
         return isUnsafeAvailable;
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.instancio.FeedLoad")
+@Label("Feed Load")
+@Category(JfrEventEmitter.CATEGORY)
+@Description("Loading of feed data, either from the data source or from the feed cache")
+final class FeedLoadEvent extends Event {
+
+    @Label("Source")
+    String source;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Estimated Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.jfr;
+
+import org.instancio.internal.feed.DataStore;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.util.ReflectionUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Emits Java Flight Recorder events for model creation, root object
+ * generation, feed loading, and max generation attempts warnings.
+ *
+ * <p>Events are only created if the {@code jdk.jfr} module is available
+ * and a recording with the given event enabled is in progress.
+ * Otherwise, the {@code begin} methods return {@code null},
+ * and the corresponding {@code end} methods do nothing.
+ * Event objects are passed around as opaque tokens so that
+ * callers do not depend on the {@code jdk.jfr} module.
+ *
+ * @since 6.0.0
+ */
+public final class InstancioEvents {
+
+    private static final boolean JFR_AVAILABLE = ReflectionUtils.loadClass("jdk.jfr.Event") != null;
+
+    private InstancioEvents() {
+        // non-instantiable
+    }
+
+    @Nullable
+    public static Object beginModelBuild() {
+        return JFR_AVAILABLE ? JfrEventEmitter.beginModelBuild() : null;
+    }
+
+    public static void endModelBuild(@Nullable final Object event, final InternalNode rootNode) {
+        if (event != null) {
+            JfrEventEmitter.endModelBuild(event, rootNode);
+        }
+    }
+
+    @Nullable
+    public static Object beginGenerate() {
+        return JFR_AVAILABLE ? JfrEventEmitter.beginGenerate() : null;
+    }
+
+    public static void endGenerate(@Nullable final Object event,
+                                   final InternalNode rootNode,
+                                   final long seed,
+                                   final long objectCount) {
+        if (event != null) {
+            JfrEventEmitter.endGenerate(event, rootNode, seed, objectCount);
+        }
+    }
+
+    @Nullable
+    public static Object beginFeedLoad() {
+        return JFR_AVAILABLE ? JfrEventEmitter.beginFeedLoad() : null;
+    }
+
+    public static void endFeedLoad(@Nullable final Object event,
+                                   @Nullable final String source,
+                                   final DataStore<?> dataStore,
+                                   final boolean cacheHit) {
+        if (event != null) {
+            JfrEventEmitter.endFeedLoad(event, source, dataStore, cacheHit);
+        }
+    }
+
+    public static void maxGenerationAttemptsReached(final InternalNode node, final int maxAttempts) {
+        if (JFR_AVAILABLE) {
+            JfrEventEmitter.maxGenerationAttemptsReached(node, maxAttempts);
+        }
+    }
+}
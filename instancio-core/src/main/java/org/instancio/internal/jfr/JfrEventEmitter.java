@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.jfr;
+
+import org.instancio.internal.feed.DataStore;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.util.Format;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Creates and commits Flight Recorder events.
+ *
+ * <p>This is the only class that references the event classes,
+ * therefore it must only be loaded if the {@code jdk.jfr}
+ * module is available (see {@link InstancioEvents}).
+ */
+final class JfrEventEmitter {
+
+    static final String CATEGORY = "Instancio";
+
+    private JfrEventEmitter() {
+        // non-instantiable
+    }
+
+    @Nullable
+    static Object beginModelBuild() {
+        final ModelBuildEvent event = new ModelBuildEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void endModelBuild(final Object token, final InternalNode rootNode) {
+        final ModelBuildEvent event = (ModelBuildEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            int nodeCount = 0;
+            int depth = 0;
+            final Deque<InternalNode> queue = new ArrayDeque<>();
+            queue.add(rootNode);
+            while (!queue.isEmpty()) {
+                final InternalNode node = queue.removeFirst();
+                nodeCount++;
+                depth = Math.max(depth, node.getDepth());
+                // do not create children of lazily expanded nodes
+                if (node.isExpanded()) {
+                    queue.addAll(node.getChildren());
+                }
+            }
+            event.rootType = rootNode.getType().getTypeName();
+            event.nodeCount = nodeCount;
+            event.depth = depth;
+            event.commit();
+        }
+    }
+
+    @Nullable
+    static Object beginGenerate() {
+        final GenerateEvent event = new GenerateEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void endGenerate(final Object token,
+                            final InternalNode rootNode,
+                            final long seed,
+                            final long objectCount) {
+
+        final GenerateEvent event = (GenerateEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.rootType = rootNode.getType().getTypeName();
+            event.seed = seed;
+            event.objectCount = objectCount;
+            event.commit();
+        }
+    }
+
+    @Nullable
+    static Object beginFeedLoad() {
+        final FeedLoadEvent event = new FeedLoadEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void endFeedLoad(final Object token,
+                            @Nullable final String source,
+                            final DataStore<?> dataStore,
+                            final boolean cacheHit) {
+
+        final FeedLoadEvent event = (FeedLoadEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.rows = dataStore.size();
+            event.bytes = dataStore.getEstimatedBytes();
+            event.cacheHit = cacheHit;
+            event.commit();
+        }
+    }
+
+    static void maxGenerationAttemptsReached(final InternalNode node, final int maxAttempts) {
+        final MaxGenerationAttemptsEvent event = new MaxGenerationAttemptsEvent();
+        if (event.shouldCommit()) {
+            event.node = String.valueOf(Format.formatNode(node));
+            event.maxAttempts = maxAttempts;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.instancio.MaxGenerationAttemptsReached")
+@Label("Max Generation Attempts Reached")
+@Category(JfrEventEmitter.CATEGORY)
+@Description("A node could not be populated with an accepted value within the maximum number of attempts")
+final class MaxGenerationAttemptsEvent extends Event {
+
+    @Label("Node")
+    String node;
+
+    @Label("Max Attempts")
+    int maxAttempts;
+}
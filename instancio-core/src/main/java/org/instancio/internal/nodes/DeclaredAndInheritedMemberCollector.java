@@ -32,35 +32,75 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Collects fields and setters from a given class.
+ *
+ * <p>Since the result depends only on the class and the settings
+ * related to method assignment, collected data is cached for the
+ * lifetime of the class, so that each class is introspected once
+ * per combination of settings, rather than once per model.
  */
 class DeclaredAndInheritedMemberCollector {
 
     private static final Comparator<Method> METHOD_COMPARATOR = new SetterMethodComparator();
 
+    private static final ClassValue<Map<CacheKey, ClassData>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<CacheKey, ClassData> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final PackageFilter packageFilter = new DefaultPackageFilter();
     private final DefaultSetterMethodResolver defaultSetterMethodResolver;
     private final boolean isMethodAssignmentEnabled;
     private final boolean ignoreUnmatchedSetters;
     private final @Nullable String setterPrefix;
     private final int setterExcludeModifiers;
+    private final CacheKey cacheKey;
+    private final CacheKey recordCacheKey;
 
     DeclaredAndInheritedMemberCollector(final Settings settings) {
+        final SetterStyle setterStyle = settings.get(Keys.SETTER_STYLE);
         this.isMethodAssignmentEnabled = settings.get(Keys.ASSIGNMENT_TYPE) == AssignmentType.METHOD;
         this.ignoreUnmatchedSetters = settings.get(Keys.ON_SET_METHOD_UNMATCHED) == OnSetMethodUnmatched.IGNORE;
-        this.setterPrefix = getSetterPrefix(settings.get(Keys.SETTER_STYLE));
+        this.setterPrefix = getSetterPrefix(setterStyle);
         this.setterExcludeModifiers = settings.get(Keys.SETTER_EXCLUDE_MODIFIER);
         this.defaultSetterMethodResolver = new DefaultSetterMethodResolver(settings);
+        this.cacheKey = new CacheKey(isMethodAssignmentEnabled, ignoreUnmatchedSetters,
+                setterStyle, setterExcludeModifiers, false);
+        this.recordCacheKey = new CacheKey(isMethodAssignmentEnabled, ignoreUnmatchedSetters,
+                setterStyle, setterExcludeModifiers, true);
+    }
+
+    /**
+     * Returns the key identifying the settings that affect collected members.
+     */
+    CacheKey getCacheKey() {
+        return cacheKey;
     }
 
     ClassData getClassData(final InternalNode node) {
         final Class<?> klass = node.getTargetClass();
-        final List<Field> fields = getNonStaticFields(klass);
         final boolean isRecord = node.getNodeKind() == NodeKind.RECORD;
+        final CacheKey key = isRecord ? recordCacheKey : cacheKey;
+        final Map<CacheKey, ClassData> classCache = CACHE.get(klass);
+        final ClassData cached = classCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final ClassData classData = collectClassData(klass, isRecord);
+        final ClassData existing = classCache.putIfAbsent(key, classData);
+        return existing == null ? classData : existing;
+    }
+
+    private ClassData collectClassData(final Class<?> klass, final boolean isRecord) {
+        final List<Field> fields = getNonStaticFields(klass);
         final Set<Method> unmatchedSetters = isRecord ? Collections.emptySet() : getSetters(klass);
         final List<MemberPair> memberPairs = new ArrayList<>();
 
@@ -162,6 +202,53 @@ class DeclaredAndInheritedMemberCollector {
         return collected;
     }
 
+    /**
+     * Settings that affect the collected data.
+     */
+    static final class CacheKey {
+        private final boolean isMethodAssignmentEnabled;
+        private final boolean ignoreUnmatchedSetters;
+        private final SetterStyle setterStyle;
+        private final int setterExcludeModifiers;
+        private final boolean isRecord;
+
+        private CacheKey(
+                final boolean isMethodAssignmentEnabled,
+                final boolean ignoreUnmatchedSetters,
+                final SetterStyle setterStyle,
+                final int setterExcludeModifiers,
+                final boolean isRecord) {
+
+            this.isMethodAssignmentEnabled = isMethodAssignmentEnabled;
+            this.ignoreUnmatchedSetters = ignoreUnmatchedSetters;
+            this.setterStyle = setterStyle;
+            this.setterExcludeModifiers = setterExcludeModifiers;
+            this.isRecord = isRecord;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey other)) return false;
+
+            return isMethodAssignmentEnabled == other.isMethodAssignmentEnabled
+                    && ignoreUnmatchedSetters == other.ignoreUnmatchedSetters
+                    && setterStyle == other.setterStyle
+                    && setterExcludeModifiers == other.setterExcludeModifiers
+                    && isRecord == other.isRecord;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Boolean.hashCode(isMethodAssignmentEnabled);
+            result = 31 * result + Boolean.hashCode(ignoreUnmatchedSetters);
+            result = 31 * result + setterStyle.hashCode();
+            result = 31 * result + setterExcludeModifiers;
+            result = 31 * result + Boolean.hashCode(isRecord);
+            return result;
+        }
+    }
+
     static final class MethodKey {
         private final String name;
         private final Class<?> parameterType;
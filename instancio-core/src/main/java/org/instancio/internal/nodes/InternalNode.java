@@ -27,6 +27,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -37,47 +38,58 @@ import static java.util.Objects.requireNonNull;
 @SuppressWarnings("PMD.GodClass")
 public final class InternalNode implements Node {
 
-    private final Type type;
-    private final Class<?> rawType;
-    private final Class<?> targetClass;
-    private final @Nullable Field field;
-    private final @Nullable Method setter;
+    // data shared with other nodes of the hierarchy that have the same shape
+    private final NodeShape shape;
     private final @Nullable InternalNode parent;
-    private final NodeKind nodeKind;
-    private final boolean cyclic;
-    private final NodeTypeMap nodeTypeMap;
-    private List<InternalNode> children;
+    private @Nullable NodeExpander expander;
+    private @Nullable List<InternalNode> children;
     private final int depth;
-    private int hash;
 
     private InternalNode(final Builder builder) {
-        type = builder.type;
-        rawType = builder.rawType;
-        targetClass = requireNonNull(builder.targetClass);
-        field = builder.field;
-        setter = builder.setter;
         parent = builder.parent;
-        nodeKind = requireNonNull(builder.nodeKind);
-        cyclic = builder.cyclic;
-        nodeTypeMap = requireNonNull(builder.nodeTypeMap);
-        children = CollectionUtils.asUnmodifiableList(builder.children);
+
+        final NodeShape.Interner interner;
+        if (parent != null) {
+            interner = parent.shape.interner;
+        } else if (builder.interner != null) {
+            interner = builder.interner;
+        } else {
+            interner = new NodeShape.Interner();
+        }
+
+        shape = interner.intern(new NodeShape(
+                builder.type,
+                builder.rawType,
+                requireNonNull(builder.targetClass),
+                builder.field,
+                builder.setter,
+                requireNonNull(builder.nodeKind),
+                builder.cyclic,
+                requireNonNull(builder.nodeTypeMap),
+                interner));
+
+        expander = parent == null ? null : parent.expander;
+        // without an expander, a node created without children is a leaf
+        children = builder.children == null && expander != null
+                ? null
+                : CollectionUtils.asUnmodifiableList(builder.children);
         depth = parent == null ? 0 : parent.depth + 1;
     }
 
     public NodeKind getNodeKind() {
-        return nodeKind;
+        return shape.nodeKind;
     }
 
     public boolean is(final NodeKind nodeKind) {
-        return this.nodeKind == nodeKind;
+        return shape.nodeKind == nodeKind;
     }
 
     public boolean isIgnored() {
-        return nodeKind == NodeKind.IGNORED;
+        return shape.nodeKind == NodeKind.IGNORED;
     }
 
     public boolean isCyclic() {
-        return cyclic;
+        return shape.cyclic;
     }
 
     boolean isContainer() {
@@ -94,7 +106,7 @@ public final class InternalNode implements Node {
      * @return type represented by this node
      */
     public Type getType() {
-        return type;
+        return shape.type;
     }
 
     /**
@@ -106,7 +118,7 @@ public final class InternalNode implements Node {
      * @see #getTargetClass()
      */
     public Class<?> getRawType() {
-        return rawType;
+        return shape.rawType;
     }
 
     /**
@@ -117,7 +129,7 @@ public final class InternalNode implements Node {
      */
     @Override
     public Class<?> getTargetClass() {
-        return targetClass;
+        return shape.targetClass;
     }
 
     /**
@@ -128,7 +140,7 @@ public final class InternalNode implements Node {
     @Nullable
     @Override
     public Field getField() {
-        return field;
+        return shape.field;
     }
 
     /**
@@ -139,7 +151,7 @@ public final class InternalNode implements Node {
     @Nullable
     @Override
     public Method getSetter() {
-        return setter;
+        return shape.setter;
     }
 
     @Nullable
@@ -149,7 +161,7 @@ public final class InternalNode implements Node {
     }
 
     public NodeTypeMap getTypeMap() {
-        return nodeTypeMap;
+        return shape.nodeTypeMap;
     }
 
     public InternalNode getOnlyChild() {
@@ -164,17 +176,73 @@ public final class InternalNode implements Node {
      * <p>
      * A node (including container nodes) may not have children in case of cyclic relationships.
      * An empty list would be returned to break the cycle.
+     * <p>
+     * If the node tree is expanded lazily, children are created
+     * when this method is invoked for the first time.
      *
      * @return this node's children or an empty list if none
+     * @see #isExpanded()
      */
     public List<InternalNode> getChildren() {
-        return children;
+        final List<InternalNode> result = children;
+        if (result != null) {
+            return result;
+        }
+        requireNonNull(expander).expand(this);
+        return requireNonNull(children);
+    }
+
+    /**
+     * Returns {@code true} if this node's children have been created.
+     * This is always the case unless the node tree is expanded lazily.
+     *
+     * @return whether children of this node have been created
+     * @see org.instancio.settings.Keys#LAZY_NODE_EXPANSION_ENABLED
+     */
+    public boolean isExpanded() {
+        return children != null;
     }
 
     void setChildren(final List<InternalNode> children) {
         this.children = children;
     }
 
+    /**
+     * Sets the expander used for creating children of this node
+     * and its descendants created afterwards.
+     */
+    void setExpander(final NodeExpander expander) {
+        this.expander = expander;
+    }
+
+    /**
+     * Creates a deep copy of this node and its children
+     * attached to the given parent.
+     *
+     * @param newParent parent of the copy, or {@code null} for a detached copy
+     * @param rootType  root type of the model the copy belongs to
+     * @return a copy of this node
+     */
+    InternalNode copy(@Nullable final InternalNode newParent, final RootType rootType) {
+        final Builder builder = toBuilder();
+        builder.parent = newParent;
+        builder.interner = null;
+        builder.children = Collections.emptyList();
+        builder.nodeTypeMap = shape.nodeTypeMap.withRootType(rootType);
+
+        final InternalNode copy = new InternalNode(builder);
+        final List<InternalNode> sourceChildren = getChildren();
+
+        if (!sourceChildren.isEmpty()) {
+            final List<InternalNode> copiedChildren = new ArrayList<>(sourceChildren.size());
+            for (InternalNode child : sourceChildren) {
+                copiedChildren.add(child.copy(copy, rootType));
+            }
+            copy.children = Collections.unmodifiableList(copiedChildren);
+        }
+        return copy;
+    }
+
     /**
      * This method is used to determine if this is a cyclic node.
      */
@@ -182,9 +250,9 @@ public final class InternalNode implements Node {
         InternalNode ancestor = parent;
 
         while (ancestor != null) {
-            if ((nodeKind == NodeKind.POJO || nodeKind == NodeKind.RECORD)
-                && Objects.equals(targetClass, ancestor.targetClass)
-                && Objects.equals(type, ancestor.type)) {
+            if ((shape.nodeKind == NodeKind.POJO || shape.nodeKind == NodeKind.RECORD)
+                && Objects.equals(shape.targetClass, ancestor.shape.targetClass)
+                && Objects.equals(shape.type, ancestor.shape.type)) {
                 return true;
             }
 
@@ -204,41 +272,34 @@ public final class InternalNode implements Node {
         if (o == null || getClass() != o.getClass()) return false;
         final InternalNode other = (InternalNode) o;
 
-        return this.depth == other.depth
-               && this.targetClass.equals(other.targetClass)
-               && this.type.equals(other.type)
-               && Objects.equals(this.field, other.field)
-               && Objects.equals(this.setter, other.setter);
+        if (this.depth != other.depth) return false;
+        if (this.shape == other.shape) return true;
+
+        return this.shape.memberHash == other.shape.memberHash
+               && this.shape.targetClass.equals(other.shape.targetClass)
+               && this.shape.type.equals(other.shape.type)
+               && Objects.equals(this.shape.field, other.shape.field)
+               && Objects.equals(this.shape.setter, other.shape.setter);
     }
 
     @Override
     public int hashCode() {
-        if (hash == 0) {
-            hash = computeHashCode();
-        }
-        return hash;
-    }
-
-    private int computeHashCode() {
-        int result = type.hashCode();
-        result = 31 * result + targetClass.hashCode();
-        result = 31 * result + (field != null ? field.hashCode() : 0);
-        result = 31 * result + (setter != null ? setter.hashCode() : 0);
-        result = 31 * result + depth;
-        return result;
+        return 31 * shape.memberHash + depth;
     }
 
     @Override
     public String toString() {
+        final Field field = shape.field;
+        final Method setter = shape.setter;
         final StringBuilder sb = new StringBuilder(50)
                 .append("Node[");
 
         if (field == null && setter == null) {
-            sb.append(Format.withoutPackage(targetClass));
+            sb.append(Format.withoutPackage(shape.targetClass));
         } else {
             if (field != null) {
                 requireNonNull(parent); // parent must be non-null since we have a field
-                sb.append(Format.withoutPackage(parent.targetClass)).append('.').append(field.getName());
+                sb.append(Format.withoutPackage(parent.shape.targetClass)).append('.').append(field.getName());
                 if (setter != null) {
                     sb.append(", ");
                 }
@@ -249,9 +310,9 @@ public final class InternalNode implements Node {
         }
 
         sb.append(", depth=").append(depth)
-                .append(", type=").append(Format.withoutPackage(type));
+                .append(", type=").append(Format.withoutPackage(shape.type));
 
-        if (nodeKind == NodeKind.IGNORED) {
+        if (shape.nodeKind == NodeKind.IGNORED) {
             sb.append(", IGNORED");
         }
 
@@ -259,14 +320,17 @@ public final class InternalNode implements Node {
     }
 
     public String toDisplayString() {
-        if (nodeKind == NodeKind.IGNORED) {
+        if (shape.nodeKind == NodeKind.IGNORED) {
             return "ignored";
         }
 
+        final Field field = shape.field;
+        final Method setter = shape.setter;
+
         final StringBuilder sb = new StringBuilder(32);
 
         if (field == null && setter == null) {
-            return sb.append("class ").append(Format.withoutPackage(type)).toString();
+            return sb.append("class ").append(Format.withoutPackage(shape.type)).toString();
         }
 
         if (field != null) {
@@ -292,20 +356,21 @@ public final class InternalNode implements Node {
     }
 
     public Builder toBuilder(final Type typeOverride) {
-        final Builder builder = new Builder(typeOverride, rawType, nodeTypeMap.getRootType());
-        builder.targetClass = targetClass;
-        builder.field = field;
-        builder.setter = setter;
+        final Builder builder = new Builder(typeOverride, shape.rawType, shape.nodeTypeMap.getRootType());
+        builder.targetClass = shape.targetClass;
+        builder.field = shape.field;
+        builder.setter = shape.setter;
         builder.parent = parent;
         builder.children = children;
-        builder.nodeKind = nodeKind;
-        builder.cyclic = cyclic;
-        builder.nodeTypeMap = nodeTypeMap;
+        builder.nodeKind = shape.nodeKind;
+        builder.cyclic = shape.cyclic;
+        builder.nodeTypeMap = shape.nodeTypeMap;
+        builder.interner = shape.interner;
         return builder;
     }
 
     public Builder toBuilder() {
-        return toBuilder(type);
+        return toBuilder(shape.type);
     }
 
     public static Builder builder(
@@ -328,6 +393,7 @@ public final class InternalNode implements Node {
         private @Nullable NodeKind nodeKind;
         private boolean cyclic;
         private @Nullable NodeTypeMap nodeTypeMap;
+        private NodeShape.@Nullable Interner interner;
         private Map<Type, Type> additionalTypeMap = Collections.emptyMap();
 
         private Builder(
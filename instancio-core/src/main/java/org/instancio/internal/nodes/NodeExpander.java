@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+/**
+ * Creates children of a node whose children have not been
+ * created when the node tree was built.
+ *
+ * @see org.instancio.settings.Keys#LAZY_NODE_EXPANSION_ENABLED
+ */
+@FunctionalInterface
+interface NodeExpander {
+
+    /**
+     * Creates children of the given node and sets them
+     * on the node before any further processing, such as
+     * applying feeds, which may access the node's children.
+     *
+     * @param node whose children should be created
+     */
+    void expand(InternalNode node);
+}
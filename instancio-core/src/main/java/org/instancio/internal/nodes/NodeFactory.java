@@ -43,6 +43,10 @@ import static org.instancio.internal.util.ErrorMessageUtils.maxDepthReached;
 
 /**
  * Class for creating a node hierarchy for a given {@link Type}.
+ *
+ * <p>If {@link Keys#LAZY_NODE_EXPANSION_ENABLED} is enabled, only the
+ * root node and its children are created upfront. Children of other
+ * nodes are created when they are requested for the first time.
  */
 public final class NodeFactory {
 
@@ -52,6 +56,8 @@ public final class NodeFactory {
     private final TypeHelper typeHelper;
     private final OriginSelectorValidator originSelectorValidator;
     private final InternalFeedSpecHandler feedSpecHandler;
+    private final NodeTemplateCache templateCache;
+    private final boolean lazy;
 
     public NodeFactory(final ModelContext modelContext) {
         this.modelContext = modelContext;
@@ -60,12 +66,25 @@ public final class NodeFactory {
         this.originSelectorValidator = new OriginSelectorValidator(modelContext);
         this.memberCollector = new DeclaredAndInheritedMemberCollector(modelContext.getSettings());
         this.feedSpecHandler = DefaultFeedSpecHandler.create(modelContext);
+        // assignments require the complete node tree
+        this.lazy = modelContext.getSettings().get(Keys.LAZY_NODE_EXPANSION_ENABLED)
+                && !modelContext.getSelectorMaps().hasAssignments();
+        // templates are complete subtrees, so copying them defeats lazy expansion
+        this.templateCache = new NodeTemplateCache(modelContext, memberCollector, !lazy);
     }
 
     public InternalNode createRootNode(final Type type) {
         // root node can't be null
         final InternalNode root = requireNonNull(nodeCreator.createNode(type, /* parent = */ null));
 
+        if (lazy) {
+            root.setExpander(this::expand);
+            if (root.getChildren().isEmpty()) {
+                expand(root);
+            }
+            return root;
+        }
+
         final Queue<InternalNode> nodeQueue = new ArrayDeque<>();
         nodeQueue.offer(root);
 
@@ -78,6 +97,14 @@ public final class NodeFactory {
 
             originSelectorValidator.checkNode(node);
 
+            final List<InternalNode> templateChildren = templateCache.getChildren(node);
+            if (templateChildren != null) {
+                node.setChildren(templateChildren);
+                feedSpecHandler.applyFeedSpecs(node);
+                processCopiedNodes(templateChildren);
+                continue;
+            }
+
             final List<InternalNode> children = createChildren(node);
             node.setChildren(children);
             nodeQueue.addAll(children);
@@ -85,9 +112,48 @@ public final class NodeFactory {
             // these are applied to child nodes of POJOs or records
             feedSpecHandler.applyFeedSpecs(node);
         }
+
+        templateCache.putTemplates(root);
         return root;
     }
 
+    /**
+     * Creates children of a node when the node tree is expanded lazily.
+     * Children of the created nodes are expanded when requested.
+     */
+    private void expand(final InternalNode node) {
+        if (node.isCyclic()) {
+            node.setChildren(List.of());
+            return;
+        }
+
+        originSelectorValidator.checkNode(node);
+        node.setChildren(createChildren(node));
+        // must be done after children have been set (see createRootNode())
+        feedSpecHandler.applyFeedSpecs(node);
+    }
+
+    /**
+     * Nodes copied from a template already have children,
+     * but still need to be validated and have feeds applied.
+     */
+    private void processCopiedNodes(final List<InternalNode> nodes) {
+        final Queue<InternalNode> queue = new ArrayDeque<>(nodes);
+
+        while (!queue.isEmpty()) {
+            final InternalNode node = queue.poll();
+
+            // consistent with createRootNode(), which skips nodes created with children
+            if (node.isCyclic() || PredefinedNodeCreator.isPredefined(node.getType())) {
+                continue;
+            }
+
+            originSelectorValidator.checkNode(node);
+            queue.addAll(node.getChildren());
+            feedSpecHandler.applyFeedSpecs(node);
+        }
+    }
+
     /**
      * Creates children for the given node.
      * Returned children will not have children of their own
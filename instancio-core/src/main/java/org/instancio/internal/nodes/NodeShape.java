@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+import org.instancio.internal.util.Sonar;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the data of a node that does not depend on the node's
+ * position in the hierarchy.
+ *
+ * <p>Nodes that differ only by their parent, depth, or children,
+ * for example, the same class declared by fields of different classes,
+ * or the same field of a class occurring in multiple subtrees,
+ * share a single shape. Shapes are interned per node hierarchy
+ * using an {@link Interner} inherited from the parent node,
+ * which reduces the memory footprint of large models.
+ */
+final class NodeShape {
+
+    final Type type;
+    final Class<?> rawType;
+    final Class<?> targetClass;
+    final @Nullable Field field;
+    final @Nullable Method setter;
+    final NodeKind nodeKind;
+    final boolean cyclic;
+    final NodeTypeMap nodeTypeMap;
+    final Interner interner;
+
+    /**
+     * Hash code of the properties used by {@link InternalNode#equals(Object)}
+     * (excluding depth) cached to avoid recomputing it for each node.
+     */
+    final int memberHash;
+
+    @SuppressWarnings({Sonar.TOO_MANY_PARAMETERS, "PMD.ExcessiveParameterList"})
+    NodeShape(final Type type,
+              final Class<?> rawType,
+              final Class<?> targetClass,
+              @Nullable final Field field,
+              @Nullable final Method setter,
+              final NodeKind nodeKind,
+              final boolean cyclic,
+              final NodeTypeMap nodeTypeMap,
+              final Interner interner) {
+
+        this.type = type;
+        this.rawType = rawType;
+        this.targetClass = targetClass;
+        this.field = field;
+        this.setter = setter;
+        this.nodeKind = nodeKind;
+        this.cyclic = cyclic;
+        this.nodeTypeMap = nodeTypeMap;
+        this.interner = interner;
+        this.memberHash = computeMemberHash();
+    }
+
+    private int computeMemberHash() {
+        int result = type.hashCode();
+        result = 31 * result + targetClass.hashCode();
+        result = 31 * result + (field != null ? field.hashCode() : 0);
+        result = 31 * result + (setter != null ? setter.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NodeShape other)) return false;
+
+        return memberHash == other.memberHash
+                && rawType == other.rawType
+                && targetClass == other.targetClass
+                && nodeKind == other.nodeKind
+                && cyclic == other.cyclic
+                && type.equals(other.type)
+                && Objects.equals(field, other.field)
+                && Objects.equals(setter, other.setter)
+                && nodeTypeMap.getRootType() == other.nodeTypeMap.getRootType()
+                && nodeTypeMap.equals(other.nodeTypeMap);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = memberHash;
+        result = 31 * result + nodeKind.hashCode();
+        result = 31 * result + Boolean.hashCode(cyclic);
+        result = 31 * result + nodeTypeMap.hashCode();
+        return result;
+    }
+
+    /**
+     * Interns shapes of a single node hierarchy.
+     *
+     * <p>Not thread-safe. A node hierarchy is created (or, if expanded
+     * lazily, expanded) by one thread at a time.
+     */
+    static final class Interner {
+        private final Map<NodeShape, NodeShape> shapes = new HashMap<>();
+
+        NodeShape intern(final NodeShape shape) {
+            final NodeShape existing = shapes.putIfAbsent(shape, shape);
+            return existing == null ? shape : existing;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+import org.instancio.internal.RootType;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.instancio.internal.util.SealedClassUtils.isSealedAbstractType;
+
+/**
+ * A cache of node subtrees shared across models.
+ *
+ * <p>Building the children of a POJO or record requires reflecting
+ * on its members and resolving the type of each member. When no selector
+ * affects the structure of the node hierarchy, the subtree of a given
+ * class depends only on the class itself and the settings, and can
+ * therefore be copied from a template built by a previous model.
+ *
+ * <p>Templates are used only if all of the following hold:
+ *
+ * <ul>
+ *   <li>the node tree is not expanded lazily</li>
+ *   <li>the model has no {@code ignore()}, {@code subtype()},
+ *       or {@code setModel()} selectors</li>
+ *   <li>there are no user-defined {@code TypeResolver} SPIs</li>
+ *   <li>the root type of the model has no type variable mappings</li>
+ *   <li>the subtree does not contain raw generic types or sealed
+ *       types (the latter are resolved randomly)</li>
+ *   <li>the subtree fits within the maximum depth and does not contain
+ *       types of the node's ancestors (which would result in cyclic nodes)</li>
+ * </ul>
+ *
+ * <p>The above guarantees that a copied subtree is identical to
+ * one that would have been created from scratch.
+ */
+final class NodeTemplateCache {
+
+    /**
+     * Marks a class whose subtree cannot be cached regardless of where it occurs.
+     */
+    private static final Template INELIGIBLE = new Template(null, 0, Collections.emptySet());
+
+    private static final ClassValue<Map<Key, Template>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Key, Template> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final RootType rootType;
+    private final int maxDepth;
+    private final boolean enabled;
+    private final Key key;
+
+    NodeTemplateCache(final ModelContext modelContext,
+                      final DeclaredAndInheritedMemberCollector memberCollector,
+                      final boolean enabled) {
+
+        this.rootType = modelContext.getRootType();
+        this.maxDepth = modelContext.getMaxDepth();
+        this.enabled = enabled
+                && !rootType.hasTypeMappings()
+                && !modelContext.getSelectorMaps().hasNodeStructureSelectors()
+                && !modelContext.getSelectorMaps().hasSetModels()
+                && modelContext.getServiceProviders().getTypeResolvers().isEmpty();
+
+        this.key = new Key(
+                memberCollector.getCacheKey(),
+                Map.copyOf(modelContext.getSettings().getSubtypeMap()),
+                modelContext.getSettings().get(Keys.IGNORE_FIELD_NAME_REGEXES));
+    }
+
+    /**
+     * Returns copies of the given node's children from a template, if available.
+     *
+     * @param node to create children for
+     * @return children attached to the given node, or {@code null}
+     * if a template is not available
+     */
+    @Nullable
+    List<InternalNode> getChildren(final InternalNode node) {
+        if (!enabled || !isCandidate(node)) {
+            return null;
+        }
+
+        final Template template = CACHE.get(node.getTargetClass()).get(key);
+
+        if (template == null || template.root == null || !isApplicable(template, node)) {
+            return null;
+        }
+
+        final List<InternalNode> templateChildren = template.root.getChildren();
+        final List<InternalNode> children = new ArrayList<>(templateChildren.size());
+        for (InternalNode child : templateChildren) {
+            children.add(child.copy(node, rootType));
+        }
+        return children;
+    }
+
+    /**
+     * Creates templates from the subtrees of the given node hierarchy
+     * for classes that do not have a template yet.
+     *
+     * @param root of the node hierarchy
+     */
+    void putTemplates(final InternalNode root) {
+        if (!enabled) {
+            return;
+        }
+
+        final Deque<InternalNode> stack = new ArrayDeque<>();
+        stack.push(root);
+
+        while (!stack.isEmpty()) {
+            final InternalNode node = stack.pop();
+
+            if (isCandidate(node) && !node.getChildren().isEmpty()) {
+                final Map<Key, Template> classCache = CACHE.get(node.getTargetClass());
+                final Template existing = classCache.get(key);
+
+                if (existing != null && existing.root != null) {
+                    // nested classes have been processed when the template was created
+                    continue;
+                }
+                if (existing == null) {
+                    final Template template = createTemplate(node);
+                    if (template != null) {
+                        classCache.putIfAbsent(key, template);
+                    }
+                }
+            }
+
+            for (InternalNode child : node.getChildren()) {
+                stack.push(child);
+            }
+        }
+    }
+
+    @Nullable
+    private Template createTemplate(final InternalNode node) {
+        final Set<Type> types = new HashSet<>();
+        int height = 0;
+
+        final Deque<InternalNode> stack = new ArrayDeque<>();
+        stack.push(node);
+
+        while (!stack.isEmpty()) {
+            final InternalNode current = stack.pop();
+
+            if (isSealedAbstractType(current.getRawType()) || isRawGenericType(current.getType())) {
+                return INELIGIBLE;
+            }
+
+            if (current != node && (current.is(NodeKind.POJO) || current.is(NodeKind.RECORD))) {
+                types.add(current.getType());
+            }
+
+            height = Math.max(height, current.getDepth() - node.getDepth());
+
+            for (InternalNode child : current.getChildren()) {
+                stack.push(child);
+            }
+        }
+
+        final Template template = new Template(node.copy(null, rootType), height, types);
+
+        // the subtree might have been truncated or affected
+        // by ancestors, in which case it's not a valid template
+        return isApplicable(template, node) ? template : null;
+    }
+
+    private boolean isApplicable(final Template template, final InternalNode node) {
+        if (node.getDepth() + template.height >= maxDepth) {
+            return false;
+        }
+
+        InternalNode ancestor = node.getParent();
+        while (ancestor != null) {
+            if (template.types.contains(ancestor.getType())) {
+                return false;
+            }
+            ancestor = ancestor.getParent();
+        }
+        return true;
+    }
+
+    private static boolean isCandidate(final InternalNode node) {
+        return (node.is(NodeKind.POJO) || node.is(NodeKind.RECORD))
+                && !node.isCyclic()
+                && node.getType() == node.getTargetClass()
+                && node.getRawType() == node.getTargetClass()
+                && node.getTargetClass().getTypeParameters().length == 0;
+    }
+
+    private static boolean isRawGenericType(final Type type) {
+        return type instanceof Class<?> klass && klass.getTypeParameters().length > 0;
+    }
+
+    private static final class Key {
+        private final DeclaredAndInheritedMemberCollector.CacheKey memberCollectorKey;
+        private final Map<Class<?>, Class<?>> subtypeMap;
+        private final @Nullable String ignoreFieldNameRegexes;
+
+        private Key(final DeclaredAndInheritedMemberCollector.CacheKey memberCollectorKey,
+                    final Map<Class<?>, Class<?>> subtypeMap,
+                    @Nullable final String ignoreFieldNameRegexes) {
+
+            this.memberCollectorKey = memberCollectorKey;
+            this.subtypeMap = subtypeMap;
+            this.ignoreFieldNameRegexes = ignoreFieldNameRegexes;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+
+            return memberCollectorKey.equals(other.memberCollectorKey)
+                    && subtypeMap.equals(other.subtypeMap)
+                    && Objects.equals(ignoreFieldNameRegexes, other.ignoreFieldNameRegexes);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = memberCollectorKey.hashCode();
+            result = 31 * result + subtypeMap.hashCode();
+            result = 31 * result + Objects.hashCode(ignoreFieldNameRegexes);
+            return result;
+        }
+    }
+
+    private static final class Template {
+        private final @Nullable InternalNode root;
+        private final int height;
+        private final Set<Type> types;
+
+        private Template(@Nullable final InternalNode root, final int height, final Set<Type> types) {
+            this.root = root;
+            this.height = height;
+            this.types = types;
+        }
+    }
+}
@@ -45,6 +45,18 @@ public final class NodeTypeMap {
         this.typeMap = buildTypeMap(genericType, subtypeMappingTypeMap);
     }
 
+    private NodeTypeMap(final RootType rootType, final Map<Type, Type> typeMap) {
+        this.rootType = rootType;
+        this.typeMap = typeMap;
+    }
+
+    /**
+     * Returns a type map with the same mappings but the given root type.
+     */
+    NodeTypeMap withRootType(final RootType rootType) {
+        return this.rootType == rootType ? this : new NodeTypeMap(rootType, typeMap);
+    }
+
     public RootType getRootType() {
         return rootType;
     }
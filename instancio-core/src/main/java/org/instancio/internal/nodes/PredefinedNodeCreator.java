@@ -55,6 +55,16 @@ class PredefinedNodeCreator {
         return null;
     }
 
+    /**
+     * Returns {@code true} if nodes of the given type are created
+     * by this class, including their children.
+     */
+    static boolean isPredefined(final Type type) {
+        return type == OptionalInt.class
+                || type == OptionalLong.class
+                || type == OptionalDouble.class;
+    }
+
     /**
      * Creates {@link OptionalInt}, {@link OptionalLong}, or
      * {@link OptionalDouble}. These are container nodes because instances
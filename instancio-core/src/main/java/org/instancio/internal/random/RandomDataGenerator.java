@@ -18,17 +18,22 @@ package org.instancio.internal.random;
 import org.instancio.internal.util.Verify;
 
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Copied from the <a href="https://commons.apache.org/proper/commons-math">Apache Commons Math</a> library.
  * <p>
  * This is a modified version of {@code org.apache.commons.math3.random.RandomDataGenerator},
  * with most of the code from the original class omitted.
+ * <p>
+ * The methods accept any {@link RandomGenerator}. For {@link Random},
+ * values are generated exactly as in the original implementation
+ * so that a given seed produces the same data as in previous versions.
  */
 @SuppressWarnings("PMD")
 public final class RandomDataGenerator {
 
-    public static long nextLong(final Random random, final long lower, final long upper) {
+    public static long nextLong(final RandomGenerator random, final long lower, final long upper) {
         Verify.closedRange(lower, upper);
 
         final long max = (upper - lower) + 1;
@@ -51,17 +56,15 @@ public final class RandomDataGenerator {
         }
     }
 
-    private static long nextLong(final Random random, final long n) throws IllegalArgumentException {
+    private static long nextLong(final RandomGenerator random, final long n) throws IllegalArgumentException {
         if (n > 0) {
-            final byte[] byteArray = new byte[8];
+            if (!(random instanceof Random)) {
+                return random.nextLong(n);
+            }
             long bits;
             long val;
             do {
-                random.nextBytes(byteArray);
-                bits = 0;
-                for (final byte b : byteArray) {
-                    bits = (bits << 8) | (b & 0xffL);
-                }
+                bits = nextBits((Random) random);
                 bits &= 0x7fffffffffffffffL;
                 val = bits % n;
             } while (bits - val + (n - 1) < 0);
@@ -70,7 +73,30 @@ public final class RandomDataGenerator {
         throw new IllegalStateException("Not Strictly positive: " + n);
     }
 
-    public static double nextDouble(final Random random, double lower, double upper) {
+    /**
+     * Returns the bits obtained by reading 8 bytes via {@link Random#nextBytes(byte[])}
+     * in big-endian order. For {@link Random} itself, the bits are computed without
+     * allocating a byte array: {@code nextBytes()} fills each group of 4 bytes
+     * from one {@code nextInt()}, low-order byte first.
+     */
+    private static long nextBits(final Random random) {
+        if (random.getClass() == Random.class) {
+            final int high = random.nextInt();
+            final int low = random.nextInt();
+            return ((long) Integer.reverseBytes(high) << 32) | (Integer.reverseBytes(low) & 0xffffffffL);
+        }
+
+        // subclasses may override nextBytes()
+        final byte[] byteArray = new byte[8];
+        random.nextBytes(byteArray);
+        long bits = 0;
+        for (final byte b : byteArray) {
+            bits = (bits << 8) | (b & 0xffL);
+        }
+        return bits;
+    }
+
+    public static double nextDouble(final RandomGenerator random, double lower, double upper) {
         Verify.isTrue(lower <= upper, "Lower must be less than or equal to upper: %s, %s", lower, upper);
         Verify.isFalse(Double.isInfinite(lower), "Lower bound must not be infinite");
         Verify.isFalse(Double.isInfinite(upper), "Upper bound must not be infinite");
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.settings.RandomAlgorithm;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates random generators for the supported {@link RandomAlgorithm}s.
+ */
+public final class RandomGenerators {
+
+    private RandomGenerators() {
+        // non-instantiable
+    }
+
+    /**
+     * Creates a new generator using the given algorithm and seed.
+     *
+     * @param algorithm random algorithm
+     * @param seed      initial seed
+     * @return a new random generator
+     */
+    public static RandomGenerator create(final RandomAlgorithm algorithm, final long seed) {
+        return switch (algorithm) {
+            case JAVA_UTIL_RANDOM -> new java.util.Random(seed); // NOSONAR
+            case SPLIT_MIX_64 -> new SplittableRandom(seed);
+            case XOSHIRO_256_STAR_STAR -> new Xoshiro256StarStar(seed);
+        };
+    }
+
+    /**
+     * Creates a new generator using the given algorithm and seed
+     * that can be shared by multiple threads. Access to generators
+     * that are not thread-safe is synchronised.
+     *
+     * @param algorithm random algorithm
+     * @param seed      initial seed
+     * @return a new thread-safe random generator
+     */
+    public static RandomGenerator createThreadSafe(final RandomAlgorithm algorithm, final long seed) {
+        final RandomGenerator generator = create(algorithm, seed);
+        return algorithm == RandomAlgorithm.JAVA_UTIL_RANDOM
+                ? generator
+                : new SynchronizedRandomGenerator(generator);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+/**
+ * Derives independent seeds from a root seed and an index,
+ * so that the {@code i}-th object of a bulk operation can be generated
+ * without knowing the seeds of the preceding objects.
+ *
+ * <p>The derivation uses the SplitMix64 finaliser applied to
+ * {@code rootSeed + (index + 1) * GOLDEN_GAMMA}, which produces
+ * well-distributed seeds even for consecutive indices.
+ */
+public final class SeedSplitter {
+
+    public static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private SeedSplitter() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns the seed for the element at the given index.
+     *
+     * @param rootSeed seed of the bulk operation
+     * @param index    of the element
+     * @return derived seed
+     */
+    public static long split(final long rootSeed, final long index) {
+        return mix64(rootSeed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * The SplitMix64 finaliser, which is a bijection on {@code long} values.
+     *
+     * @param value to mix
+     * @return mixed value
+     */
+    public static long mix64(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
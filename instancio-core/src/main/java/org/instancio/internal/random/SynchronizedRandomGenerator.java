@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A random generator that synchronises access to a generator
+ * that is not thread-safe.
+ *
+ * <p>The methods used for generating data are delegated explicitly
+ * since the delegate may override their default implementations.
+ * This ensures that the synchronised generator produces the same
+ * values as the delegate for a given seed.
+ */
+final class SynchronizedRandomGenerator implements RandomGenerator {
+
+    private final RandomGenerator delegate;
+
+    SynchronizedRandomGenerator(final RandomGenerator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public synchronized long nextLong() {
+        return delegate.nextLong();
+    }
+
+    @Override
+    public synchronized long nextLong(final long bound) {
+        return delegate.nextLong(bound);
+    }
+
+    @Override
+    public synchronized int nextInt() {
+        return delegate.nextInt();
+    }
+
+    @Override
+    public synchronized int nextInt(final int bound) {
+        return delegate.nextInt(bound);
+    }
+
+    @Override
+    public synchronized double nextDouble() {
+        return delegate.nextDouble();
+    }
+
+    @Override
+    public synchronized boolean nextBoolean() {
+        return delegate.nextBoolean();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Implementation of the xoshiro256** algorithm by David Blackman
+ * and Sebastiano Vigna (see <a href="https://prng.di.unimi.it/">prng.di.unimi.it</a>).
+ *
+ * <p>The state is initialised from the seed using SplitMix64,
+ * as recommended by the authors. This class is not thread-safe.
+ */
+final class Xoshiro256StarStar implements RandomGenerator {
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    Xoshiro256StarStar(final long seed) {
+        long x = seed;
+        s0 = SeedSplitter.mix64(x += SeedSplitter.GOLDEN_GAMMA);
+        s1 = SeedSplitter.mix64(x += SeedSplitter.GOLDEN_GAMMA);
+        s2 = SeedSplitter.mix64(x += SeedSplitter.GOLDEN_GAMMA);
+        s3 = SeedSplitter.mix64(x + SeedSplitter.GOLDEN_GAMMA);
+    }
+
+    @Override
+    public long nextLong() {
+        final long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        final long t = s1 << 17;
+
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+
+        return result;
+    }
+}
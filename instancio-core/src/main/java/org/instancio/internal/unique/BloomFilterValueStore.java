@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.unique;
+
+import org.instancio.internal.random.SeedSplitter;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Tracks values using a Bloom filter with a fixed number of bits.
+ */
+final class BloomFilterValueStore implements UniqueValueStore {
+
+    // limited by the maximum length of the backing array
+    private static final long MAX_BITS = (long) (Integer.MAX_VALUE - 8) * Long.SIZE;
+
+    private final long[] words;
+    private final long numBits;
+    private final int numHashFunctions;
+
+    BloomFilterValueStore(final int expectedInsertions, final double falsePositiveRate) {
+        final double ln2 = Math.log(2);
+        final double bits = -expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2);
+        numBits = Math.max(Long.SIZE, Math.min(MAX_BITS, (long) Math.ceil(bits)));
+        numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * ln2));
+        words = new long[(int) ((numBits + Long.SIZE - 1) / Long.SIZE)];
+    }
+
+    int getNumHashFunctions() {
+        return numHashFunctions;
+    }
+
+    long getNumBits() {
+        return numBits;
+    }
+
+    @Override
+    public synchronized boolean add(@Nullable final Object value) {
+        final long fingerprint = Fingerprints.of(value);
+        final long h1 = fingerprint;
+        final long h2 = SeedSplitter.mix64(fingerprint) | 1;
+
+        boolean added = false;
+        long hash = h1;
+        for (int i = 0; i < numHashFunctions; i++) {
+            final long bit = Math.floorMod(hash, numBits);
+            final int index = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+            if ((words[index] & mask) == 0) {
+                words[index] |= mask;
+                added = true;
+            }
+            hash += h2;
+        }
+        return added;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.unique;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Retains every value. Primitive wrappers are stored as primitive
+ * values in a separate set per wrapper type to reduce memory usage.
+ */
+final class ExactValueStore implements UniqueValueStore {
+
+    private final Map<Class<?>, LongHashSet> primitiveValues = new HashMap<>();
+    private final Set<@Nullable Object> values = new HashSet<>();
+
+    @Override
+    public synchronized boolean add(@Nullable final Object value) {
+        if (value != null && Fingerprints.isPrimitiveWrapper(value)) {
+            return primitiveValues
+                    .computeIfAbsent(value.getClass(), k -> new LongHashSet())
+                    .add(Fingerprints.toLongBits(value));
+        }
+        return values.add(value);
+    }
+}
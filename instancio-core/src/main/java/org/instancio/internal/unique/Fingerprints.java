@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.unique;
+
+import org.instancio.internal.random.SeedSplitter;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Computes 64-bit fingerprints of generated values.
+ *
+ * <p>Fingerprints are consistent with {@code equals()}: equal values
+ * always have the same fingerprint. Fingerprints of distinct values
+ * of the same primitive wrapper type are always distinct.
+ *
+ * <p>Strings and other character sequences, enums, UUIDs, and common
+ * {@code java.time} types are hashed using all of their state.
+ * Fingerprints of other values are derived from {@code hashCode()},
+ * and therefore have at most 32 bits of entropy.
+ */
+final class Fingerprints {
+
+    private static final long NULL_FINGERPRINT = 0x6A09E667F3BCC909L;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private Fingerprints() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns {@code true} if the given value's equality
+     * can be represented exactly as a {@code long}.
+     */
+    static boolean isPrimitiveWrapper(final Object value) {
+        return value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof Character
+                || value instanceof Double
+                || value instanceof Float;
+    }
+
+    /**
+     * Returns the value of a primitive wrapper as a {@code long}.
+     * The bits of floating point numbers are consistent with
+     * {@link Double#equals(Object)} and {@link Float#equals(Object)}.
+     */
+    static long toLongBits(final Object value) {
+        if (value instanceof Number number) {
+            if (value instanceof Double d) {
+                return Double.doubleToLongBits(d);
+            }
+            if (value instanceof Float f) {
+                return Float.floatToIntBits(f);
+            }
+            return number.longValue();
+        }
+        return (Character) value;
+    }
+
+    static long of(@Nullable final Object value) {
+        if (value == null) {
+            return NULL_FINGERPRINT;
+        }
+        if (isPrimitiveWrapper(value)) {
+            // mix64() is a bijection, therefore values of the same type never collide
+            return SeedSplitter.mix64(toLongBits(value) ^ typeSalt(value.getClass()));
+        }
+        if (value instanceof CharSequence cs) {
+            return SeedSplitter.mix64(fnv1a(cs));
+        }
+        if (value instanceof Enum<?> e) {
+            return SeedSplitter.mix64(fnv1a(e.name()) ^ typeSalt(e.getDeclaringClass()));
+        }
+        if (value instanceof UUID uuid) {
+            return combine(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        }
+        final long temporal = ofTemporal(value);
+        if (temporal != 0) {
+            return SeedSplitter.mix64(temporal ^ typeSalt(value.getClass()));
+        }
+        return SeedSplitter.mix64(value.hashCode());
+    }
+
+    /**
+     * Returns a hash of the given {@code java.time} value,
+     * or zero if the value is not one of the supported types.
+     */
+    private static long ofTemporal(final Object value) {
+        if (value instanceof Instant instant) {
+            return combine(instant.getEpochSecond(), instant.getNano());
+        }
+        if (value instanceof LocalDate date) {
+            return combine(date.toEpochDay(), 0);
+        }
+        if (value instanceof LocalTime time) {
+            return combine(time.toNanoOfDay(), 0);
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return ofLocalDateTime(dateTime);
+        }
+        if (value instanceof OffsetDateTime dateTime) {
+            return combine(ofLocalDateTime(dateTime.toLocalDateTime()), dateTime.getOffset().getTotalSeconds());
+        }
+        if (value instanceof ZonedDateTime dateTime) {
+            final long local = ofLocalDateTime(dateTime.toLocalDateTime());
+            return combine(combine(local, dateTime.getOffset().getTotalSeconds()), dateTime.getZone().getId().hashCode());
+        }
+        return 0;
+    }
+
+    private static long ofLocalDateTime(final LocalDateTime dateTime) {
+        return combine(dateTime.toLocalDate().toEpochDay(), dateTime.toLocalTime().toNanoOfDay());
+    }
+
+    private static long combine(final long first, final long second) {
+        return SeedSplitter.mix64(SeedSplitter.mix64(first) ^ second);
+    }
+
+    private static long fnv1a(final CharSequence cs) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < cs.length(); i++) {
+            hash ^= cs.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long typeSalt(final Class<?> type) {
+        return type.getName().hashCode() * SeedSplitter.GOLDEN_GAMMA;
+    }
+}
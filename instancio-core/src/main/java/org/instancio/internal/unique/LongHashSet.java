@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.unique;
+
+import org.instancio.internal.random.SeedSplitter;
+
+/**
+ * An open-addressing hash set of primitive {@code long} values.
+ * This class is not thread-safe.
+ */
+final class LongHashSet {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // zero marks an empty slot, therefore it is tracked separately
+    private long[] table = new long[INITIAL_CAPACITY];
+    private boolean containsZero;
+    private int size;
+
+    boolean add(final long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            return true;
+        }
+        if (!insert(table, value)) {
+            return false;
+        }
+        // keep the load factor at or below 0.5
+        if (++size > table.length >>> 1) {
+            resize();
+        }
+        return true;
+    }
+
+    int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    private void resize() {
+        final long[] newTable = new long[table.length << 1];
+        for (long value : table) {
+            if (value != 0) {
+                insert(newTable, value);
+            }
+        }
+        table = newTable;
+    }
+
+    private static boolean insert(final long[] table, final long value) {
+        final int mask = table.length - 1;
+        int i = (int) SeedSplitter.mix64(value) & mask;
+        while (table[i] != 0) {
+            if (table[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = value;
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.unique;
+
+import org.instancio.internal.random.SeedSplitter;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates each value of a range {@code [min, max]} exactly once, in random order.
+ *
+ * <p>The order is determined by a keyed Feistel network, which is a bijection
+ * over the smallest even power of two that covers the range. Results outside
+ * of the range are mapped back into it by re-applying the network
+ * (cycle walking), which terminates since the network is a bijection.
+ * The {@code i}-th value is therefore computed from {@code i} alone,
+ * without retaining previously generated values.
+ */
+final class PermutationSequence {
+
+    private static final int ROUNDS = 4;
+
+    private final long min;
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+    private final AtomicLong index = new AtomicLong();
+
+    private PermutationSequence(final long min, final long size, final long key) {
+        this.min = min;
+        this.size = size;
+
+        final int bits = Math.max(2, Long.SIZE - Long.numberOfLeadingZeros(size - 1));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = halfBits == 32 ? 0xFFFFFFFFL : (1L << halfBits) - 1;
+
+        long k = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            k = SeedSplitter.mix64(k + i);
+            roundKeys[i] = k;
+        }
+    }
+
+    /**
+     * Creates a sequence for the given range.
+     *
+     * @return the sequence, or {@code null} if the range contains
+     * more than {@link Long#MAX_VALUE} values
+     */
+    @Nullable
+    static PermutationSequence of(final long min, final long max, final long key) {
+        final long size = max - min + 1;
+        return size > 0 ? new PermutationSequence(min, size, key) : null;
+    }
+
+    /**
+     * Returns the next value.
+     *
+     * @return the next value, or {@code null} if all values have been generated
+     */
+    @Nullable
+    Long next() {
+        final long i = index.getAndIncrement();
+        if (i < 0 || i >= size) {
+            return null;
+        }
+        return min + permute(i);
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if the given value has already been returned by {@link #next()}.
+     *
+     * @param value to check
+     * @return whether the value has been generated
+     */
+    boolean isGenerated(final long value) {
+        final long x = value - min;
+        if (value < min || Long.compareUnsigned(x, size) >= 0) {
+            return false;
+        }
+        return Long.compareUnsigned(inverse(x), index.get()) < 0;
+    }
+
+    long permute(final long i) {
+        long x = i;
+        do {
+            x = encrypt(x);
+        } while (Long.compareUnsigned(x, size) >= 0);
+        return x;
+    }
+
+    /**
+     * Returns the index {@code i} such that {@code permute(i) == x}.
+     */
+    long inverse(final long x) {
+        long i = x;
+        do {
+            i = decrypt(i);
+        } while (Long.compareUnsigned(i, size) >= 0);
+        return i;
+    }
+
+    private long encrypt(final long x) {
+        long left = (x >>> halfBits) & halfMask;
+        long right = x & halfMask;
+        for (long roundKey : roundKeys) {
+            final long tmp = left ^ (SeedSplitter.mix64(right ^ roundKey) & halfMask);
+            left = right;
+            right = tmp;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private long decrypt(final long x) {
+        long left = (x >>> halfBits) & halfMask;
+        long right = x & halfMask;
+        for (int r = ROUNDS - 1; r >= 0; r--) {
+            final long tmp = right ^ (SeedSplitter.mix64(left ^ roundKeys[r]) & halfMask);
+            right = left;
+            left = tmp;
+        }
+        return (left << halfBits) | right;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.unique;
+
+import org.instancio.FilterPredicate;
+import org.instancio.Random;
+import org.instancio.generator.AfterGenerate;
+import org.instancio.generator.Hints;
+import org.instancio.internal.PrimitiveWrapperBiLookup;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.random.SeedSplitter;
+import org.instancio.internal.util.ErrorMessageUtils;
+import org.instancio.internal.util.Fail;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.settings.UniqueStrategy;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A filter that rejects values that have already been generated,
+ * used for implementing {@code withUnique()}.
+ *
+ * <p>Since the strategy is specified via settings, which are not known
+ * until the model is built, the filter must be initialised using
+ * {@link #init(Settings, Random)} before use. A filter is initialised
+ * only once, therefore the values it tracks are shared by all
+ * objects created from the same model, including models derived from it.
+ * For this reason, a derived model may not change the settings
+ * the filter was initialised with.
+ */
+public final class UniqueValueFilter implements FilterPredicate<Object> {
+
+    /**
+     * Hints of results containing values returned
+     * by {@link #nextPermutationValue(InternalNode)}.
+     */
+    public static final Hints PERMUTATION_HINTS = Hints.afterGenerate(AfterGenerate.DO_NOT_MODIFY);
+
+    private @Nullable List<Object> config;
+    private @Nullable UniqueValueStore store;
+    private Map<Class<?>, PermutationSequence> permutations = Collections.emptyMap();
+
+    /**
+     * Initialises this filter, unless it has already been initialised.
+     * The permutation key, if any, is derived from the seed
+     * so that values are not drawn from the given random.
+     *
+     * @param settings resolved settings of the model
+     * @param random   the model's random
+     * @throws org.instancio.exception.InstancioApiException if the filter
+     *                                                       was initialised with different settings
+     */
+    public synchronized void init(final Settings settings, final Random random) {
+        final UniqueStrategy strategy = settings.get(Keys.UNIQUE_STRATEGY);
+        final List<Object> resolvedConfig = getConfig(strategy, settings);
+
+        if (config != null) {
+            if (!config.equals(resolvedConfig)) {
+                throw Fail.withUsageError(ErrorMessageUtils.uniqueSettingsChanged());
+            }
+            return;
+        }
+
+        store = createStore(strategy, settings);
+
+        if (strategy == UniqueStrategy.PERMUTATION) {
+            permutations = createPermutations(settings, SeedSplitter.mix64(random.getSeed()));
+        }
+        config = resolvedConfig;
+    }
+
+    /**
+     * Returns the settings that determine how values are tracked.
+     */
+    private static List<Object> getConfig(final UniqueStrategy strategy, final Settings settings) {
+        return switch (strategy) {
+            case EXACT, FINGERPRINT -> List.of(strategy);
+            case BLOOM_FILTER -> List.of(strategy,
+                    settings.get(Keys.UNIQUE_BLOOM_FILTER_EXPECTED_INSERTIONS),
+                    settings.get(Keys.UNIQUE_BLOOM_FILTER_FALSE_POSITIVE_RATE));
+            case PERMUTATION -> List.of(strategy,
+                    settings.get(Keys.BYTE_MIN), settings.get(Keys.BYTE_MAX),
+                    settings.get(Keys.SHORT_MIN), settings.get(Keys.SHORT_MAX),
+                    settings.get(Keys.INTEGER_MIN), settings.get(Keys.INTEGER_MAX),
+                    settings.get(Keys.LONG_MIN), settings.get(Keys.LONG_MAX));
+        };
+    }
+
+    /**
+     * Returns {@code true} if values for the given node
+     * are generated from a permutation.
+     *
+     * @param node to check
+     * @return whether the node's values are generated from a permutation
+     */
+    public boolean isPermutation(final InternalNode node) {
+        return permutations.containsKey(wrapperOf(node.getTargetClass()));
+    }
+
+    /**
+     * Returns the next value of the permutation for the given node.
+     *
+     * @param node for which to return a value
+     * @return the next value, or {@code null} if the permutation has been exhausted
+     */
+    @Nullable
+    public Object nextPermutationValue(final InternalNode node) {
+        final Class<?> type = wrapperOf(node.getTargetClass());
+        final Long next = permutations.get(type).next();
+        if (next == null) {
+            return null;
+        }
+        if (type == Integer.class) {
+            return next.intValue();
+        } else if (type == Short.class) {
+            return next.shortValue();
+        } else if (type == Byte.class) {
+            return next.byteValue();
+        }
+        return next;
+    }
+
+    /**
+     * Returns the number of values in the permutation for the given node.
+     *
+     * @param node for which to return the size
+     * @return number of values in the permutation
+     */
+    public long getPermutationSize(final InternalNode node) {
+        return permutations.get(wrapperOf(node.getTargetClass())).size();
+    }
+
+    /**
+     * Tests whether the given value has not been generated before.
+     *
+     * @param node            the value was generated for
+     * @param value           to test
+     * @param fromPermutation whether the value was returned
+     *                        by {@link #nextPermutationValue(InternalNode)}
+     * @return {@code true} if the value is unique
+     */
+    public boolean test(final InternalNode node,
+                        @Nullable final Object value,
+                        final boolean fromPermutation) {
+
+        // values are unique by construction
+        if (fromPermutation) {
+            return true;
+        }
+        // values from other sources (e.g. random values generated once
+        // the permutation has been exhausted) must not repeat permutation values
+        if (value instanceof Number number && isPermutation(node)
+                && permutations.get(wrapperOf(node.getTargetClass())).isGenerated(number.longValue())) {
+            return false;
+        }
+        return test(value);
+    }
+
+    @Override
+    public boolean test(@Nullable final Object value) {
+        if (store == null) {
+            throw Fail.withInternalError("unique value filter has not been initialised");
+        }
+        return store.add(value);
+    }
+
+    private static UniqueValueStore createStore(final UniqueStrategy strategy, final Settings settings) {
+        return switch (strategy) {
+            case FINGERPRINT -> new FingerprintValueStore();
+            case BLOOM_FILTER -> createBloomFilter(settings);
+            case EXACT, PERMUTATION -> new ExactValueStore();
+        };
+    }
+
+    private static UniqueValueStore createBloomFilter(final Settings settings) {
+        final int expectedInsertions = settings.get(Keys.UNIQUE_BLOOM_FILTER_EXPECTED_INSERTIONS);
+        final double falsePositiveRate = settings.get(Keys.UNIQUE_BLOOM_FILTER_FALSE_POSITIVE_RATE);
+
+        if (expectedInsertions <= 0) {
+            throw Fail.withUsageError("%s must be greater than zero, but was: %s",
+                    Keys.UNIQUE_BLOOM_FILTER_EXPECTED_INSERTIONS.propertyKey(), expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw Fail.withUsageError("%s must be greater than 0 and less than 1, but was: %s",
+                    Keys.UNIQUE_BLOOM_FILTER_FALSE_POSITIVE_RATE.propertyKey(), falsePositiveRate);
+        }
+        return new BloomFilterValueStore(expectedInsertions, falsePositiveRate);
+    }
+
+    private static Map<Class<?>, PermutationSequence> createPermutations(final Settings settings, final long key) {
+        final Map<Class<?>, PermutationSequence> map = new HashMap<>();
+        putPermutation(map, Byte.class, settings.get(Keys.BYTE_MIN), settings.get(Keys.BYTE_MAX), key);
+        putPermutation(map, Short.class, settings.get(Keys.SHORT_MIN), settings.get(Keys.SHORT_MAX), key);
+        putPermutation(map, Integer.class, settings.get(Keys.INTEGER_MIN), settings.get(Keys.INTEGER_MAX), key);
+        putPermutation(map, Long.class, settings.get(Keys.LONG_MIN), settings.get(Keys.LONG_MAX), key);
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static void putPermutation(
+            final Map<Class<?>, PermutationSequence> map,
+            final Class<?> type,
+            final long min,
+            final long max,
+            final long key) {
+
+        final PermutationSequence sequence = PermutationSequence.of(min, max, key ^ type.getName().hashCode());
+        if (sequence != null) {
+            map.put(type, sequence);
+        }
+    }
+
+    private static Class<?> wrapperOf(final Class<?> type) {
+        if (type.isPrimitive()) {
+            final Class<?> wrapper = PrimitiveWrapperBiLookup.getEquivalent(type);
+            return wrapper == null ? type : wrapper;
+        }
+        return type;
+    }
+}
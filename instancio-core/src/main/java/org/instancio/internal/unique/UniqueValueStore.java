@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.unique;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Tracks values generated for a {@code withUnique()} selector.
+ */
+interface UniqueValueStore {
+
+    /**
+     * Adds the given value to this store.
+     *
+     * @param value to add
+     * @return {@code true} if the value has not been seen before,
+     * {@code false} if it is (or may be) a duplicate
+     */
+    boolean add(@Nullable Object value);
+}
@@ -32,6 +32,7 @@ import org.instancio.settings.OnSetMethodNotFound;
 import org.instancio.settings.SetterStyle;
 import org.instancio.settings.SettingKey;
 import org.instancio.settings.Settings;
+import org.instancio.settings.UniqueStrategy;
 import org.jspecify.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
@@ -118,6 +119,47 @@ public final class ErrorMessageUtils {
         );
     }
 
+    public static String uniqueValuesExhausted(final InternalNode node, final long size) {
+        return """
+                failed generating a unique value for node:
+                
+                %s
+                
+                 -> All %d values within the range have already been generated
+                    (using %s = %s)
+                
+                To resolve this error:
+                
+                 -> increase the range of values using the corresponding settings, for example %s and %s
+                 -> set %s to false to generate random values (which may include duplicates)
+                    once the range has been exhausted\
+                """.formatted(
+                nodePathToRootBlock(node),
+                size,
+                keyDesc(Keys.UNIQUE_STRATEGY),
+                UniqueStrategy.PERMUTATION,
+                keyDesc(Keys.INTEGER_MIN),
+                keyDesc(Keys.INTEGER_MAX),
+                keyDesc(Keys.FAIL_ON_MAX_GENERATION_ATTEMPTS_REACHED)
+        );
+    }
+
+    public static String uniqueSettingsChanged() {
+        return """
+                withUnique() settings have changed
+                
+                 -> Values generated using withUnique() are tracked across all objects
+                    created from the same model, including models derived from it.
+                    For this reason, a derived model may not change %s
+                    or the settings used by the selected strategy.
+
+                To resolve this error:
+                
+                 -> specify the settings before withUnique() values are generated, or
+                 -> create a separate model using Instancio.of() instead of deriving it\
+                """.formatted(keyDesc(Keys.UNIQUE_STRATEGY));
+    }
+
     public static String filterPredicateErrorMessage(
             @Nullable final Object value,
             final InternalNode node,
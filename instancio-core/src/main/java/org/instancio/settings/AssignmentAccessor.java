@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.settings;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.internal.util.StringUtils;
+
+/**
+ * A setting that specifies the mechanism used for assigning
+ * values to fields and invoking setter methods.
+ *
+ * @see Settings
+ * @see Keys#ASSIGNMENT_ACCESSOR
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public enum AssignmentAccessor {
+
+    /**
+     * Indicates that values should be assigned using
+     * {@link java.lang.reflect.Field#set(Object, Object)} and
+     * {@link java.lang.reflect.Method#invoke(Object, Object...)}
+     * (default behaviour).
+     */
+    REFLECTION,
+
+    /**
+     * Indicates that values should be assigned using method handles.
+     * A method handle is created once per field or setter and reused
+     * for subsequent assignments. Fields of type {@code int}, {@code long},
+     * and {@code double} are assigned using handles specialised for
+     * the primitive type.
+     *
+     * <p>If a method handle cannot be created, for example, if the
+     * target class is in a module that does not open its package,
+     * or the value type does not match the field type exactly,
+     * the value is assigned using reflection.
+     */
+    METHOD_HANDLE;
+
+    @Override
+    public String toString() {
+        return StringUtils.enumToString(this);
+    }
+}
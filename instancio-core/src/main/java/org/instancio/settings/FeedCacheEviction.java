@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.settings;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.feed.Feed;
+
+/**
+ * Specifies which entry is evicted when the cache of
+ * loaded {@link Feed} data exceeds its limits.
+ *
+ * @see Keys#FEED_CACHE_EVICTION
+ * @see Keys#FEED_CACHE_MAX_ENTRIES
+ * @see Keys#FEED_CACHE_MAX_BYTES
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public enum FeedCacheEviction {
+
+    /**
+     * Evicts the least recently used data.
+     */
+    LRU,
+
+    /**
+     * Evicts the least frequently used data. If several entries
+     * have been used equally often, the least recently used one is evicted.
+     */
+    LFU
+}
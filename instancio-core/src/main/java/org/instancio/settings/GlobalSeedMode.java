@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.settings;
+
+import org.instancio.documentation.ExperimentalApi;
+
+/**
+ * Specifies how the seed configured in {@code instancio.properties}
+ * is used for generating data when a seed is not specified
+ * by other means, such as {@code withSeed()} or the {@code @Seed} annotation.
+ *
+ * <p>This setting does not apply to tests that use the
+ * {@code InstancioExtension}, since the extension provides each
+ * test method with its own random instance.
+ *
+ * @see Keys#GLOBAL_SEED_MODE
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public enum GlobalSeedMode {
+
+    /**
+     * A single random instance initialised with the global seed
+     * is shared by all threads. This is the default mode.
+     *
+     * <p>When objects are created concurrently, the generated
+     * data depends on the order in which the threads access
+     * the random instance.
+     */
+    SHARED,
+
+    /**
+     * Each root object is created using a new random instance
+     * whose seed is derived from the global seed, the root type,
+     * and the number of root objects of that type created so far.
+     * For example, the third {@code Instancio.create(Person.class)} call
+     * always uses the same seed, regardless of the thread creating
+     * the object, or objects of other types created previously.
+     * Threads do not contend for a shared random instance.
+     *
+     * <p>Consecutive root objects of the same type are generated
+     * using different seeds. When objects of the same type are created
+     * concurrently, the seed assigned to each object depends on the order
+     * in which the objects are created.
+     *
+     * <p>The derived seed is reported as the seed of the object
+     * (for example, via {@code Result.getSeed()}), so that
+     * the object can be reproduced using {@code withSeed()}.
+     * Values generated via {@code Instancio.gen()} and feeds
+     * continue to use the shared random instance.
+     */
+    PER_ROOT_TYPE
+}
@@ -16,6 +16,7 @@
 package org.instancio.settings;
 
 import org.instancio.FilterPredicate;
+import org.instancio.Instancio;
 import org.instancio.InstancioApi;
 import org.instancio.InstancioObjectApi;
 import org.instancio.TargetSelector;
@@ -70,6 +71,21 @@ public final class Keys {
     public static final SettingKey<AssignmentType> ASSIGNMENT_TYPE = registerRequiredNonAdjustable(
             "assignment.type", AssignmentType.class, AssignmentType.FIELD);
 
+    /**
+     * Specifies the mechanism used for assigning values to fields and setter methods;
+     * default is {@link AssignmentAccessor#REFLECTION}; property name {@code assignment.accessor}.
+     *
+     * <p>This setting applies to both {@link AssignmentType#FIELD} and
+     * {@link AssignmentType#METHOD} assignment types.
+     *
+     * @see AssignmentAccessor
+     * @see #ASSIGNMENT_TYPE
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<AssignmentAccessor> ASSIGNMENT_ACCESSOR = registerRequiredNonAdjustable(
+            "assignment.accessor", AssignmentAccessor.class, AssignmentAccessor.REFLECTION);
+
     /**
      * Specifies the default value of the {@link AfterGenerate} hint
      * supplied from custom generators to the engine;
@@ -207,6 +223,31 @@ public final class Keys {
     public static final SettingKey<Boolean> COLLECTION_NULLABLE = registerRequiredNonAdjustable(
             "collection.nullable", Boolean.class, false);
 
+    /**
+     * Specifies whether a {@link org.instancio.Model} should be compiled once
+     * and reused when creating objects from it;
+     * default is {@code false}; property name {@code compiled.model.enabled}.
+     *
+     * <p>When enabled, the node tree, resolved selectors and generators of a model
+     * are built only once. Subsequent calls to {@code Instancio.create(model)}
+     * and {@code Instancio.of(model).create()} (without any further customisation)
+     * reuse them, re-initialising only the random instance for each run.
+     * Similarly, {@code stream()} builds the model once and re-seeds it
+     * for each element.
+     *
+     * <p>Models containing stateful generators, such as {@code emit()},
+     * {@code intSeq()} or feeds, are not reused, since the state of these
+     * generators would otherwise carry over from one object to the next.
+     * Such models are built for each object as if this setting was disabled.
+     * Values generated using {@code withUnique()} are unique across all
+     * objects created from a model, regardless of this setting.
+     *
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Boolean> COMPILED_MODEL_ENABLED = registerRequiredNonAdjustable(
+            "compiled.model.enabled", Boolean.class, false);
+
     /**
      * Specifies minimum value for doubles;
      * default is 1; property name {@code double.min}.
@@ -334,6 +375,44 @@ public final class Keys {
     public static final SettingKey<Boolean> JPA_ENABLED = registerRequiredNonAdjustable(
             "jpa.enabled", Boolean.class, false);
 
+    /**
+     * Specifies whether the node tree of a model should be expanded lazily;
+     * default is {@code false}; property name {@code lazy.node.expansion.enabled}.
+     *
+     * <p>By default, the node tree representing the root type is built
+     * up to {@link #MAX_DEPTH} when the model is created. When this setting
+     * is enabled, child nodes are only created when the engine needs to
+     * populate a node. For example, children of a node are not created if
+     * the node's value is {@code null}, or provided using {@code set()},
+     * {@code supply()}, or a generator with
+     * {@link org.instancio.generator.AfterGenerate#DO_NOT_MODIFY}.
+     * This reduces the size of the node tree for wide or deeply nested types,
+     * such as cyclic entity graphs, where most branches are not populated.
+     *
+     * <p>Child nodes, once created, are retained by the model. If the model
+     * is compiled (see {@link #COMPILED_MODEL_ENABLED}), they are reused
+     * for subsequent objects created from it.
+     *
+     * <p>Lazy expansion is not applied to models that contain {@code assign()}
+     * selectors, since these require the complete node tree. In addition,
+     * the following features still require the subtree of a node to be created:
+     *
+     * <ul>
+     *   <li>{@code verbose()} output, which includes the complete node tree</li>
+     *   <li>strict mode, which checks selectors of descendants of {@code null} nodes
+     *       to avoid reporting them as unused</li>
+     * </ul>
+     *
+     * <p>Since sealed types are resolved when the node is created,
+     * values generated for models containing sealed types may differ
+     * from those generated with this setting disabled using the same seed.
+     *
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Boolean> LAZY_NODE_EXPANSION_ENABLED = registerRequiredNonAdjustable(
+            "lazy.node.expansion.enabled", Boolean.class, false);
+
     /**
      * Specifies minimum value for longs;
      * default is 1; property name {@code long.min}.
@@ -549,6 +628,64 @@ public final class Keys {
     public static final SettingKey<Boolean> OVERWRITE_EXISTING_VALUES = registerRequiredNonAdjustable(
             "overwrite.existing.values", Boolean.class, true);
 
+    /**
+     * Specifies which data is evicted when the cache of loaded {@link Feed}
+     * data exceeds its limits; default is {@link FeedCacheEviction#LRU};
+     * property name {@code feed.cache.eviction}.
+     *
+     * <p>Feed data is cached globally. The cache limits are applied
+     * whenever data is added to the cache, using the settings
+     * of the feed whose data is being loaded.
+     *
+     * @see #FEED_CACHE_MAX_ENTRIES
+     * @see #FEED_CACHE_MAX_BYTES
+     * @see Instancio#feedCache()
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<FeedCacheEviction> FEED_CACHE_EVICTION = registerRequiredNonAdjustable(
+            "feed.cache.eviction", FeedCacheEviction.class, FeedCacheEviction.LRU);
+
+    /**
+     * Specifies the maximum estimated size, in bytes, of cached {@link Feed} data;
+     * default is {@code 268435456} (256 MB); property name {@code feed.cache.max.bytes}.
+     *
+     * <p>Data that exceeds this limit on its own is not cached.
+     *
+     * @see #FEED_CACHE_EVICTION
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Long> FEED_CACHE_MAX_BYTES = registerRequiredNonAdjustable(
+            "feed.cache.max.bytes", Long.class, 256L * 1024 * 1024);
+
+    /**
+     * Specifies the maximum number of data sources whose {@link Feed} data is cached;
+     * default is {@code 256}; property name {@code feed.cache.max.entries}.
+     *
+     * <p>If set to zero, feed data is not cached.
+     *
+     * @see #FEED_CACHE_EVICTION
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Integer> FEED_CACHE_MAX_ENTRIES = registerRequiredNonAdjustable(
+            "feed.cache.max.entries", Integer.class, 256);
+
+    /**
+     * Specifies whether cached {@link Feed} data is held using soft references,
+     * allowing the garbage collector to reclaim it when memory is low;
+     * default is {@code false}; property name {@code feed.cache.soft.references}.
+     *
+     * <p>Reclaimed data is loaded again the next time it is used.
+     *
+     * @see #FEED_CACHE_EVICTION
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Boolean> FEED_CACHE_SOFT_REFERENCES = registerRequiredNonAdjustable(
+            "feed.cache.soft.references", Boolean.class, false);
+
     /**
      * Specifies whether {@link Feed} data is retrieved sequentially or randomly;
      * default is {@link FeedDataAccess#SEQUENTIAL}; property name {@code feed.data.access}.
@@ -596,6 +733,21 @@ public final class Keys {
     public static final SettingKey<FeedFormatType> FEED_FORMAT_TYPE = registerRequiredNonAdjustable(
             "feed.format.type", FeedFormatType.class, FeedFormatType.CSV);
 
+    /**
+     * Specifies the minimum size, in bytes, of a CSV {@link Feed} file
+     * for the file to be memory-mapped instead of loaded into the heap;
+     * default is {@code 67108864} (64 MB); property name {@code feed.csv.memory.map.threshold}.
+     *
+     * <p>When a file is memory-mapped, only the offsets of its rows are
+     * kept in memory, and rows are parsed when they are accessed.
+     * This setting applies only to feeds created from files.
+     *
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Long> FEED_CSV_MEMORY_MAP_THRESHOLD = registerRequiredNonAdjustable(
+            "feed.csv.memory.map.threshold", Long.class, 64L * 1024 * 1024);
+
     /**
      * Specifies the tag key for a {@link Feed};
      * default is {@code null}; property name {@code feed.tag.key}.
@@ -632,6 +784,72 @@ public final class Keys {
     public static final SettingKey<FillType> FILL_TYPE = registerRequiredNonAdjustable(
             "fill.type", FillType.class, FillType.POPULATE_NULLS_AND_DEFAULT_PRIMITIVES);
 
+    /**
+     * Specifies how the seed from {@code instancio.properties} is used
+     * when the seed is not specified by other means;
+     * default is {@link GlobalSeedMode#SHARED}; property name {@code global.seed.mode}.
+     *
+     * <p>With the default mode, all threads share a single random instance.
+     * When generating data concurrently without the {@code InstancioExtension},
+     * {@link GlobalSeedMode#PER_ROOT_TYPE} can be used to avoid contention
+     * and to make the generated data independent of the thread
+     * and of objects of other types created previously.
+     *
+     * @see GlobalSeedMode
+     * @see #SEED
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<GlobalSeedMode> GLOBAL_SEED_MODE = registerRequiredNonAdjustable(
+            "global.seed.mode", GlobalSeedMode.class, GlobalSeedMode.SHARED);
+
+    /**
+     * Specifies whether generation should be profiled;
+     * default is {@code false}; property name {@code profiling.enabled}.
+     *
+     * <p>When enabled, the following statistics are recorded for each node
+     * and printed to standard output once the root object has been created:
+     *
+     * <ul>
+     *   <li>number of times a value was generated for the node</li>
+     *   <li>time spent generating the node's value, with and without child nodes</li>
+     *   <li>number of values rejected by {@code filter()} predicates</li>
+     *   <li>number of times the node was delayed, for example, due to {@code assign()}</li>
+     *   <li>number of duplicate collection elements and map keys that were discarded</li>
+     * </ul>
+     *
+     * <p>In addition, the number of invocations and the time spent in each
+     * internal handler (for example, user-supplied generators, SPI generators,
+     * or built-in generators) is reported. This can be used to find generators,
+     * selectors, or filters that make generating a model slow.
+     *
+     * <p>Profiling adds overhead and should not be enabled
+     * when measuring overall performance.
+     *
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Boolean> PROFILING_ENABLED = registerRequiredNonAdjustable(
+            "profiling.enabled", Boolean.class, false);
+
+    /**
+     * Specifies the algorithm used for generating random values;
+     * default is {@link RandomAlgorithm#JAVA_UTIL_RANDOM}; property name {@code random.algorithm}.
+     *
+     * <p>A given seed produces the same data only when used with the same
+     * algorithm. When running tests using the {@code InstancioExtension},
+     * this setting should be specified using {@code @WithSettings}
+     * or {@code instancio.properties}, since the random instance is
+     * created by the extension before each test.
+     *
+     * @see RandomAlgorithm
+     * @see #SEED
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<RandomAlgorithm> RANDOM_ALGORITHM = registerRequiredNonAdjustable(
+            "random.algorithm", RandomAlgorithm.class, RandomAlgorithm.JAVA_UTIL_RANDOM);
+
     /**
      * Specifies the seed value;
      * default is {@code null}; property name {@code seed}.
@@ -808,6 +1026,45 @@ public final class Keys {
     public static final SettingKey<StringType> STRING_TYPE = registerRequiredNonAdjustable(
             "string.type", StringType.class, StringType.ALPHABETIC);
 
+    /**
+     * Specifies how values of selectors specified via {@code withUnique()} are tracked;
+     * default is {@link UniqueStrategy#EXACT}; property name {@code unique.strategy}.
+     *
+     * @see UniqueStrategy
+     * @see InstancioApi#withUnique(TargetSelector)
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<UniqueStrategy> UNIQUE_STRATEGY = registerRequiredNonAdjustable(
+            "unique.strategy", UniqueStrategy.class, UniqueStrategy.EXACT);
+
+    /**
+     * Specifies the expected number of unique values per selector
+     * when using {@link UniqueStrategy#BLOOM_FILTER};
+     * default is {@code 1000000}; property name {@code unique.bloom.filter.expected.insertions}.
+     *
+     * @see #UNIQUE_STRATEGY
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Integer> UNIQUE_BLOOM_FILTER_EXPECTED_INSERTIONS = registerRequiredNonAdjustable(
+            "unique.bloom.filter.expected.insertions", Integer.class, 1_000_000);
+
+    /**
+     * Specifies the false positive rate when using {@link UniqueStrategy#BLOOM_FILTER};
+     * default is {@code 0.01}; property name {@code unique.bloom.filter.false.positive.rate}.
+     *
+     * <p>The value must be greater than zero and less than one.
+     * The rate applies once the expected number of values, specified via
+     * {@link #UNIQUE_BLOOM_FILTER_EXPECTED_INSERTIONS}, has been generated.
+     *
+     * @see #UNIQUE_STRATEGY
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Double> UNIQUE_BLOOM_FILTER_FALSE_POSITIVE_RATE = registerRequiredNonAdjustable(
+            "unique.bloom.filter.false.positive.rate", Double.class, 0.01);
+
     // Note: keys must be collected after all keys have been initialised
     private static final Map<String, SettingKey<?>> SETTING_KEY_MAP = Collections.unmodifiableMap(settingKeyMap());
 
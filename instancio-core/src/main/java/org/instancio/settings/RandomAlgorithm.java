@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.settings;
+
+import org.instancio.documentation.ExperimentalApi;
+
+/**
+ * Specifies the algorithm used for generating random values.
+ *
+ * <p>Each algorithm produces a different sequence of values for
+ * a given seed. Therefore, a seed can only be used for reproducing
+ * data generated using the same algorithm.
+ *
+ * <p>Only {@link #JAVA_UTIL_RANDOM} is thread-safe. Instancio does not share
+ * random instances between threads, with the exception of the random
+ * initialised with the global seed from {@code instancio.properties}
+ * (see {@link GlobalSeedMode#SHARED}). Access to that instance is
+ * synchronised when using the other algorithms, which produce the same
+ * values as when used by a single thread, but threads contend for the
+ * shared instance.
+ *
+ * @see Keys#RANDOM_ALGORITHM
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public enum RandomAlgorithm {
+
+    /**
+     * Uses {@link java.util.Random}. This is the default algorithm,
+     * which produces the same data for a given seed as earlier versions.
+     * It is thread-safe.
+     */
+    JAVA_UTIL_RANDOM,
+
+    /**
+     * Uses {@link java.util.SplittableRandom}, based on the SplitMix64 algorithm.
+     * Unlike {@link java.util.Random}, it is not synchronised, which makes
+     * it faster, in particular when generating large amounts of data.
+     * It is not thread-safe.
+     */
+    SPLIT_MIX_64,
+
+    /**
+     * Uses the xoshiro256** algorithm, a fast, non-synchronised generator
+     * with a period of 2<sup>256</sup>&minus;1. It is not thread-safe.
+     */
+    XOSHIRO_256_STAR_STAR
+}
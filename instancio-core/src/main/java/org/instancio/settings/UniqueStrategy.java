@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.settings;
+
+import org.instancio.documentation.ExperimentalApi;
+
+/**
+ * Specifies how values generated for selectors specified via
+ * {@code withUnique()} are tracked in order to ensure their uniqueness.
+ *
+ * <p>The default strategy retains every generated value, which may
+ * require a significant amount of memory when generating large data sets.
+ * The remaining strategies reduce memory usage at the cost of exactness,
+ * or restrict the values that can be generated.
+ *
+ * @see Keys#UNIQUE_STRATEGY
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public enum UniqueStrategy {
+
+    /**
+     * Retains every generated value. Values of primitive and
+     * wrapper types, such as {@code int} and {@code Integer},
+     * are stored as primitive values to reduce memory usage.
+     * This is the default strategy.
+     */
+    EXACT,
+
+    /**
+     * Retains a 64-bit fingerprint of each generated value instead of the
+     * value itself. Two distinct values may have the same fingerprint,
+     * in which case the second value is rejected and a new one is generated.
+     * This strategy never accepts duplicate values.
+     *
+     * <p>Fingerprints of objects other than strings and primitive
+     * wrappers are derived from {@link Object#hashCode()}.
+     */
+    FINGERPRINT,
+
+    /**
+     * Tracks generated values using a Bloom filter. The amount of memory used
+     * is fixed and depends on the expected number of values and the false positive
+     * rate, specified via {@link Keys#UNIQUE_BLOOM_FILTER_EXPECTED_INSERTIONS} and
+     * {@link Keys#UNIQUE_BLOOM_FILTER_FALSE_POSITIVE_RATE} respectively.
+     * A false positive results in a unique value being rejected
+     * and a new value being generated. This strategy never
+     * accepts duplicate values.
+     */
+    BLOOM_FILTER,
+
+    /**
+     * Generates values of {@code byte}, {@code short}, {@code int}
+     * and {@code long} types (including their wrappers) as a random
+     * permutation of the range specified via settings, for example
+     * {@link Keys#INTEGER_MIN} and {@link Keys#INTEGER_MAX}.
+     * Each value within the range is generated exactly once,
+     * therefore no values are retained and no values
+     * are rejected.
+     *
+     * <p>The permutation replaces only the built-in generators. Values
+     * specified using {@code generate()}, {@code supply()}, {@code set()},
+     * generator SPIs, or annotations (such as Bean Validation constraints)
+     * take precedence and are tracked as per {@link #EXACT}, as are
+     * values of other types. Such values are also rejected if they
+     * have already been generated by the permutation.
+     *
+     * <p>Once all values within the range have been generated,
+     * an error is thrown, unless
+     * {@link Keys#FAIL_ON_MAX_GENERATION_ATTEMPTS_REACHED}
+     * is disabled, in which case random values are generated
+     * and checked for uniqueness until the maximum number
+     * of generation attempts has been reached.
+     */
+    PERMUTATION
+}
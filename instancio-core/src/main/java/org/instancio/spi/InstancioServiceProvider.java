@@ -190,6 +190,29 @@ public interface InstancioServiceProvider {
          */
         @Nullable
         GeneratorSpec<?> getGenerator(Node node, Generators generators);
+
+        /**
+         * Specifies whether the generator returned for a given node
+         * can be reused to generate all values of that node.
+         *
+         * <p>By default, {@link #getGenerator(Node, Generators)} is invoked
+         * each time a value is generated. If this method returns {@code true},
+         * the generator is resolved once per node (when creating an object)
+         * and reused for all values of the node. In addition, nodes for
+         * which this provider returns {@code null} will not be queried again.
+         *
+         * <p>This requires that {@code getGenerator()} returns equivalent
+         * generators each time it is invoked with a given node, and
+         * that the generators can be used to generate multiple values.
+         *
+         * @return {@code true} if generators returned by this provider
+         * can be cached, {@code false} otherwise
+         * @since 6.0.0
+         */
+        @ExperimentalApi
+        default boolean isCacheable() {
+            return false;
+        }
     }
 
     /**
@@ -18,19 +18,24 @@ package org.instancio.support;
 import org.instancio.Random;
 import org.instancio.documentation.InternalApi;
 import org.instancio.internal.random.RandomDataGenerator;
+import org.instancio.internal.random.RandomGenerators;
 import org.instancio.internal.util.Verify;
+import org.instancio.settings.RandomAlgorithm;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 @InternalApi
 public class DefaultRandom implements Random {
 
-    private final long seed;
-    private final java.util.Random random;
-    private final Seeds.Source source;
+    private long seed;
+    private Seeds.Source source;
+    private RandomGenerator random;
+    private final RandomAlgorithm algorithm;
+    private final boolean threadSafe;
 
     /**
      * Create an instance with a random seed value.
@@ -45,8 +50,61 @@ public class DefaultRandom implements Random {
      * @param seed for the random generator
      */
     public DefaultRandom(final long seed, final Seeds.Source source) {
+        this(seed, source, RandomAlgorithm.JAVA_UTIL_RANDOM);
+    }
+
+    /**
+     * Create an instance with the given seed value and algorithm.
+     *
+     * @param seed      for the random generator
+     * @param source    of the seed
+     * @param algorithm for generating random values
+     */
+    public DefaultRandom(final long seed, final Seeds.Source source, final RandomAlgorithm algorithm) {
+        this(seed, source, algorithm, false);
+    }
+
+    private DefaultRandom(final long seed,
+                          final Seeds.Source source,
+                          final RandomAlgorithm algorithm,
+                          final boolean threadSafe) {
         this.seed = seed;
-        this.random = new java.util.Random(seed); // NOSONAR
+        this.source = source;
+        this.algorithm = algorithm;
+        this.threadSafe = threadSafe;
+        this.random = createGenerator(seed);
+    }
+
+    /**
+     * Creates an instance that can be shared by multiple threads.
+     * It produces the same values for a given seed and algorithm
+     * as an instance created via the constructor.
+     *
+     * @param seed      for the random generator
+     * @param source    of the seed
+     * @param algorithm for generating random values
+     * @return a thread-safe instance
+     */
+    static DefaultRandom threadSafe(final long seed, final Seeds.Source source, final RandomAlgorithm algorithm) {
+        return new DefaultRandom(seed, source, algorithm, true);
+    }
+
+    private RandomGenerator createGenerator(final long seed) {
+        return threadSafe
+                ? RandomGenerators.createThreadSafe(algorithm, seed)
+                : RandomGenerators.create(algorithm, seed);
+    }
+
+    /**
+     * Re-initialises this instance with the given seed, leaving it
+     * in the same state as a newly created instance with that seed.
+     *
+     * @param seed   new seed for the random generator
+     * @param source source of the new seed
+     */
+    public void reseed(final long seed, final Seeds.Source source) {
+        this.seed = seed;
+        this.random = createGenerator(seed);
         this.source = source;
     }
 
@@ -59,6 +117,10 @@ public class DefaultRandom implements Random {
         return source;
     }
 
+    public RandomAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
     @Override
     public boolean trueOrFalse() {
         return intRange(0, 1) == 1;
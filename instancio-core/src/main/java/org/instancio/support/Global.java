@@ -18,10 +18,18 @@ package org.instancio.support;
 import org.instancio.Random;
 import org.instancio.documentation.InternalApi;
 import org.instancio.internal.context.PropertiesLoader;
+import org.instancio.internal.random.SeedSplitter;
+import org.instancio.settings.GlobalSeedMode;
 import org.instancio.settings.Keys;
+import org.instancio.settings.RandomAlgorithm;
 import org.instancio.settings.Settings;
 import org.jspecify.annotations.Nullable;
 
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 @InternalApi
 public final class Global {
 
@@ -30,8 +38,13 @@ public final class Global {
             .lock();
 
     private static final @Nullable Long PROPERTIES_FILE_SEED = PROPERTIES_FILE_SETTINGS.get(Keys.SEED);
+    private static final RandomAlgorithm PROPERTIES_FILE_ALGORITHM = PROPERTIES_FILE_SETTINGS.get(Keys.RANDOM_ALGORITHM);
+    // shared by all threads, therefore must be thread-safe regardless of the algorithm
     private static final @Nullable Random CONFIGURED_RANDOM = PROPERTIES_FILE_SEED == null
-            ? null : new DefaultRandom(PROPERTIES_FILE_SEED, Seeds.Source.GLOBAL);
+            ? null : DefaultRandom.threadSafe(PROPERTIES_FILE_SEED, Seeds.Source.GLOBAL, PROPERTIES_FILE_ALGORITHM);
+
+    // number of root objects created so far, keyed by root type name
+    private static final Map<String, AtomicLong> ROOT_TYPE_COUNTERS = new ConcurrentHashMap<>();
 
     /**
      * Default settings overlaid with settings from {@code instancio.properties}.
@@ -47,6 +60,51 @@ public final class Global {
         return CONFIGURED_RANDOM;
     }
 
+    /**
+     * Returns the random instance based on the seed from {@code instancio.properties}
+     * for the given mode, or {@code null} if the seed is not configured.
+     *
+     * <p>With {@link GlobalSeedMode#PER_ROOT_TYPE}, a new instance is returned
+     * whose seed is derived from the global seed, the root type, and the number
+     * of root objects of that type created so far. Therefore, the {@code n}-th
+     * object of a given type is generated using the same seed, regardless of the
+     * thread creating it or objects of other types created previously.
+     * If the root type is {@code null} (for example, when generating
+     * values via {@code Instancio.gen()}), the shared instance is returned.
+     *
+     * @param mode     specifies how the global seed is used
+     * @param rootType type of the root object, or {@code null} if none
+     * @return configured random, or {@code null} if the seed is not configured
+     */
+    @Nullable
+    public static Random getConfiguredRandom(final GlobalSeedMode mode, @Nullable final Type rootType) {
+        if (PROPERTIES_FILE_SEED == null) {
+            return null;
+        }
+        if (mode == GlobalSeedMode.PER_ROOT_TYPE && rootType != null) {
+            final String typeName = rootType.getTypeName();
+            final long index = ROOT_TYPE_COUNTERS
+                    .computeIfAbsent(typeName, k -> new AtomicLong())
+                    .getAndIncrement();
+
+            // String.hashCode() is specified, therefore stable across runs
+            final long typeSeed = SeedSplitter.split(PROPERTIES_FILE_SEED, typeName.hashCode());
+            return new DefaultRandom(SeedSplitter.split(typeSeed, index), Seeds.Source.GLOBAL, PROPERTIES_FILE_ALGORITHM);
+        }
+        return CONFIGURED_RANDOM;
+    }
+
+    /**
+     * Checks whether the given random is the random instance
+     * shared by all threads.
+     *
+     * @param random to check
+     * @return {@code true} if the random is shared
+     */
+    public static boolean isSharedConfiguredRandom(final Random random) {
+        return random == CONFIGURED_RANDOM;
+    }
+
     private Global() {
         // non-instantiable
     }
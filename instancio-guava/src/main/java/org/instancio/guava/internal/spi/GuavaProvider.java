@@ -52,6 +52,7 @@ import org.instancio.Node;
 import org.instancio.documentation.Initializer;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.GeneratorSpec;
 import org.instancio.generators.Generators;
 import org.instancio.guava.internal.generator.GuavaArrayListMultimapGenerator;
 import org.instancio.guava.internal.generator.GuavaHashBasedTableGenerator;
@@ -62,6 +63,7 @@ import org.instancio.internal.generator.util.CollectionGenerator;
 import org.instancio.internal.generator.util.MapGenerator;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.ServiceProviderContext;
+import org.jspecify.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -132,6 +134,17 @@ public class GuavaProvider implements InstancioServiceProvider {
         // Range
         generators.put(Range.class, new GuavaRangeGenerator<>());
 
-        return (Node node, Generators gen) -> generators.get(node.getTargetClass());
+        return new GeneratorProvider() {
+            @Nullable
+            @Override
+            public GeneratorSpec<?> getGenerator(final Node node, final Generators gen) {
+                return generators.get(node.getTargetClass());
+            }
+
+            @Override
+            public boolean isCacheable() {
+                return true;
+            }
+        };
     }
 }
@@ -19,6 +19,7 @@ import org.instancio.Random;
 import org.instancio.junit.Seed;
 import org.instancio.junit.WithSettings;
 import org.instancio.settings.Keys;
+import org.instancio.settings.RandomAlgorithm;
 import org.instancio.settings.Settings;
 import org.instancio.support.DefaultRandom;
 import org.instancio.support.Global;
@@ -77,9 +78,13 @@ public final class ExtensionSupport {
             source = Seeds.Source.RANDOM;
         }
 
+        final RandomAlgorithm algorithm = Global.getPropertiesFileSettings()
+                .merge(tlSettings)
+                .get(Keys.RANDOM_ALGORITHM);
+
         // each test method gets a new instance of random to avoid
         // the state of the random leaking across tests
-        threadLocalRandom.set(new DefaultRandom(seed, source));
+        threadLocalRandom.set(new DefaultRandom(seed, source, algorithm));
     }
 
     @SuppressWarnings("java:S3011")
@@ -63,6 +63,11 @@ class ProtoGeneratorProvider implements InstancioServiceProvider.GeneratorProvid
         return getGeneratorSpecForClass(node.getTargetClass());
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Nullable
     private Generator<?> getGeneratorSpecForClass(final Class<?> target) {
         if (target == Timestamp.class) {
@@ -193,7 +193,7 @@ class ValueSpecSubtypesOverrideMethodsTest {
         // These are terminal methods from ValueSpec
         // They return a result and don't need to be overridden
         // We're only interested in builder methods used for chaining API calls
-        final Set<String> exclusions = new HashSet<>(List.of("get", "list", "map", "stream", "toModel"));
+        final Set<String> exclusions = new HashSet<>(List.of("get", "list", "fill", "map", "stream", "toModel"));
 
         exclusions.addAll(excludedMethods);
 
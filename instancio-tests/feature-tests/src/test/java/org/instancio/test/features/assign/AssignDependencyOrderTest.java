@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.assign;
+
+import lombok.Data;
+import org.instancio.Assign;
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.UnresolvedAssignmentException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.field;
+
+/**
+ * Assignments where the destination is declared before the origin.
+ */
+@FeatureTag(Feature.ASSIGN)
+@ExtendWith(InstancioExtension.class)
+class AssignDependencyOrderTest {
+
+    @Data
+    private static class Item {
+        @Nullable String value;
+    }
+
+    @Data
+    private static class Pojo {
+        @Nullable String a;
+        @Nullable Item item;
+        @Nullable List<Item> items;
+        @Nullable String origin;
+    }
+
+    private record Rec(@Nullable String a, @Nullable String b, @Nullable Integer origin) {}
+
+    @Test
+    void destinationFieldDeclaredBeforeOrigin() {
+        final Pojo result = Instancio.of(Pojo.class)
+                .assign(Assign.valueOf(Pojo::getOrigin).to(Pojo::getA))
+                .create();
+
+        assertThat(result.getA()).isNotNull().isEqualTo(result.getOrigin());
+    }
+
+    @Test
+    void destinationWithinNestedObjectsDeclaredBeforeOrigin() {
+        final Pojo result = Instancio.of(Pojo.class)
+                .assign(Assign.valueOf(Pojo::getOrigin).to(Item::getValue))
+                .create();
+
+        assertThat(result.getOrigin()).isNotNull();
+        assertThat(result.getItem().getValue()).isEqualTo(result.getOrigin());
+        assertThat(result.getItems()).isNotEmpty()
+                .allSatisfy(item -> assertThat(item.getValue()).isEqualTo(result.getOrigin()));
+    }
+
+    @Test
+    void conditionalDestinationDeclaredBeforeOrigin() {
+        final Pojo result = Instancio.of(Pojo.class)
+                .assign(Assign.given(Pojo::getOrigin).satisfies(o -> true).set(field(Pojo::getA), "foo"))
+                .create();
+
+        assertThat(result.getA()).isEqualTo("foo");
+    }
+
+    @Test
+    void recordComponentDeclaredBeforeOrigin() {
+        final Rec result = Instancio.of(Rec.class)
+                .assign(Assign.valueOf(Rec::origin).to(Rec::a).as((Integer i) -> "a" + i))
+                .assign(Assign.valueOf(Rec::a).to(Rec::b))
+                .create();
+
+        assertThat(result.a()).isEqualTo("a" + result.origin());
+        assertThat(result.b()).isEqualTo(result.a());
+    }
+
+    @Test
+    void cycleShouldBeReportedBeforeGeneratingValues() {
+        final InstancioApi<Pojo> api = Instancio.of(Pojo.class)
+                .assign(Assign.valueOf(Pojo::getA).to(Pojo::getOrigin))
+                .assign(Assign.valueOf(Pojo::getOrigin).to(Pojo::getA));
+
+        assertThatThrownBy(api::toModel)
+                .isExactlyInstanceOf(UnresolvedAssignmentException.class)
+                .hasMessageContaining("unresolved assignment expression")
+                .hasMessageContaining("from [field(Pojo::getA)] to [field(Pojo::getOrigin)]")
+                .hasMessageContaining("from [field(Pojo::getOrigin)] to [field(Pojo::getA)]");
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.assignmenttype;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.AssignmentAccessor;
+import org.instancio.settings.AssignmentType;
+import org.instancio.settings.Keys;
+import org.instancio.settings.OnSetMethodError;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.field;
+
+@FeatureTag({Feature.ASSIGNMENT_TYPE, Feature.SETTINGS})
+@ExtendWith(InstancioExtension.class)
+class AssignmentAccessorTest {
+
+    private static Settings settings(final AssignmentType type, final AssignmentAccessor accessor) {
+        return Settings.create()
+                .set(Keys.ASSIGNMENT_TYPE, type)
+                .set(Keys.ASSIGNMENT_ACCESSOR, accessor);
+    }
+
+    private static <T> T create(final Class<T> klass, final AssignmentType type, final AssignmentAccessor accessor) {
+        return Instancio.of(klass)
+                .withSettings(settings(type, accessor))
+                .withSeed(-1)
+                .create();
+    }
+
+    @EnumSource(AssignmentType.class)
+    @ParameterizedTest
+    void shouldProduceSameResultsAsReflection(final AssignmentType type) {
+        assertThat(create(Person.class, type, AssignmentAccessor.METHOD_HANDLE))
+                .isEqualTo(create(Person.class, type, AssignmentAccessor.REFLECTION));
+
+        assertThat(create(Pojo.class, type, AssignmentAccessor.METHOD_HANDLE))
+                .usingRecursiveComparison()
+                .isEqualTo(create(Pojo.class, type, AssignmentAccessor.REFLECTION));
+    }
+
+    @Test
+    void shouldInvokeSetterUsingMethodHandle() {
+        final Pojo result = Instancio.of(Pojo.class)
+                .withSettings(settings(AssignmentType.METHOD, AssignmentAccessor.METHOD_HANDLE))
+                .set(field(Pojo::getIntValue), 2)
+                .create();
+
+        assertThat(result.intValue).isEqualTo(4);
+    }
+
+    @EnumSource(AssignmentType.class)
+    @ParameterizedTest
+    void shouldFallBackToReflectionForWideningConversion(final AssignmentType type) {
+        final Pojo result = Instancio.of(Pojo.class)
+                .withSettings(settings(type, AssignmentAccessor.METHOD_HANDLE))
+                .set(field(Pojo::getLongValue), 5)
+                .create();
+
+        assertThat(result.longValue).isEqualTo(5L);
+    }
+
+    @Test
+    void shouldPropagateSetterErrorUsingMethodHandle() {
+        final Settings settings = settings(AssignmentType.METHOD, AssignmentAccessor.METHOD_HANDLE)
+                .set(Keys.ON_SET_METHOD_ERROR, OnSetMethodError.FAIL);
+
+        assertThatThrownBy(() -> Instancio.of(ThrowingSetter.class).withSettings(settings).create())
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("Method invocation failed")
+                .hasMessageContaining("expected error from setter");
+    }
+
+    @SuppressWarnings("unused")
+    private static class Pojo {
+        private int intValue;
+        private long longValue;
+        private double doubleValue;
+        private boolean booleanValue;
+        private char charValue;
+        private @Nullable Integer boxedValue;
+        private @Nullable String stringValue;
+
+        int getIntValue() {
+            return intValue;
+        }
+
+        void setIntValue(final int intValue) {
+            this.intValue = intValue * 2;
+        }
+
+        long getLongValue() {
+            return longValue;
+        }
+
+        void setLongValue(final long longValue) {
+            this.longValue = longValue;
+        }
+
+        void setDoubleValue(final double doubleValue) {
+            this.doubleValue = doubleValue;
+        }
+
+        void setBooleanValue(final boolean booleanValue) {
+            this.booleanValue = booleanValue;
+        }
+
+        void setCharValue(final char charValue) {
+            this.charValue = charValue;
+        }
+
+        void setBoxedValue(@Nullable final Integer boxedValue) {
+            this.boxedValue = boxedValue;
+        }
+
+        Pojo setStringValue(@Nullable final String stringValue) {
+            this.stringValue = stringValue;
+            return this;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class ThrowingSetter {
+        private @Nullable String value;
+
+        void setValue(@Nullable final String value) {
+            throw new IllegalStateException("expected error from setter");
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.feed;
+
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.feed.FeedCache;
+import org.instancio.feed.FeedCacheStats;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.FeedCacheEviction;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the feed cache. Since the cache is global,
+ * these tests must not run concurrently with other tests.
+ */
+@Isolated
+@FeatureTag({Feature.FEED, Feature.SETTINGS})
+@ExtendWith(InstancioExtension.class)
+class FeedCacheApiTest {
+
+    private final FeedCache cache = Instancio.feedCache();
+
+    @Feed.Source(string = "value\nfoo")
+    private interface Feed1 extends Feed {}
+
+    @Feed.Source(string = "value\nbar")
+    private interface Feed2 extends Feed {}
+
+    @Feed.Source(string = "value\nbaz")
+    private interface Feed3 extends Feed {}
+
+    @BeforeEach
+    void setUp() {
+        cache.clear();
+    }
+
+    private static void createFeed(final Class<? extends Feed> feedClass, final Settings settings) {
+        Instancio.ofFeed(feedClass).withSettings(settings).create();
+    }
+
+    private static Settings maxEntries(final int maxEntries, final FeedCacheEviction eviction) {
+        return Settings.create()
+                .set(Keys.FEED_CACHE_MAX_ENTRIES, maxEntries)
+                .set(Keys.FEED_CACHE_EVICTION, eviction);
+    }
+
+    private static String key(final Class<?> feedClass) {
+        return feedClass.getName() + ":null";
+    }
+
+    @Test
+    void preload() {
+        cache.preload(Feed1.class);
+        createFeed(Feed1.class, Settings.create());
+
+        final FeedCacheStats stats = cache.getStats();
+        assertThat(stats.getMissCount()).isOne();
+        assertThat(stats.getHitCount()).isOne();
+        assertThat(stats.getEntryCount()).isOne();
+        assertThat(stats.getEstimatedBytes()).isPositive();
+        assertThat(stats.getLoadCounts()).hasSize(1).containsEntry(key(Feed1.class), 1);
+    }
+
+    @Test
+    void clear() {
+        cache.preload(Feed1.class);
+        cache.clear();
+
+        final FeedCacheStats stats = cache.getStats();
+        assertThat(stats.getMissCount()).isZero();
+        assertThat(stats.getEntryCount()).isZero();
+        assertThat(stats.getLoadCounts()).isEmpty();
+    }
+
+    @Test
+    void leastRecentlyUsed() {
+        final Settings settings = maxEntries(2, FeedCacheEviction.LRU);
+        createFeed(Feed1.class, settings);
+        createFeed(Feed2.class, settings);
+        createFeed(Feed1.class, settings);
+        createFeed(Feed3.class, settings); // evicts Feed2
+        createFeed(Feed1.class, settings);
+        createFeed(Feed2.class, settings); // evicts Feed3
+
+        final FeedCacheStats stats = cache.getStats();
+        assertThat(stats.getEvictionCount()).isEqualTo(2);
+        assertThat(stats.getEntryCount()).isEqualTo(2);
+        assertThat(stats.getLoadCounts())
+                .containsEntry(key(Feed1.class), 1)
+                .containsEntry(key(Feed2.class), 2)
+                .containsEntry(key(Feed3.class), 1);
+    }
+
+    @Test
+    void leastFrequentlyUsed() {
+        final Settings settings = maxEntries(2, FeedCacheEviction.LFU);
+        createFeed(Feed1.class, settings);
+        createFeed(Feed1.class, settings);
+        createFeed(Feed2.class, settings);
+        createFeed(Feed3.class, settings); // evicts Feed2
+        createFeed(Feed2.class, settings); // evicts Feed3
+
+        assertThat(cache.getStats().getLoadCounts())
+                .containsEntry(key(Feed1.class), 1)
+                .containsEntry(key(Feed2.class), 2)
+                .containsEntry(key(Feed3.class), 1);
+    }
+
+    @Test
+    void cachingDisabled() {
+        final Settings settings = maxEntries(0, FeedCacheEviction.LRU);
+        createFeed(Feed1.class, settings);
+        createFeed(Feed1.class, settings);
+
+        final FeedCacheStats stats = cache.getStats();
+        assertThat(stats.getMissCount()).isEqualTo(2);
+        assertThat(stats.getEntryCount()).isZero();
+    }
+
+    @Test
+    void dataLargerThanMaxBytesShouldNotBeCached() {
+        final Settings settings = Settings.create().set(Keys.FEED_CACHE_MAX_BYTES, 1L);
+        createFeed(Feed1.class, settings);
+        createFeed(Feed1.class, settings);
+
+        final FeedCacheStats stats = cache.getStats();
+        assertThat(stats.getMissCount()).isEqualTo(2);
+        assertThat(stats.getEntryCount()).isZero();
+    }
+
+    @Test
+    void softReferences() {
+        final Settings settings = Settings.create().set(Keys.FEED_CACHE_SOFT_REFERENCES, true);
+        createFeed(Feed1.class, settings);
+        createFeed(Feed1.class, settings);
+
+        // data will not be reclaimed unless memory is low
+        final FeedCacheStats stats = cache.getStats();
+        assertThat(stats.getMissCount()).isOne();
+        assertThat(stats.getHitCount()).isOne();
+    }
+}
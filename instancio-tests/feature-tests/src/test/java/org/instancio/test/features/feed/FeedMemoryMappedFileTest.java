@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.feed;
+
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.FeedDataAccess;
+import org.instancio.settings.FeedDataEndAction;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that memory-mapped CSV files produce the same data
+ * as CSV files loaded into the heap.
+ */
+@FeatureTag({Feature.FEED, Feature.SETTINGS})
+@ExtendWith(InstancioExtension.class)
+class FeedMemoryMappedFileTest {
+
+    private static final int SAMPLE_SIZE = 50;
+    private static final long SEED = 123;
+
+    private static final String CSV = "# comment\r\n"
+            + "id, name ,tag\r\n"
+            + "\n"
+            + "1, foo ,A\r\n"
+            + "2,\"bar, baz\",B\n"
+            + "#2,skipped,B\n"
+            + "3,é€,A\r"
+            + "4,,B";
+
+    private static Path createFile() {
+        return Instancio.gen().nio().path()
+                .tmp()
+                .createFile(new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)))
+                .get();
+    }
+
+    private static List<String> getValues(final long threshold, final Settings settings) {
+        final Path path = createFile();
+        final Feed feed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .withSettings(settings.merge(Settings.create()
+                        .set(Keys.FEED_CSV_MEMORY_MAP_THRESHOLD, threshold)))
+                .create();
+
+        final List<String> results = new ArrayList<>();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            results.add(feed.stringSpec("id").get() + "|" + feed.stringSpec("name").get());
+        }
+        return results;
+    }
+
+    private static List<String> getMappedValues(final Settings settings) {
+        return getValues(0, settings);
+    }
+
+    private static List<String> getHeapValues(final Settings settings) {
+        return getValues(Long.MAX_VALUE, settings);
+    }
+
+    @Test
+    void sequential() {
+        final Settings settings = Settings.create()
+                .set(Keys.FEED_DATA_END_ACTION, FeedDataEndAction.RECYCLE);
+
+        final List<String> results = getMappedValues(settings);
+
+        assertThat(results).startsWith("1|foo", "2|bar, baz", "3|é€", "4|null", "1|foo");
+        assertThat(results).isEqualTo(getHeapValues(settings));
+    }
+
+    @ParameterizedTest
+    @EnumSource(FeedDataAccess.class)
+    void withTag(final FeedDataAccess feedDataAccess) {
+        final Settings settings = Settings.create()
+                .set(Keys.SEED, SEED)
+                .set(Keys.FEED_DATA_ACCESS, feedDataAccess)
+                .set(Keys.FEED_DATA_END_ACTION, FeedDataEndAction.RECYCLE)
+                .set(Keys.FEED_TAG_KEY, "tag")
+                .set(Keys.FEED_TAG_VALUE, "A");
+
+        final List<String> results = getMappedValues(settings);
+
+        assertThat(results).containsOnly("1|foo", "3|é€");
+        assertThat(results).isEqualTo(getHeapValues(settings));
+    }
+
+    @Test
+    void random() {
+        final Settings settings = Settings.create()
+                .set(Keys.SEED, SEED)
+                .set(Keys.FEED_DATA_ACCESS, FeedDataAccess.RANDOM);
+
+        assertThat(getMappedValues(settings)).isEqualTo(getHeapValues(settings));
+    }
+
+    @Test
+    void invalidTagValue() {
+        final Settings settings = Settings.create()
+                .set(Keys.FEED_TAG_KEY, "tag")
+                .set(Keys.FEED_TAG_VALUE, "C");
+
+        assertThatThrownBy(() -> getMappedValues(settings))
+                .hasMessageContaining("no data found with tag value: 'C' (tagKey is set to: 'tag')");
+    }
+}
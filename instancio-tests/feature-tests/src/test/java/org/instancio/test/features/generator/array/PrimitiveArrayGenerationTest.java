@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.generator.array;
+
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
+
+/**
+ * Primitive arrays whose elements have no selectors are filled in bulk.
+ * These tests verify that the results are the same as those produced
+ * when elements are generated one at a time.
+ */
+@FeatureTag({Feature.GENERATOR, Feature.ARRAY_GENERATOR_LENGTH, Feature.SETTINGS})
+@ExtendWith(InstancioExtension.class)
+class PrimitiveArrayGenerationTest {
+
+    private static final long SEED = 123;
+
+    @Test
+    void shouldRespectLengthAndRangeSettings() {
+        final int[] result = Instancio.of(int[].class)
+                .withSetting(Keys.ARRAY_MIN_LENGTH, 500)
+                .withSetting(Keys.ARRAY_MAX_LENGTH, 600)
+                .withSetting(Keys.INTEGER_MIN, -5)
+                .withSetting(Keys.INTEGER_MAX, 5)
+                .create();
+
+        assertThat(result).hasSizeBetween(500, 600);
+        for (int value : result) {
+            assertThat(value).isBetween(-5, 5);
+        }
+    }
+
+    @Test
+    void shouldProduceSameResultAsElementByElementGeneration() {
+        final long[] bulk = Instancio.of(long[].class)
+                .withSeed(SEED)
+                .withSetting(Keys.ARRAY_MIN_LENGTH, 100)
+                .create();
+
+        // a callback disables bulk generation
+        final long[] perElement = Instancio.of(long[].class)
+                .withSeed(SEED)
+                .withSetting(Keys.ARRAY_MIN_LENGTH, 100)
+                .onComplete(all(String.class), (String s) -> {})
+                .lenient()
+                .create();
+
+        assertThat(bulk).isEqualTo(perElement);
+    }
+
+    @Test
+    void shouldRetainWithElements() {
+        final byte[] result = Instancio.of(byte[].class)
+                .generate(all(byte[].class), gen -> gen.array().length(100).with((byte) -1, (byte) -2))
+                .withSetting(Keys.BYTE_MIN, (byte) 0)
+                .create();
+
+        assertThat(result).hasSize(102).contains(-1, -2);
+    }
+
+    @Test
+    void shouldBeRepeatableGivenSeed() {
+        final double[] first = Instancio.of(double[].class).withSeed(SEED).create();
+        final double[] second = Instancio.of(double[].class).withSeed(SEED).create();
+
+        assertThat(first).isNotEmpty().isEqualTo(second);
+    }
+}
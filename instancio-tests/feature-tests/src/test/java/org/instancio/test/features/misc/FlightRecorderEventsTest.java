@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.misc;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.pojo.basic.StringHolder;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.allStrings;
+
+@FeatureTag({Feature.MODEL, Feature.FEED, Feature.FILTER})
+@ExtendWith(InstancioExtension.class)
+class FlightRecorderEventsTest {
+
+    private static final String MODEL_BUILD = "org.instancio.ModelBuild";
+    private static final String GENERATE = "org.instancio.Generate";
+    private static final String FEED_LOAD = "org.instancio.FeedLoad";
+    private static final String MAX_ATTEMPTS = "org.instancio.MaxGenerationAttemptsReached";
+
+    @TempDir
+    private Path tempDir;
+
+    @Feed.Source(resource = "data/FeedExample.csv")
+    private interface SampleFeed extends Feed {}
+
+    @Test
+    void modelBuildAndGenerate() throws IOException {
+        final List<RecordedEvent> events = record(() -> Instancio.of(Person.class)
+                .withSeed(123)
+                .create());
+
+        assertThat(events).extracting(e -> e.getEventType().getName())
+                .containsExactly(MODEL_BUILD, GENERATE);
+
+        assertThat(events).allSatisfy(e -> assertThat(e.getEventType().getCategoryNames())
+                .containsExactly("Instancio"));
+
+        final RecordedEvent modelBuild = events.get(0);
+        assertThat(modelBuild.getString("rootType")).isEqualTo(Person.class.getName());
+        assertThat(modelBuild.getInt("nodeCount")).isGreaterThan(1);
+        assertThat(modelBuild.getInt("depth")).isGreaterThan(1);
+
+        final RecordedEvent generate = events.get(1);
+        assertThat(generate.getString("rootType")).isEqualTo(Person.class.getName());
+        assertThat(generate.getLong("seed")).isEqualTo(123);
+        assertThat(generate.getLong("objectCount")).isGreaterThan(1);
+    }
+
+    @Test
+    void feedLoad() throws IOException {
+        final List<RecordedEvent> events = record(() -> {
+            Instancio.createFeed(SampleFeed.class).stringSpec("value").get();
+            Instancio.createFeed(SampleFeed.class).stringSpec("value").get();
+        }).stream()
+                .filter(e -> e.getEventType().getName().equals(FEED_LOAD))
+                .collect(toList());
+
+        assertThat(events).hasSize(2).allSatisfy(e -> {
+            assertThat(e.getEventType().getName()).isEqualTo(FEED_LOAD);
+            assertThat(e.getString("source")).isEqualTo("data/FeedExample.csv");
+            assertThat(e.getInt("rows")).isEqualTo(3);
+            assertThat(e.getLong("bytes")).isPositive();
+        });
+
+        // the first load may be a hit if the feed was loaded by another test
+        assertThat(events.get(1).getBoolean("cacheHit")).isTrue();
+    }
+
+    @Test
+    void maxGenerationAttemptsReached() throws IOException {
+        final List<RecordedEvent> events = record(() -> Instancio.of(StringHolder.class)
+                .withSetting(Keys.MAX_GENERATION_ATTEMPTS, 3)
+                .withSetting(Keys.FAIL_ON_MAX_GENERATION_ATTEMPTS_REACHED, false)
+                .filter(allStrings(), (String s) -> false)
+                .create());
+
+        final List<RecordedEvent> warnings = events.stream()
+                .filter(e -> e.getEventType().getName().equals(MAX_ATTEMPTS))
+                .collect(toList());
+
+        assertThat(warnings).hasSize(1);
+        assertThat(warnings.get(0).getString("node")).contains("String value");
+        assertThat(warnings.get(0).getInt("maxAttempts")).isEqualTo(3);
+    }
+
+    /**
+     * Returns Instancio events emitted by the current thread,
+     * since other tests may be running concurrently.
+     */
+    private List<RecordedEvent> record(final Runnable action) throws IOException {
+        final Path file = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(MODEL_BUILD);
+            recording.enable(GENERATE);
+            recording.enable(FEED_LOAD);
+            recording.enable(MAX_ATTEMPTS);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final String threadName = Thread.currentThread().getName();
+
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getThread() != null && threadName.equals(e.getThread().getJavaName()))
+                .collect(toList());
+    }
+}
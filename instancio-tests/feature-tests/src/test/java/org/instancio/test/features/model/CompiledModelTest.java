@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.model;
+
+import org.instancio.Instancio;
+import org.instancio.Model;
+import org.instancio.Result;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.pojo.basic.StringHolder;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+
+@FeatureTag({Feature.MODEL, Feature.SETTINGS})
+@ExtendWith(InstancioExtension.class)
+class CompiledModelTest {
+
+    private static final int SAMPLE_SIZE = 100;
+
+    private static Model<Person> compiledPersonModel() {
+        return Instancio.of(Person.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, true)
+                .toModel();
+    }
+
+    @Test
+    void shouldGenerateDifferentObjectsFromCompiledModel() {
+        final Model<Person> model = compiledPersonModel();
+
+        final Set<Person> results = IntStream.range(0, SAMPLE_SIZE)
+                .mapToObj(i -> Instancio.create(model))
+                .collect(Collectors.toSet());
+
+        assertThat(results).hasSize(SAMPLE_SIZE);
+    }
+
+    @Test
+    void shouldGenerateSameObjectWhenModelHasSeed() {
+        final Model<Person> model = Instancio.of(Person.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, true)
+                .withSeed(-1L)
+                .toModel();
+
+        final Person first = Instancio.create(model);
+
+        assertThat(Instancio.create(model)).isEqualTo(first);
+        assertThat(Instancio.of(model).create()).isEqualTo(first);
+    }
+
+    @Test
+    void seedFromResultShouldReproduceObject() {
+        final Model<Person> model = compiledPersonModel();
+
+        final Result<Person> result = Instancio.of(model).asResult();
+
+        final Person reproduced = Instancio.of(Person.class)
+                .withSeed(result.getSeed())
+                .create();
+
+        assertThat(reproduced).isEqualTo(result.get());
+    }
+
+    @Test
+    void shouldApplyCustomisationsToCompiledModel() {
+        final Model<Person> model = compiledPersonModel();
+
+        final Person result = Instancio.of(model)
+                .set(field(Person::getName), "foo")
+                .create();
+
+        assertThat(result.getName()).isEqualTo("foo");
+
+        // the compiled model itself should not be affected
+        assertThat(Instancio.create(model).getName()).isNotEqualTo("foo");
+    }
+
+    @Test
+    void statefulGeneratorsShouldBeResetForEachObject() {
+        final Model<StringHolder> model = Instancio.of(StringHolder.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, true)
+                .generate(all(String.class), gen -> gen.emit().items("a", "b", "c").ignoreUnused())
+                .toModel();
+
+        final List<String> results = IntStream.range(0, 3)
+                .mapToObj(i -> Instancio.create(model).getValue())
+                .collect(Collectors.toList());
+
+        assertThat(results).containsExactly("a", "a", "a");
+    }
+
+    @Test
+    void feedsShouldBeResetForEachObject() {
+        final Model<StringHolder> model = Instancio.of(StringHolder.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, true)
+                .applyFeed(all(StringHolder.class), feed -> feed.ofString("value\na\nb"))
+                .toModel();
+
+        final List<String> results = IntStream.range(0, 3)
+                .mapToObj(i -> Instancio.create(model).getValue())
+                .collect(Collectors.toList());
+
+        assertThat(results).containsExactly("a", "a", "a");
+    }
+
+    @Test
+    void shouldSupportConcurrentUseOfCompiledModel() {
+        final Model<Person> model = compiledPersonModel();
+
+        final Set<Person> results = IntStream.range(0, SAMPLE_SIZE)
+                .parallel()
+                .mapToObj(i -> Instancio.create(model))
+                .collect(Collectors.toSet());
+
+        assertThat(results).hasSize(SAMPLE_SIZE);
+    }
+}
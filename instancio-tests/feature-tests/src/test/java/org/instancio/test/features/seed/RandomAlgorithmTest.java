@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.seed;
+
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.settings.RandomAlgorithm;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@FeatureTag({Feature.WITH_SEED, Feature.SETTINGS})
+@ExtendWith(InstancioExtension.class)
+class RandomAlgorithmTest {
+    private static final long SEED = 7;
+
+    private static Person create(final RandomAlgorithm algorithm) {
+        return Instancio.of(Person.class)
+                .withSetting(Keys.RANDOM_ALGORITHM, algorithm)
+                .withSeed(SEED)
+                .create();
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void shouldProduceSameResultsGivenSameSeed(final RandomAlgorithm algorithm) {
+        assertThat(create(algorithm)).isEqualTo(create(algorithm));
+    }
+
+    @Test
+    void defaultAlgorithmShouldBeJavaUtilRandom() {
+        final Person result = Instancio.of(Person.class).withSeed(SEED).create();
+
+        assertThat(result).isEqualTo(create(RandomAlgorithm.JAVA_UTIL_RANDOM));
+    }
+
+    @Test
+    void differentAlgorithmsShouldProduceDifferentResults() {
+        assertThat(create(RandomAlgorithm.SPLIT_MIX_64))
+                .isNotEqualTo(create(RandomAlgorithm.JAVA_UTIL_RANDOM))
+                .isNotEqualTo(create(RandomAlgorithm.XOSHIRO_256_STAR_STAR));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.settings;
+
+import org.instancio.Assign;
+import org.instancio.Instancio;
+import org.instancio.Model;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.settings.OnFeedPropertyUnmatched;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Phone;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+
+@FeatureTag(Feature.SETTINGS)
+@ExtendWith(InstancioExtension.class)
+class LazyNodeExpansionTest {
+
+    private static final long SEED = 123;
+
+    @Test
+    void shouldProduceSameObjectAsEagerExpansion() {
+        final Person eager = Instancio.of(Person.class)
+                .withSeed(SEED)
+                .create();
+
+        final Person lazy = Instancio.of(Person.class)
+                .withSetting(Keys.LAZY_NODE_EXPANSION_ENABLED, true)
+                .withSeed(SEED)
+                .create();
+
+        assertThat(lazy).isEqualTo(eager);
+    }
+
+    @Test
+    void shouldApplySelectorsToLazilyCreatedNodes() {
+        final Person result = Instancio.of(Person.class)
+                .withSetting(Keys.LAZY_NODE_EXPANSION_ENABLED, true)
+                .set(field(Phone::getNumber), "foo")
+                .create();
+
+        assertThat(result.getAddress().getPhoneNumbers())
+                .isNotEmpty()
+                .allSatisfy(phone -> assertThat(phone.getNumber()).isEqualTo("foo"));
+    }
+
+    @Test
+    void shouldNotPopulateBranchesThatAreSetToNull() {
+        final Model<Person> model = Instancio.of(Person.class)
+                .withSetting(Keys.LAZY_NODE_EXPANSION_ENABLED, true)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, true)
+                .set(field(Person::getAddress), null)
+                .toModel();
+
+        for (int i = 0; i < 3; i++) {
+            final Person result = Instancio.create(model);
+
+            assertThat(result.getAddress()).isNull();
+            assertThat(result.getName()).isNotBlank();
+        }
+    }
+
+    @Test
+    void shouldApplyFeedToLazilyCreatedNodes() {
+        final Person result = Instancio.of(Person.class)
+                .withSetting(Keys.LAZY_NODE_EXPANSION_ENABLED, true)
+                .withSetting(Keys.ON_FEED_PROPERTY_UNMATCHED, OnFeedPropertyUnmatched.IGNORE)
+                .applyFeed(all(Address.class), feed -> feed.ofString("city\nfoo"))
+                .create();
+
+        assertThat(result.getAddress().getCity()).isEqualTo("foo");
+    }
+
+    @Test
+    void shouldSupportAssignments() {
+        final Person result = Instancio.of(Person.class)
+                .withSetting(Keys.LAZY_NODE_EXPANSION_ENABLED, true)
+                .assign(Assign.valueOf(Person::getName).to(field(Address::getCity)))
+                .create();
+
+        assertThat(result.getAddress().getCity()).isEqualTo(result.getName());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.settings;
+
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.pojo.basic.StringHolder;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.allStrings;
+import static org.instancio.Select.field;
+
+@FeatureTag(Feature.SETTINGS)
+@ExtendWith(InstancioExtension.class)
+class ProfilingEnabledTest {
+
+    private final PrintStream standardOut = System.out;
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(outputStreamCaptor));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(standardOut);
+    }
+
+    @Test
+    void profilingShouldBeDisabledByDefault() {
+        Instancio.create(Person.class);
+
+        assertThat(outputStreamCaptor).asString().doesNotContain("### Generation profile");
+    }
+
+    @Test
+    void shouldReportHandlersAndNodes() {
+        final Person result = Instancio.of(Person.class)
+                .withSetting(Keys.PROFILING_ENABLED, true)
+                .supply(field(Person::getName), () -> "foo")
+                .create();
+
+        assertThat(result.getName()).isEqualTo("foo");
+        assertThat(outputStreamCaptor)
+                .asString()
+                .containsOnlyOnce("### Generation profile")
+                .contains(" -> Root object ...........: Person")
+                .containsSubsequence(
+                        "### Handlers",
+                        "UserSuppliedGeneratorHandler",
+                        "### Nodes",
+                        "<0:Person>")
+                .containsPattern("\\s+1\\s+[\\d.]+\\s+[\\d.]+\\s+0\\s+0\\s+0\\s+<1:Person: String name>");
+    }
+
+    @Test
+    void shouldReportValuesRejectedByFilter() {
+        final AtomicInteger count = new AtomicInteger();
+
+        Instancio.of(StringHolder.class)
+                .withSetting(Keys.PROFILING_ENABLED, true)
+                .filter(allStrings(), (String s) -> count.incrementAndGet() > 3)
+                .create();
+
+        assertThat(outputStreamCaptor)
+                .asString()
+                .containsPattern("\\s+1\\s+[\\d.]+\\s+[\\d.]+\\s+3\\s+0\\s+0\\s+<1:StringHolder: String value>");
+    }
+
+    @Test
+    void shouldReportDuplicateElements() {
+        final Set<String> result = Instancio.ofSet(String.class)
+                .size(2)
+                .withSetting(Keys.PROFILING_ENABLED, true)
+                .generate(allStrings(), gen -> gen.emit().items("foo", "foo", "bar"))
+                .create();
+
+        assertThat(result).containsExactlyInAnyOrder("foo", "bar");
+        assertThat(outputStreamCaptor)
+                .asString()
+                .containsPattern("\\s+3\\s+[\\d.]+\\s+[\\d.]+\\s+0\\s+0\\s+1\\s+<1:String>");
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.stream;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.Model;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.junit.Seed;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
+
+@FeatureTag({Feature.STREAM, Feature.MODEL, Feature.SETTINGS})
+@ExtendWith(InstancioExtension.class)
+class CompiledModelStreamTest {
+    private static final long SEED = 123;
+    private static final int SAMPLE_SIZE = 100;
+
+    private static List<Person> streamWithSeed(final boolean compiled) {
+        return Instancio.of(Person.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, compiled)
+                .withSeed(SEED)
+                .stream()
+                .limit(SAMPLE_SIZE)
+                .collect(toList());
+    }
+
+    @Test
+    void shouldGenerateDistinctObjects() {
+        final Set<Person> results = Instancio.of(Person.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, true)
+                .stream()
+                .limit(SAMPLE_SIZE)
+                .collect(toSet());
+
+        assertThat(results).hasSize(SAMPLE_SIZE);
+    }
+
+    @Test
+    void shouldProduceSameResultsAsRegularStreamGivenSeed() {
+        assertThat(streamWithSeed(true))
+                .isEqualTo(streamWithSeed(true))
+                .isEqualTo(streamWithSeed(false));
+    }
+
+    @Test
+    @Seed(SEED)
+    void shouldProduceSameResultsAsRegularStreamGivenSeedAnnotation() {
+        final List<Person> results = Instancio.of(Person.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, true)
+                .stream()
+                .limit(SAMPLE_SIZE)
+                .collect(toList());
+
+        assertThat(results).isEqualTo(streamWithSeed(false));
+    }
+
+    @Test
+    void statefulGeneratorsShouldBeResetForEachElement() {
+        final List<String> results = Instancio.of(String.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, true)
+                .generate(all(String.class), gen -> gen.emit().items("foo", "bar", "baz").ignoreUnused())
+                .stream()
+                .limit(3)
+                .collect(toList());
+
+        assertThat(results).containsExactly("foo", "foo", "foo");
+    }
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void streamShouldNotChangeSeedOfApi(final boolean compiled) {
+        final InstancioApi<Person> api = Instancio.of(Person.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, compiled)
+                .withSeed(SEED);
+
+        final Person expected = api.create();
+
+        assertThat(api.stream().limit(3)).hasSize(3);
+        assertThat(api.create()).isEqualTo(expected);
+    }
+
+    @Test
+    void streamShouldNotChangeSeedOfApiCreatedFromModel() {
+        final Model<Person> model = Instancio.of(Person.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, true)
+                .withSeed(SEED)
+                .toModel();
+
+        final InstancioApi<Person> api = Instancio.of(model);
+        final Person expected = api.create();
+
+        assertThat(api.stream().limit(3)).hasSize(3);
+        assertThat(api.create()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.stream;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.field;
+
+@FeatureTag({Feature.STREAM, Feature.WITH_SEED})
+@ExtendWith(InstancioExtension.class)
+class StreamWithSizeTest {
+    private static final long SEED = 123;
+    private static final int SIZE = 200;
+
+    private static List<Person> sequential(final boolean compiled) {
+        return Instancio.of(Person.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, compiled)
+                .withSeed(SEED)
+                .stream(SIZE)
+                .collect(toList());
+    }
+
+    private static List<Person> parallel(final boolean compiled) {
+        return Instancio.of(Person.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, compiled)
+                .withSeed(SEED)
+                .stream(SIZE)
+                .parallel()
+                .collect(toList());
+    }
+
+    @Test
+    void shouldGenerateStreamOfGivenSize() {
+        final List<Person> results = Instancio.of(Person.class)
+                .stream(SIZE)
+                .collect(toList());
+
+        assertThat(results)
+                .hasSize(SIZE)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void emptyStream() {
+        assertThat(Instancio.of(Person.class).stream(0)).isEmpty();
+    }
+
+    @Test
+    void negativeSize() {
+        assertThatThrownBy(() -> Instancio.of(Person.class).stream(-1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("size must not be negative: -1");
+    }
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void parallelResultsShouldMatchSequentialResults(final boolean compiled) {
+        final List<Person> expected = sequential(compiled);
+
+        assertThat(parallel(compiled)).isEqualTo(expected);
+        assertThat(sequential(compiled)).isEqualTo(expected);
+    }
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void statefulGeneratorsShouldBeResetForEachElement(final boolean compiled) {
+        final List<Person> expected = Instancio.of(Person.class)
+                .generate(field(Person::getName), gen -> gen.emit().items("foo", "bar").ignoreUnused())
+                .generate(field(Person::getAge), gen -> gen.intSeq())
+                .withSeed(SEED)
+                .stream(SIZE)
+                .collect(toList());
+
+        final List<Person> results = Instancio.of(Person.class)
+                .withSetting(Keys.COMPILED_MODEL_ENABLED, compiled)
+                .generate(field(Person::getName), gen -> gen.emit().items("foo", "bar").ignoreUnused())
+                .generate(field(Person::getAge), gen -> gen.intSeq())
+                .withSeed(SEED)
+                .stream(SIZE)
+                .parallel()
+                .collect(toList());
+
+        assertThat(results)
+                .isEqualTo(expected)
+                .allSatisfy(person -> {
+                    assertThat(person.getName()).isEqualTo("foo");
+                    assertThat(person.getAge()).isOne();
+                });
+    }
+
+    @Test
+    void compiledResultsShouldMatchNonCompiledResults() {
+        assertThat(sequential(true)).isEqualTo(sequential(false));
+    }
+
+    @Test
+    void resultsShouldNotDependOnNumberOfThreads() throws Exception {
+        final List<Person> expected = sequential(false);
+
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertThat(pool.submit(() -> parallel(false)).get()).isEqualTo(expected);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void elementsShouldBeIndependentOfStreamSize() {
+        final List<Person> results = Instancio.of(Person.class)
+                .withSeed(SEED)
+                .stream(SIZE / 2)
+                .collect(toList());
+
+        assertThat(results).isEqualTo(sequential(false).subList(0, SIZE / 2));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.values;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@FeatureTag(Feature.VALUE_SPEC)
+@ExtendWith(InstancioExtension.class)
+class PrimitiveValueSpecTest {
+
+    private static final int SIZE = 100;
+    private static final Settings SEED_SETTINGS = Settings.create().set(Keys.SEED, 123L);
+
+    @Test
+    void intArray() {
+        final int[] results = Instancio.gen().ints().range(10, 15).intArray(SIZE);
+
+        assertThat(results).hasSize(SIZE).allSatisfy(v -> assertThat(v).isBetween(10, 15));
+    }
+
+    @Test
+    void intArrayWithMultipleRanges() {
+        final int[] results = Instancio.gen().ints().range(1, 2).range(10, 11).intArray(SIZE);
+
+        assertThat(results).hasSize(SIZE).containsOnly(1, 2, 10, 11);
+    }
+
+    @Test
+    void longArray() {
+        final long[] results = Instancio.gen().longs().range(10L, 15L).longArray(SIZE);
+
+        assertThat(results).hasSize(SIZE).allSatisfy(v -> assertThat(v).isBetween(10L, 15L));
+    }
+
+    @Test
+    void doubleArray() {
+        final double[] results = Instancio.gen().doubles().range(10.1, 14.9).doubleArray(SIZE);
+
+        assertThat(results).hasSize(SIZE).allSatisfy(v -> assertThat(v).isBetween(10.1, 14.9));
+    }
+
+    @Test
+    void floatArray() {
+        final float[] results = Instancio.gen().floats().range(10.1f, 14.9f).floatArray(SIZE);
+
+        assertThat(results).hasSize(SIZE).allSatisfy(v -> assertThat(v).isBetween(10.1f, 14.9f));
+    }
+
+    @Test
+    void shortArray() {
+        final short[] results = Instancio.gen().shorts().range((short) 10, (short) 15).shortArray(SIZE);
+
+        assertThat(results).hasSize(SIZE).allSatisfy(v -> assertThat(v).isBetween((short) 10, (short) 15));
+    }
+
+    @Test
+    void byteArray() {
+        final byte[] results = Instancio.gen().bytes().range((byte) 10, (byte) 15).byteArray(SIZE);
+
+        assertThat(results).hasSize(SIZE).allSatisfy(v -> assertThat(v).isBetween((byte) 10, (byte) 15));
+    }
+
+    @Test
+    void emptyArray() {
+        assertThat(Instancio.gen().ints().intArray(0)).isEmpty();
+    }
+
+    @Test
+    void negativeSize() {
+        assertThatThrownBy(() -> Instancio.gen().ints().intArray(-1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("array size must not be negative: -1");
+    }
+
+    @Test
+    void fillPrimitiveArray() {
+        final int[] array = new int[SIZE];
+        final int[] results = Instancio.gen().ints().range(10, 15).fill(array);
+
+        assertThat(results).isSameAs(array).allSatisfy(v -> assertThat(v).isBetween(10, 15));
+    }
+
+    @Test
+    void fillObjectArray() {
+        final String[] array = new String[SIZE];
+        final String[] results = Instancio.gen().string().length(3).fill(array);
+
+        assertThat(results).isSameAs(array).allSatisfy(v -> assertThat(v).hasSize(3));
+    }
+
+    @Test
+    void primitiveStreams() {
+        assertThat(Instancio.gen().ints().range(10, 15).intStream().limit(SIZE).toArray())
+                .hasSize(SIZE)
+                .allSatisfy(v -> assertThat(v).isBetween(10, 15));
+
+        assertThat(Instancio.gen().longs().range(10L, 15L).longStream().limit(SIZE).toArray())
+                .hasSize(SIZE)
+                .allSatisfy(v -> assertThat(v).isBetween(10L, 15L));
+
+        assertThat(Instancio.gen().doubles().range(10.1, 14.9).doubleStream().limit(SIZE).toArray())
+                .hasSize(SIZE)
+                .allSatisfy(v -> assertThat(v).isBetween(10.1, 14.9));
+    }
+
+    @Test
+    void nullableShouldBeIgnored() {
+        assertThat(Instancio.gen().ints().nullable().intArray(SIZE)).hasSize(SIZE);
+        assertThat(Instancio.gen().doubles().nullable().doubleArray(SIZE)).hasSize(SIZE);
+    }
+
+    @Test
+    void shouldProduceSameValuesAsListGivenSameSeed() {
+        final int[] array = Instancio.gen().withSettings(SEED_SETTINGS).ints().intArray(SIZE);
+        final List<Integer> list = Instancio.gen().withSettings(SEED_SETTINGS).ints().list(SIZE);
+
+        assertThat(Arrays.stream(array).boxed().collect(toList())).isEqualTo(list);
+
+        final double[] doubles = Instancio.gen().withSettings(SEED_SETTINGS).doubles().doubleArray(SIZE);
+        final List<Double> doubleList = Instancio.gen().withSettings(SEED_SETTINGS).doubles().list(SIZE);
+
+        assertThat(Arrays.stream(doubles).boxed().collect(toList())).isEqualTo(doubleList);
+    }
+}
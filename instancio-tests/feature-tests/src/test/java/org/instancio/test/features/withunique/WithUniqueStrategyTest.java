@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.withunique;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.Model;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.settings.UniqueStrategy;
+import org.instancio.test.support.pojo.basic.SupportedNumericTypes;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.all;
+import static org.instancio.Select.allInts;
+import static org.instancio.Select.allLongs;
+import static org.instancio.Select.allStrings;
+
+@FeatureTag({Feature.WITH_UNIQUE, Feature.SETTINGS})
+@ExtendWith(InstancioExtension.class)
+class WithUniqueStrategyTest {
+
+    private static final int SIZE = 1000;
+
+    @EnumSource(UniqueStrategy.class)
+    @ParameterizedTest
+    void shouldGenerateUniqueValues(final UniqueStrategy strategy) {
+        final List<Integer> results = Instancio.ofList(Integer.class)
+                .size(SIZE)
+                .withSetting(Keys.UNIQUE_STRATEGY, strategy)
+                .withSetting(Keys.INTEGER_MIN, 1)
+                .withSetting(Keys.INTEGER_MAX, SIZE * 10)
+                .withUnique(allInts())
+                .create();
+
+        assertThat(results)
+                .hasSize(SIZE)
+                .doesNotHaveDuplicates()
+                .allSatisfy(i -> assertThat(i).isBetween(1, SIZE * 10));
+    }
+
+    @EnumSource(UniqueStrategy.class)
+    @ParameterizedTest
+    void shouldGenerateUniqueValuesAcrossFieldsOfDifferentTypes(final UniqueStrategy strategy) {
+        final List<SupportedNumericTypes> results = Instancio.ofList(SupportedNumericTypes.class)
+                .size(SIZE)
+                .withSetting(Keys.UNIQUE_STRATEGY, strategy)
+                .withSetting(Keys.LONG_MIN, 1L)
+                .withSetting(Keys.LONG_MAX, (long) SIZE * 10)
+                .withUnique(allLongs())
+                .create();
+
+        assertThat(results)
+                .extracting(SupportedNumericTypes::getPrimitiveLong)
+                .doesNotHaveDuplicates();
+
+        // primitive and wrapper fields share the same unique values
+        assertThat(results.stream().flatMap(r -> Stream.of(r.getPrimitiveLong(), r.getLongWrapper())))
+                .hasSize(SIZE * 2)
+                .doesNotHaveDuplicates();
+    }
+
+    @EnumSource(value = UniqueStrategy.class, names = {"FINGERPRINT", "BLOOM_FILTER"})
+    @ParameterizedTest
+    void shouldGenerateUniqueStrings(final UniqueStrategy strategy) {
+        final List<String> results = Instancio.ofList(String.class)
+                .size(SIZE)
+                .withSetting(Keys.UNIQUE_STRATEGY, strategy)
+                .withSetting(Keys.UNIQUE_BLOOM_FILTER_EXPECTED_INSERTIONS, SIZE)
+                .withSetting(Keys.STRING_MIN_LENGTH, 5)
+                .withSetting(Keys.STRING_MAX_LENGTH, 5)
+                .withUnique(allStrings())
+                .create();
+
+        assertThat(results).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void permutationShouldGenerateEachValueInRangeExactlyOnce() {
+        final List<Long> results = Instancio.ofList(Long.class)
+                .size(SIZE)
+                .withSetting(Keys.UNIQUE_STRATEGY, UniqueStrategy.PERMUTATION)
+                .withSetting(Keys.LONG_MIN, -500L)
+                .withSetting(Keys.LONG_MAX, 499L)
+                .withUnique(all(Long.class))
+                .create();
+
+        assertThat(results).containsExactlyInAnyOrderElementsOf(
+                LongStream.range(-500, 500).boxed().toList());
+    }
+
+    @Test
+    void permutationShouldFailWhenRangeIsExhausted() {
+        final InstancioApi<List<Integer>> api = Instancio.ofList(Integer.class)
+                .size(11)
+                .withSetting(Keys.UNIQUE_STRATEGY, UniqueStrategy.PERMUTATION)
+                .withSetting(Keys.INTEGER_MIN, 1)
+                .withSetting(Keys.INTEGER_MAX, 10)
+                .withUnique(allInts());
+
+        assertThatThrownBy(api::create)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("All 10 values within the range have already been generated");
+    }
+
+    @Test
+    void permutationShouldNotOverrideUserSuppliedGenerators() {
+        final List<Integer> results = Instancio.ofList(Integer.class)
+                .size(SIZE)
+                .withSetting(Keys.UNIQUE_STRATEGY, UniqueStrategy.PERMUTATION)
+                .withSetting(Keys.INTEGER_MIN, 1)
+                .withSetting(Keys.INTEGER_MAX, SIZE)
+                .generate(allInts(), gen -> gen.ints().range(SIZE * 10, SIZE * 20))
+                .withUnique(allInts())
+                .create();
+
+        assertThat(results)
+                .doesNotHaveDuplicates()
+                .allSatisfy(result -> assertThat(result).isBetween(SIZE * 10, SIZE * 20));
+    }
+
+    @Test
+    void permutationShouldRejectDuplicateUserSuppliedValues() {
+        final InstancioApi<List<Integer>> api = Instancio.ofList(Integer.class)
+                .size(2)
+                .withSetting(Keys.UNIQUE_STRATEGY, UniqueStrategy.PERMUTATION)
+                .set(allInts(), 5)
+                .withUnique(allInts());
+
+        assertThatThrownBy(api::create)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("Generation was abandoned after");
+    }
+
+    @Test
+    void derivedModelShouldNotChangeUniqueStrategy() {
+        final Model<Integer> model = Instancio.of(Integer.class)
+                .withUnique(allInts())
+                .toModel();
+
+        final InstancioApi<Integer> api = Instancio.of(model)
+                .withSetting(Keys.UNIQUE_STRATEGY, UniqueStrategy.FINGERPRINT);
+
+        assertThatThrownBy(api::create)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("withUnique() settings have changed");
+    }
+
+    @Test
+    void bloomFilterShouldValidateFalsePositiveRate() {
+        final InstancioApi<Integer> api = Instancio.of(Integer.class)
+                .withSetting(Keys.UNIQUE_STRATEGY, UniqueStrategy.BLOOM_FILTER)
+                .withSetting(Keys.UNIQUE_BLOOM_FILTER_FALSE_POSITIVE_RATE, 1.0)
+                .withUnique(allInts());
+
+        assertThatThrownBy(api::create)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("unique.bloom.filter.false.positive.rate must be greater than 0 and less than 1");
+    }
+}
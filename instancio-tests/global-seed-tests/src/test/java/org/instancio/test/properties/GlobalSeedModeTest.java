@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.properties;
+
+import org.instancio.Instancio;
+import org.instancio.Result;
+import org.instancio.internal.random.SeedSplitter;
+import org.instancio.settings.GlobalSeedMode;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@FeatureTag(Feature.GLOBAL_SEED)
+// Do not use InstancioExtension since it supplies its own random instance
+class GlobalSeedModeTest {
+    private static final int NUM_THREADS = 4;
+
+    // Each test uses its own root type since the number of
+    // root objects created so far is tracked per type
+    private static class SequentialPojo {
+        String value;
+    }
+
+    private static class ConsecutivePojo {
+        String value;
+    }
+
+    private static class ConcurrentPojo {
+        String value;
+    }
+
+    private static <T> Result<T> create(final Class<T> type) {
+        return Instancio.of(type)
+                .withSetting(Keys.GLOBAL_SEED_MODE, GlobalSeedMode.PER_ROOT_TYPE)
+                .asResult();
+    }
+
+    private static long expectedSeed(final Class<?> type, final long index) {
+        final long typeSeed = SeedSplitter.split(TestConstants.GLOBAL_SEED, type.getTypeName().hashCode());
+        return SeedSplitter.split(typeSeed, index);
+    }
+
+    @Test
+    void perRootTypeShouldNotDependOnObjectsOfOtherTypes() {
+        for (int i = 0; i < 3; i++) {
+            Instancio.create(String.class);
+            create(Integer.class);
+
+            assertThat(create(SequentialPojo.class).getSeed())
+                    .isEqualTo(expectedSeed(SequentialPojo.class, i));
+        }
+    }
+
+    @Test
+    void perRootTypeShouldUseDifferentSeedsForConsecutiveObjects() {
+        final Result<ConsecutivePojo> first = create(ConsecutivePojo.class);
+        final Result<ConsecutivePojo> second = create(ConsecutivePojo.class);
+
+        assertThat(first.getSeed()).isNotEqualTo(second.getSeed());
+        assertThat(first.get().value).isNotEqualTo(second.get().value);
+    }
+
+    @Test
+    void perRootTypeShouldNotDependOnThread() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        try {
+            final List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < NUM_THREADS; i++) {
+                futures.add(executor.submit(() -> create(ConcurrentPojo.class).getSeed()));
+            }
+            final Set<Long> seeds = new HashSet<>();
+            final Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < NUM_THREADS; i++) {
+                seeds.add(futures.get(i).get());
+                expected.add(expectedSeed(ConcurrentPojo.class, i));
+            }
+            assertThat(seeds).isEqualTo(expected);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void perRootTypeShouldDeriveDifferentSeedsForDifferentTypes() {
+        final long seed = create(String.class).getSeed();
+
+        assertThat(seed).isNotEqualTo(TestConstants.GLOBAL_SEED);
+        assertThat(create(Integer.class).getSeed()).isNotEqualTo(seed);
+    }
+
+    @Test
+    void perRootTypeSeedShouldReproduceObject() {
+        final Result<String> result = create(String.class);
+
+        assertThat(Instancio.of(String.class).withSeed(result.getSeed()).create())
+                .isEqualTo(result.get());
+    }
+}
@@ -49,7 +49,7 @@ class UnresolvedAssignmentErrorTest extends AbstractErrorMessageTestTemplate {
 
                 Reason: unresolved assignment expression
 
-                The following assignments could not be applied:
+                The following assignments depend on each other and cannot be applied:
 
                  -> from [field(StringsAbc::getC)] to [field(StringsAbc::getA)]
                  -> from [field(StringsAbc::getA)] to [field(StringsAbc::getB)]
@@ -57,9 +57,9 @@ class UnresolvedAssignmentErrorTest extends AbstractErrorMessageTestTemplate {
 
                 As a result, the following targets could not be assigned a value:
 
+                 -> field StringsAbc.a (depth=1)
                  -> field StringsAbc.b (depth=1)
                  -> field StringsAbc.c (depth=1)
-                 -> field StringsAbc.a (depth=1)
 
                 Possible causes:
 
@@ -15,6 +15,10 @@
  */
 package org.instancio.generator;
 
+import org.instancio.generator.hints.ArrayHint;
+import org.instancio.generator.hints.CollectionHint;
+import org.instancio.generator.hints.MapHint;
+import org.instancio.internal.generator.InternalGeneratorHint;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,6 +48,56 @@ class HintsTest {
                 .isSameAs(two);
     }
 
+    @Test
+    void getSetBuiltInHints() {
+        final CollectionHint collectionHint = CollectionHint.builder().build();
+        final MapHint mapHint = MapHint.builder().build();
+        final ArrayHint arrayHint = ArrayHint.builder().build();
+        final InternalGeneratorHint generatorHint = InternalGeneratorHint.builder().build();
+        final FooHint fooHint = new FooHint();
+
+        final Hints hints = Hints.builder()
+                .with(collectionHint)
+                .with(mapHint)
+                .with(arrayHint)
+                .with(generatorHint)
+                .with(fooHint)
+                .build();
+
+        assertThat(hints.get(CollectionHint.class)).isSameAs(collectionHint);
+        assertThat(hints.get(MapHint.class)).isSameAs(mapHint);
+        assertThat(hints.get(ArrayHint.class)).isSameAs(arrayHint);
+        assertThat(hints.get(InternalGeneratorHint.class)).isSameAs(generatorHint);
+        assertThat(hints.get(FooHint.class)).isSameAs(fooHint);
+    }
+
+    @Test
+    void missingHintsShouldBeNull() {
+        final Hints hints = Hints.builder().build();
+
+        assertThat(hints.get(CollectionHint.class)).isNull();
+        assertThat(hints.get(InternalGeneratorHint.class)).isNull();
+        assertThat(hints.get(FooHint.class)).isNull();
+    }
+
+    @Test
+    void builderFromCopyShouldNotModifyOriginal() {
+        final Hints original = Hints.builder()
+                .with(CollectionHint.builder().build())
+                .build();
+
+        final Hints copy = Hints.builder(original)
+                .with(MapHint.builder().build())
+                .with(new FooHint())
+                .build();
+
+        assertThat(copy.get(CollectionHint.class)).isSameAs(original.get(CollectionHint.class));
+        assertThat(copy.get(MapHint.class)).isNotNull();
+        assertThat(copy.get(FooHint.class)).isNotNull();
+        assertThat(original.get(MapHint.class)).isNull();
+        assertThat(original.get(FooHint.class)).isNull();
+    }
+
     @Test
     void emptyHintsShouldHaveNullAfterGenerate() {
         assertHints(Hints.builder().build())
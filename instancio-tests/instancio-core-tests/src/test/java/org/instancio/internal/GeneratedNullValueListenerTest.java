@@ -17,8 +17,14 @@ package org.instancio.internal;
 
 import org.instancio.Assign;
 import org.instancio.Instancio;
+import org.instancio.TargetSelector;
 import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.generation.GenerationListener;
+import org.instancio.internal.generator.GeneratorResult;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -29,6 +35,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.Select.all;
 import static org.instancio.Select.allStrings;
+import static org.instancio.Select.field;
 
 class GeneratedNullValueListenerTest {
 
@@ -64,6 +71,57 @@ class GeneratedNullValueListenerTest {
         assertThat(result).isExactlyInstanceOf(GeneratedNullValueListener.class);
     }
 
+    @Test
+    void shouldMarkSelectorsMatchingDescendantsAsUsed() {
+        final InternalModel<Person> model = lazyModel(field(Address::getCity));
+        final InternalNode addressNode = getAddressNode(model);
+
+        GeneratedNullValueListener.create(model.getModelContext())
+                .objectCreated(addressNode, GeneratorResult.nullResult());
+
+        assertThat(model.getModelContext().getSelectorMaps().getMaxUnusedSelectorDepth()).isEqualTo(-1);
+        assertThat(addressNode.isExpanded()).isTrue();
+    }
+
+    @Test
+    void shouldNotVisitDescendantsIfAllSelectorsHaveBeenUsed() {
+        final InternalModel<Person> model = lazyModel(field(Person::getName));
+        final InternalNode addressNode = getAddressNode(model);
+        final ModelContext ctx = model.getModelContext();
+
+        model.getRootNode().getChildren().forEach(ctx::getGenerator);
+
+        GeneratedNullValueListener.create(ctx)
+                .objectCreated(addressNode, GeneratorResult.nullResult());
+
+        assertThat(addressNode.isExpanded()).isFalse();
+    }
+
+    @Test
+    void shouldNotVisitDescendantsBeyondDepthOfUnusedSelectors() {
+        final InternalModel<Person> model = lazyModel(allStrings().atDepth(1));
+        final InternalNode addressNode = getAddressNode(model);
+
+        GeneratedNullValueListener.create(model.getModelContext())
+                .objectCreated(addressNode, GeneratorResult.nullResult());
+
+        assertThat(addressNode.isExpanded()).isFalse();
+    }
+
+    private static InternalModel<Person> lazyModel(final TargetSelector selector) {
+        return new InternalModel<>(ModelContext.builder(Person.class)
+                .withSetting(Keys.LAZY_NODE_EXPANSION_ENABLED, true)
+                .withGenerator(selector, random -> "foo")
+                .build());
+    }
+
+    private static InternalNode getAddressNode(final InternalModel<Person> model) {
+        return model.getRootNode().getChildren().stream()
+                .filter(node -> node.getRawType() == Address.class)
+                .findFirst()
+                .orElseThrow();
+    }
+
     private static Stream<Arguments> args() {
         return Stream.of(
                 Arguments.of(ModelContext.builder(String.class)
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.annotation;
+
+import org.instancio.generator.Generator;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.settings.Settings;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnnotationGeneratorRecipeTest {
+
+    @Retention(RUNTIME)
+    private @interface Primary {}
+
+    @Retention(RUNTIME)
+    private @interface Foo {}
+
+    @Retention(RUNTIME)
+    private @interface Bar {}
+
+    @Bar
+    @Primary
+    @Foo
+    @SuppressWarnings("unused") // used via reflection
+    private static final Object DUMMY = null;
+
+    private static final Annotation[] ANNOTATIONS =
+            ReflectionUtils.getField(AnnotationGeneratorRecipeTest.class, "DUMMY").getDeclaredAnnotations();
+
+    private static final GeneratorContext CONTEXT = new GeneratorContext(Settings.defaults(), new DefaultRandom());
+
+    private final List<String> processed = new ArrayList<>();
+
+    private AnnotationLibraryFacade library(final String name, final Set<Class<?>> supported) {
+        return new AnnotationLibraryFacade() {
+            @Override
+            public boolean isPrimary(final Class<? extends Annotation> annotationType) {
+                return annotationType == Primary.class;
+            }
+
+            @Override
+            public FieldAnnotationHandler getAnnotationHandler(final Annotation annotation) {
+                if (!supported.contains(annotation.annotationType())) {
+                    return null;
+                }
+                return (a, spec, targetClass, ctx) ->
+                        processed.add(name + ":" + a.annotationType().getSimpleName());
+            }
+
+            @Override
+            public Generator<?> resolveGenerator(final Annotation annotation, final GeneratorContext context) {
+                return random -> "primary";
+            }
+        };
+    }
+
+    @Test
+    void emptyAnnotations() {
+        final AnnotationGeneratorRecipe recipe = AnnotationGeneratorRecipe.compile(
+                new Annotation[0], List.of(library("lib", Set.of(Foo.class))));
+
+        assertThat(recipe.getAnnotations()).isEmpty();
+        assertThat(recipe.hasPrimaryAnnotation()).isFalse();
+        assertThat(recipe.createPrimaryGenerator(CONTEXT)).isNull();
+    }
+
+    @Test
+    void shouldCreateNewPrimaryGeneratorEachTime() {
+        final AnnotationGeneratorRecipe recipe = AnnotationGeneratorRecipe.compile(
+                ANNOTATIONS, List.of(library("lib", Set.of())));
+
+        assertThat(recipe.hasPrimaryAnnotation()).isTrue();
+
+        final Generator<?> generator = recipe.createPrimaryGenerator(CONTEXT);
+        assertThat(generator).isNotNull().isNotSameAs(recipe.createPrimaryGenerator(CONTEXT));
+        assertThat(generator.generate(CONTEXT.random())).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldApplyNonPrimaryAnnotationsInDeclaredOrderOncePerAnnotation() {
+        final AnnotationGeneratorRecipe recipe = AnnotationGeneratorRecipe.compile(ANNOTATIONS, List.of(
+                library("lib1", Set.of(Foo.class, Primary.class)),
+                library("lib2", Set.of(Foo.class, Bar.class))));
+
+        final Generator<?> spec = random -> null;
+
+        recipe.applyAnnotations(spec, String.class, CONTEXT);
+        assertThat(processed).containsExactly("lib1:Foo", "lib2:Bar");
+
+        processed.clear();
+        recipe.applyAnnotations(spec, String.class, CONTEXT);
+        assertThat(processed).containsExactly("lib1:Foo", "lib2:Bar");
+    }
+}
@@ -43,6 +43,7 @@ import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -201,6 +202,33 @@ class SelectorMapImplTest {
         assertThat(selectorMap.getValue(stringNode)).isEmpty();
     }
 
+    @Test
+    void resolvedValueShouldBeUpdatedWhenSelectorIsAdded() {
+        put(field(Person.class, "name"), "foo");
+        assertThat(selectorMap.getValue(personNameNode)).contains("foo");
+        assertThat(selectorMap.getValues(personNameNode)).containsExactly("foo");
+
+        put(field(Person.class, "name").within(scope(Person.class)), "bar");
+        assertThat(selectorMap.getValue(personNameNode)).contains("bar");
+        assertThat(selectorMap.getValues(personNameNode)).containsExactlyInAnyOrder("foo", "bar");
+    }
+
+    @Test
+    void predicateSelectorShouldBeEvaluatedOncePerNode() {
+        final AtomicInteger count = new AtomicInteger();
+        put(Select.fields(f -> {
+            count.incrementAndGet();
+            return "name".equals(f.getName());
+        }), "foo");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(selectorMap.getValue(personNameNode)).contains("foo");
+            assertThat(selectorMap.getValue(phoneNumberNode)).isEmpty();
+        }
+
+        assertThat(count.get()).isEqualTo(2);
+    }
+
     private static InternalNode getNodeWithField(final InternalNode node, final Class<?> declaringClass, final String fieldName) {
         final Field field = ReflectionUtils.getField(declaringClass, fieldName);
         assertThat(field).as("null field").isNotNull();
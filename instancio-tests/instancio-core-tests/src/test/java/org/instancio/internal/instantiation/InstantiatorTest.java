@@ -18,6 +18,7 @@ package org.instancio.internal.instantiation;
 import org.instancio.test.support.pojo.basic.IntegerHolder;
 import org.instancio.test.support.pojo.basic.IntegerHolderWithPrivateDefaultConstructor;
 import org.instancio.test.support.pojo.basic.IntegerHolderWithoutDefaultConstructor;
+import org.instancio.test.support.pojo.misc.WithDefaultConstructorThrowingError;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -26,6 +27,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -50,4 +52,78 @@ class InstantiatorTest {
         final Class<?> klass = List.class;
         assertThat(instantiator.instantiate(klass)).isNull();
     }
+
+    @Test
+    void shouldCacheResolvedStrategy() {
+        final Class<?> klass = IntegerHolderWithoutDefaultConstructor.class;
+
+        assertThat(instantiator.instantiate(klass)).isNotNull();
+        assertThat(Instantiator.getResolvedStrategy(klass))
+                .isEqualTo(UnsafeInstantiationStrategy.class.getSimpleName());
+
+        final Object first = instantiator.instantiate(klass);
+        final Object second = new Instantiator(Collections.emptyList()).instantiate(klass);
+
+        assertThat(first).isNotNull().isNotSameAs(second);
+        assertThat(second).isNotNull();
+    }
+
+    @Test
+    void shouldResolveDefaultConstructor() {
+        final Class<?> klass = IntegerHolder.class;
+
+        assertThat(instantiator.instantiate(klass)).isNotNull();
+        assertThat(Instantiator.getResolvedStrategy(klass))
+                .isEqualTo(NoArgumentConstructorInstantiationStrategy.class.getSimpleName());
+    }
+
+    @Test
+    void shouldNotCacheStrategyIfDefaultConstructorThrowsError() {
+        final Class<?> klass = WithDefaultConstructorThrowingError.class;
+
+        assertThat(instantiator.instantiate(klass)).isNotNull();
+        assertThat(instantiator.instantiate(klass)).isNotNull();
+        assertThat(Instantiator.getResolvedStrategy(klass)).isNull();
+    }
+
+    @Test
+    void shouldRetryDefaultConstructorAfterFailure() {
+        final Class<?> klass = ThrowsOnFirstInvocation.class;
+
+        assertThat(instantiator.instantiate(klass)).isNotNull();
+        assertThat(Instantiator.getResolvedStrategy(klass)).isNull();
+
+        assertThat(instantiator.instantiate(klass)).isNotNull();
+        assertThat(Instantiator.getResolvedStrategy(klass))
+                .isEqualTo(NoArgumentConstructorInstantiationStrategy.class.getSimpleName());
+    }
+
+    @Test
+    void shouldNotResolveStrategyForTypeThatCannotBeInstantiated() {
+        assertThat(instantiator.instantiate(List.class)).isNull();
+        assertThat(instantiator.instantiate(List.class)).isNull();
+        assertThat(Instantiator.getResolvedStrategy(List.class)).isNull();
+    }
+
+    @Test
+    void shouldRecordMetrics() {
+        final String strategyName = UnsafeInstantiationStrategy.class.getSimpleName();
+        final long before = InstantiationMetrics.getInstanceCounts().getOrDefault(strategyName, 0L);
+
+        instantiator.instantiate(IntegerHolderWithoutDefaultConstructor.class);
+        instantiator.instantiate(IntegerHolderWithoutDefaultConstructor.class);
+
+        assertThat(InstantiationMetrics.getInstanceCounts().get(strategyName)).isGreaterThanOrEqualTo(before + 2);
+        assertThat(InstantiationMetrics.getResolvedClassCounts()).containsKey(strategyName);
+    }
+
+    private static final class ThrowsOnFirstInvocation {
+        private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        ThrowsOnFirstInvocation() {
+            if (INVOCATIONS.getAndIncrement() == 0) {
+                throw new IllegalStateException("expected error");
+            }
+        }
+    }
 }
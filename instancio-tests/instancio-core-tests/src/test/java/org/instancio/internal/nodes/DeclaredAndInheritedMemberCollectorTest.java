@@ -17,6 +17,8 @@ package org.instancio.internal.nodes;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
+import org.instancio.settings.AssignmentType;
+import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.instancio.test.support.pojo.inheritance.BaseClassSubClassInheritance;
 import org.instancio.test.support.pojo.person.Person;
@@ -82,4 +84,46 @@ class DeclaredAndInheritedMemberCollectorTest {
                 .suppress(Warning.NULL_FIELDS)
                 .verify();
     }
+
+    @Test
+    void cacheKeyEqualsAndHashCode() {
+        EqualsVerifier.forClass(DeclaredAndInheritedMemberCollector.CacheKey.class)
+                .suppress(Warning.NULL_FIELDS)
+                .verify();
+    }
+
+    @Test
+    void shouldReuseClassDataAcrossCollectorsWithSameSettings() {
+        final InternalNode personNode = node.toBuilder()
+                .targetClass(Person.class)
+                .nodeKind(NodeKind.POJO)
+                .build();
+
+        final ClassData result = collector.getClassData(personNode);
+        final ClassData other = new DeclaredAndInheritedMemberCollector(Settings.defaults())
+                .getClassData(personNode);
+
+        assertThat(other).isSameAs(result);
+    }
+
+    @Test
+    void shouldNotReuseClassDataAcrossCollectorsWithDifferentSettings() throws Exception {
+        final InternalNode personNode = node.toBuilder()
+                .targetClass(Person.class)
+                .nodeKind(NodeKind.POJO)
+                .build();
+
+        final ClassData result = collector.getClassData(personNode);
+        final ClassData other = new DeclaredAndInheritedMemberCollector(Settings.defaults()
+                .set(Keys.ASSIGNMENT_TYPE, AssignmentType.METHOD))
+                .getClassData(personNode);
+
+        assertThat(other).isNotSameAs(result);
+        assertThat(other.getMemberPairs())
+                .extracting(MemberPair::getSetter)
+                .contains(Person.class.getDeclaredMethod("setName", String.class));
+        assertThat(result.getMemberPairs())
+                .extracting(MemberPair::getSetter)
+                .containsOnlyNulls();
+    }
 }
@@ -100,6 +100,17 @@ class InternalNodeTest {
         assertThat(copy.isCyclic()).isEqualTo(node.isCyclic());
     }
 
+    @Test
+    void nodesWithSameShapeShouldShareNodeData() {
+        final InternalNode map = NODE_FACTORY.createRootNode(new TypeToken<Map<String, String>>() {}.get());
+        final InternalNode key = map.getChildren().get(0);
+        final InternalNode value = map.getChildren().get(1);
+
+        assertThat(key).isNotSameAs(value).isEqualTo(value);
+        assertThat(key.getTypeMap()).isSameAs(value.getTypeMap());
+        assertThat(key.getParent()).isSameAs(value.getParent()).isSameAs(map);
+    }
+
     @Nested
     class TargetClassTest {
 
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+import org.instancio.internal.context.ModelContext;
+import org.instancio.test.support.pojo.cyclic.BidirectionalOneToOne;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.NodeTag;
+import org.instancio.testsupport.fixtures.Fixtures;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.field;
+import static org.instancio.testsupport.utils.NodeUtils.getChildNode;
+
+@NodeTag
+class NodeTemplateCacheTest {
+
+    private static InternalNode createRootNode(final Type type) {
+        return Fixtures.nodeFactory().createRootNode(type);
+    }
+
+    @Test
+    void nodeHierarchyShouldBeTheSameWhenCreatedFromTemplates() {
+        final InternalNode first = createRootNode(Person.class);
+        final InternalNode second = createRootNode(Person.class);
+
+        assertSameHierarchy(first, second);
+    }
+
+    @Test
+    void cyclicNodesShouldBeTheSameWhenCreatedFromTemplates() {
+        final InternalNode first = createRootNode(BidirectionalOneToOne.Parent.class);
+        final InternalNode second = createRootNode(BidirectionalOneToOne.Parent.class);
+
+        assertSameHierarchy(first, second);
+        assertThat(getChildNode(getChildNode(second, "child"), "parent").isCyclic()).isTrue();
+    }
+
+    @Test
+    void shouldCreateTemplatesForNestedClasses() {
+        final ModelContext ctx = Fixtures.modelContext();
+        final NodeFactory nodeFactory = new NodeFactory(ctx);
+        final InternalNode person = nodeFactory.createRootNode(Person.class);
+        final InternalNode address = getChildNode(person, "address");
+
+        final NodeTemplateCache cache = new NodeTemplateCache(
+                ctx, new DeclaredAndInheritedMemberCollector(ctx.getSettings()), true);
+
+        final InternalNode node = address.toBuilder().build();
+        assertThat(cache.getChildren(node))
+                .isNotNull()
+                .allSatisfy(child -> assertThat(child.getParent()).isSameAs(node))
+                .containsExactlyElementsOf(address.getChildren());
+    }
+
+    @Test
+    void shouldNotUseTemplatesWhenModelHasIgnoredNodes() {
+        createRootNode(Person.class);
+
+        final ModelContext ctx = Fixtures.modelContext().toBuilder()
+                .withIgnored(field(Address::getCity))
+                .build();
+
+        final NodeTemplateCache cache = new NodeTemplateCache(
+                ctx, new DeclaredAndInheritedMemberCollector(ctx.getSettings()), true);
+
+        final InternalNode address = getChildNode(new NodeFactory(ctx).createRootNode(Person.class), "address");
+
+        assertThat(cache.getChildren(address.toBuilder().build())).isNull();
+        assertThat(getChildNode(address, "city").isIgnored()).isTrue();
+    }
+
+    private static void assertSameHierarchy(final InternalNode expected, final InternalNode actual) {
+        assertThat(actual).isNotSameAs(expected).isEqualTo(expected);
+        assertThat(actual.getNodeKind()).isEqualTo(expected.getNodeKind());
+        assertThat(actual.isCyclic()).isEqualTo(expected.isCyclic());
+        assertThat(actual.getTypeMap()).isEqualTo(expected.getTypeMap());
+        assertThat(actual.getChildren()).hasSameSizeAs(expected.getChildren());
+
+        for (int i = 0; i < expected.getChildren().size(); i++) {
+            final InternalNode child = actual.getChildren().get(i);
+            assertThat(child.getParent()).isSameAs(actual);
+            assertSameHierarchy(expected.getChildren().get(i), child);
+        }
+    }
+}
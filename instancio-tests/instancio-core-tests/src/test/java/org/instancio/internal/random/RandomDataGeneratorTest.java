@@ -15,10 +15,14 @@
  */
 package org.instancio.internal.random;
 
+import org.instancio.settings.RandomAlgorithm;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -44,4 +48,55 @@ class RandomDataGeneratorTest {
         assertThat(RandomDataGenerator.nextDouble(random, 3, 3)).isEqualTo(3);
         assertThat(RandomDataGenerator.nextDouble(random, Long.MAX_VALUE, Long.MAX_VALUE)).isEqualTo((double) Long.MAX_VALUE);
     }
+
+    @Test
+    void nextLongShouldProduceSameValuesAsRandomSubclass() {
+        final long seed = 12345;
+        final Random plain = new Random(seed);
+        // subclasses are not eligible for the allocation-free path
+        final Random subclass = new Random(seed) {};
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(RandomDataGenerator.nextLong(plain, -1000, Long.MAX_VALUE - 1))
+                    .isEqualTo(RandomDataGenerator.nextLong(subclass, -1000, Long.MAX_VALUE - 1));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void nextLongWithinBounds(final RandomAlgorithm algorithm) {
+        final RandomGenerator generator = RandomGenerators.create(algorithm, 1);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(RandomDataGenerator.nextLong(generator, -5, 5)).isBetween(-5L, 5L);
+            assertThat(RandomDataGenerator.nextDouble(generator, -5, 5)).isBetween(-5d, 5d);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void generatorsShouldBeReproducible(final RandomAlgorithm algorithm) {
+        final RandomGenerator first = RandomGenerators.create(algorithm, -1);
+        final RandomGenerator second = RandomGenerators.create(algorithm, -1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(first.nextLong()).isEqualTo(second.nextLong());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void threadSafeGeneratorShouldProduceSameValues(final RandomAlgorithm algorithm) {
+        final RandomGenerator generator = RandomGenerators.create(algorithm, 7);
+        final RandomGenerator threadSafe = RandomGenerators.createThreadSafe(algorithm, 7);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(RandomDataGenerator.nextLong(threadSafe, -5, Long.MAX_VALUE - 1))
+                    .isEqualTo(RandomDataGenerator.nextLong(generator, -5, Long.MAX_VALUE - 1));
+            assertThat(RandomDataGenerator.nextLong(threadSafe, -5, 5))
+                    .isEqualTo(RandomDataGenerator.nextLong(generator, -5, 5));
+            assertThat(RandomDataGenerator.nextDouble(threadSafe, -5, 5))
+                    .isEqualTo(RandomDataGenerator.nextDouble(generator, -5, 5));
+        }
+    }
 }
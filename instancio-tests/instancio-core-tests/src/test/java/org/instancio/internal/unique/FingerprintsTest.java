@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.unique;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FingerprintsTest {
+
+    @Test
+    void equalValuesShouldHaveEqualFingerprints() {
+        final LocalDateTime dateTime = LocalDateTime.of(2020, 1, 2, 3, 4, 5, 6);
+
+        assertThat(Fingerprints.of(new StringBuilder("foo").toString())).isEqualTo(Fingerprints.of("foo"));
+        assertThat(Fingerprints.of(TimeUnit.SECONDS)).isEqualTo(Fingerprints.of(TimeUnit.valueOf("SECONDS")));
+        assertThat(Fingerprints.of(new UUID(1, 2))).isEqualTo(Fingerprints.of(new UUID(1, 2)));
+        assertThat(Fingerprints.of(dateTime)).isEqualTo(Fingerprints.of(LocalDateTime.parse(dateTime.toString())));
+        assertThat(Fingerprints.of(null)).isEqualTo(Fingerprints.of(null));
+    }
+
+    @Test
+    void uuidFingerprintShouldUseAllBits() {
+        // UUIDs with equal hash codes
+        final UUID first = new UUID(1L, 1L);
+        final UUID second = new UUID(1L << 32, 1L << 32);
+
+        assertThat(first).hasSameHashCodeAs(second);
+        assertThat(Fingerprints.of(first)).isNotEqualTo(Fingerprints.of(second));
+    }
+
+    @Test
+    void temporalFingerprintsShouldUseAllFields() {
+        final Instant instant = Instant.ofEpochSecond(1000, 1);
+
+        assertThat(Fingerprints.of(instant)).isNotEqualTo(Fingerprints.of(instant.plusNanos(1)));
+        assertThat(Fingerprints.of(LocalDate.ofEpochDay(1))).isNotEqualTo(Fingerprints.of(LocalDate.ofEpochDay(2)));
+
+        final ZonedDateTime dateTime = ZonedDateTime.of(LocalDateTime.of(2020, 1, 1, 0, 0), ZoneId.of("UTC"));
+        assertThat(Fingerprints.of(dateTime))
+                .isNotEqualTo(Fingerprints.of(dateTime.withZoneSameLocal(ZoneId.of("Z"))));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.unique;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PermutationSequenceTest {
+
+    @CsvSource({
+            "0, 0",
+            "1, 2",
+            "-3, 3",
+            "1, 100",
+            "-1000, 1023",
+            "100, 1124"
+    })
+    @ParameterizedTest
+    void shouldGenerateEachValueInRangeExactlyOnce(final long min, final long max) {
+        final PermutationSequence sequence = PermutationSequence.of(min, max, 123L);
+        final Set<Long> results = new HashSet<>();
+
+        Long next;
+        while ((next = sequence.next()) != null) {
+            assertThat(next).isBetween(min, max);
+            assertThat(results.add(next)).isTrue();
+        }
+
+        assertThat(results).hasSize((int) (max - min + 1));
+    }
+
+    @Test
+    void shouldProduceSameOrderGivenSameKey() {
+        final PermutationSequence first = PermutationSequence.of(1, 1000, 42L);
+        final PermutationSequence second = PermutationSequence.of(1, 1000, 42L);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(first.next()).isEqualTo(second.next());
+        }
+    }
+
+    @Test
+    void shouldProduceDifferentOrderGivenDifferentKeys() {
+        final PermutationSequence first = PermutationSequence.of(1, 1000, 1L);
+        final PermutationSequence second = PermutationSequence.of(1, 1000, 2L);
+
+        int same = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (first.next().equals(second.next())) {
+                same++;
+            }
+        }
+        assertThat(same).isLessThan(100);
+    }
+
+    @Test
+    void isGeneratedShouldReturnTrueOnlyForPreviouslyGeneratedValues() {
+        final PermutationSequence sequence = PermutationSequence.of(-10, 89, 5L);
+        final Set<Long> generated = new HashSet<>();
+
+        for (int i = 0; i < 50; i++) {
+            generated.add(sequence.next());
+        }
+
+        for (long value = -20; value < 100; value++) {
+            assertThat(sequence.isGenerated(value)).isEqualTo(generated.contains(value));
+        }
+    }
+
+    @Test
+    void shouldSupportLargeRanges() {
+        final PermutationSequence sequence = PermutationSequence.of(0, Long.MAX_VALUE - 1, 7L);
+        final Set<Long> results = new HashSet<>();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(results.add(sequence.next())).isTrue();
+        }
+        assertThat(sequence.size()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldReturnNullIfRangeContainsTooManyValues() {
+        assertThat(PermutationSequence.of(Long.MIN_VALUE, Long.MAX_VALUE, 0L)).isNull();
+        assertThat(PermutationSequence.of(-1, Long.MAX_VALUE, 0L)).isNull();
+    }
+}
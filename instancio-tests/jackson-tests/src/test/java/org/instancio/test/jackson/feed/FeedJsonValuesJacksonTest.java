@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.jackson.feed;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.feed.Feed;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.FeedFormatType;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies how values are read by the streaming JSON feed loader.
+ */
+@FeatureTag(Feature.FEED)
+@ExtendWith(InstancioExtension.class)
+class FeedJsonValuesJacksonTest {
+
+    private static Feed createFeed(final String data) {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofString(data))
+                .formatType(FeedFormatType.JSON)
+                .create();
+    }
+
+    @Test
+    void scalarValues() {
+        final Feed feed = createFeed("""
+                [
+                  { "str": "foo", "int": 123, "big": 12345678901234567890, "dec": 1.5, "bool": true, "nil": null }
+                ]
+                """);
+
+        assertThat(feed.stringSpec("str").get()).isEqualTo("foo");
+        assertThat(feed.intSpec("int").get()).isEqualTo(123);
+        assertThat(feed.stringSpec("big").get()).isEqualTo("12345678901234567890");
+        assertThat(feed.doubleSpec("dec").get()).isEqualTo(1.5);
+        assertThat(feed.booleanSpec("bool").get()).isTrue();
+        assertThat(feed.stringSpec("nil").get()).isEmpty();
+    }
+
+    @Test
+    void propertyMissingFromSubsequentRecord() {
+        final Feed feed = createFeed("""
+                [
+                  { "id": 1, "value": "foo" },
+                  { "id": 2 }
+                ]
+                """);
+
+        assertThat(feed.stringSpec("value").get()).isEqualTo("foo");
+        assertThat(feed.intSpec("id").get()).isEqualTo(1);
+
+        assertThat(feed.stringSpec("value").get()).isNull();
+        assertThat(feed.intSpec("id").get()).isEqualTo(2);
+    }
+
+    @Test
+    void nestedValueShouldFailOnlyWhenAccessed() {
+        final Feed feed = createFeed("""
+                [
+                  { "id": 1, "nested": { "foo": "bar" } }
+                ]
+                """);
+
+        assertThat(feed.intSpec("id").get()).isEqualTo(1);
+        assertThatThrownBy(() -> feed.stringSpec("nested").get())
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void dataIsNotAnArray() {
+        assertThatThrownBy(() -> createFeed("{ \"id\": 1 }"))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("JSON feed data must be an array of objects");
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.example.spi;
+
+import org.instancio.Node;
+import org.instancio.generator.Generator;
+import org.instancio.generator.GeneratorSpec;
+import org.instancio.generators.Generators;
+import org.instancio.spi.InstancioServiceProvider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A provider with a cacheable generator provider for verifying
+ * the number of {@code getGenerator()} invocations.
+ */
+public class CacheableGeneratorProvider implements InstancioServiceProvider {
+
+    /**
+     * Number of times a generator was resolved for {@link CacheablePojo}.
+     * Should only be used by {@code CacheableGeneratorProviderTest}.
+     */
+    public static final AtomicInteger RESOLVE_COUNT = new AtomicInteger();
+
+    public static class CacheablePojo {
+        private final int id;
+
+        CacheablePojo(final int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+    }
+
+    @Override
+    public GeneratorProvider getGeneratorProvider() {
+        return new GeneratorProvider() {
+            @Override
+            public GeneratorSpec<?> getGenerator(final Node node, final Generators generators) {
+                if (node.getTargetClass() != CacheablePojo.class) {
+                    return null;
+                }
+                RESOLVE_COUNT.incrementAndGet();
+                return (Generator<?>) random -> new CacheablePojo(random.intRange(1, Integer.MAX_VALUE));
+            }
+
+            @Override
+            public boolean isCacheable() {
+                return true;
+            }
+        };
+    }
+}
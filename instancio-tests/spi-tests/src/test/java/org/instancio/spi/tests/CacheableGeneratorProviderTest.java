@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi.tests;
+
+import org.example.spi.CacheableGeneratorProvider;
+import org.example.spi.CacheableGeneratorProvider.CacheablePojo;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for generators resolved by a cacheable {@code GeneratorProvider}.
+ *
+ * @see CacheableGeneratorProvider
+ */
+class CacheableGeneratorProviderTest {
+
+    private static final class CacheablePojoContainer {
+        CacheablePojo holder1;
+        CacheablePojo holder2;
+    }
+
+    @Test
+    void generatorShouldBeResolvedOncePerCollectionElementNode() {
+        final int initialCount = CacheableGeneratorProvider.RESOLVE_COUNT.get();
+
+        final List<CacheablePojo> results = Instancio.ofList(CacheablePojo.class)
+                .size(100)
+                .create();
+
+        assertThat(results).hasSize(100)
+                .extracting(CacheablePojo::getId)
+                .doesNotHaveDuplicates();
+
+        assertThat(CacheableGeneratorProvider.RESOLVE_COUNT.get()).isEqualTo(initialCount + 1);
+    }
+
+    @Test
+    void generatorShouldBeResolvedOncePerField() {
+        final int initialCount = CacheableGeneratorProvider.RESOLVE_COUNT.get();
+
+        final CacheablePojoContainer result = Instancio.create(CacheablePojoContainer.class);
+
+        assertThat(result.holder1).isNotNull();
+        assertThat(result.holder2).isNotNull();
+        assertThat(CacheableGeneratorProvider.RESOLVE_COUNT.get()).isEqualTo(initialCount + 2);
+    }
+}